@@ -0,0 +1,44 @@
+// 가상 스레드 모드 비교용 부하 테스트 (k6)
+// 동시 사용자 수를 단계별로 올리며 /api/auth/verify 의 p99 를 단계별로 기록한다.
+// 같은 p99 목표(P99_MS)를 지키는 가장 높은 단계가 해당 모드의 동시 처리 한계다.
+//
+//   VIRTUAL_THREADS_ENABLED=false ./gradlew bootRun   (또는 true)
+//   k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<access token> -e P99_MS=200 loadtest/verify-concurrency.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+const P99_MS = Number(__ENV.P99_MS || 200);
+const STAGE_DURATION = __ENV.STAGE_DURATION || '30s';
+const LEVELS = (__ENV.LEVELS || '50,100,200,400,800,1600').split(',').map(Number);
+
+const stageSeconds = parseInt(STAGE_DURATION, 10);
+
+export const options = {
+    scenarios: Object.fromEntries(LEVELS.map((vus, i) => [`vus_${vus}`, {
+        executor: 'constant-vus',
+        vus,
+        duration: STAGE_DURATION,
+        startTime: `${i * (stageSeconds + 5)}s`,
+        gracefulStop: '5s',
+    }])),
+    // 단계별 p99 를 요약에 남기고, 목표를 넘긴 단계는 실패로 표시 (테스트는 끝까지 진행)
+    thresholds: Object.fromEntries(LEVELS.map((vus) => [
+        `http_req_duration{scenario:vus_${vus}}`, [{ threshold: `p(99)<${P99_MS}`, abortOnFail: false }],
+    ])),
+    summaryTrendStats: ['avg', 'p(50)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    if (!TOKEN) {
+        throw new Error('TOKEN (access token) is required');
+    }
+}
+
+export default function () {
+    const response = http.post(`${BASE_URL}/api/auth/verify`, null, {
+        headers: { Authorization: `Bearer ${TOKEN}` },
+    });
+    check(response, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
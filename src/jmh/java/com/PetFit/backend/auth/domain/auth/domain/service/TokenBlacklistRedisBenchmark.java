@@ -0,0 +1,64 @@
+package com.PetFit.backend.auth.domain.auth.domain.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 블랙리스트 Redis 확인 지연 시간 (p50/p99)
+ * sequential 은 토큰 ID 키와 원문 키를 차례로 조회하던 방식, multiGet 은 한 번의 MGET
+ * 로컬 Redis 가 필요하다: docker run -p 6379:6379 redis:7 && ./gradlew jmh -PjmhIncludes=TokenBlacklistRedisBenchmark
+ * SampleTime 모드 결과의 p0.50, p0.99 를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenBlacklistRedisBenchmark {
+
+    private static final String TOKEN_ID_KEY = "BLACKLIST:benchmark-token-id";
+    private static final String LEGACY_KEY = "BLACKLIST:benchmark.legacy.token";
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+
+    @Setup
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.opsForValue().set(LEGACY_KEY, "benchmark.legacy.token", Duration.ofHours(1));
+    }
+
+    @TearDown
+    public void tearDown() {
+        redisTemplate.delete(List.of(TOKEN_ID_KEY, LEGACY_KEY));
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public boolean sequential() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(TOKEN_ID_KEY))) {
+            return true;
+        }
+        return redisTemplate.opsForValue().get(LEGACY_KEY) != null;
+    }
+
+    @Benchmark
+    public boolean multiGet() {
+        List<String> values = redisTemplate.opsForValue().multiGet(List.of(TOKEN_ID_KEY, LEGACY_KEY));
+        return values != null && values.stream().anyMatch(value -> value != null);
+    }
+}
@@ -0,0 +1,90 @@
+package com.PetFit.backend.auth.domain.email.domain.template;
+
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import jakarta.mail.Message;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * 인증 메일 렌더링 + MIME 작성 비용 비교
+ * legacy 는 문자열 연결 + MimeMessageHelper 로 만들던 기존 방식, compiled 는 EmailTemplate + RenderedEmail
+ * 두 경우 모두 saveChanges 후 전송 형식으로 직렬화까지 측정한다.
+ * 실행: ./gradlew jmh -PjmhIncludes=EmailTemplateBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EmailTemplateBenchmark {
+
+    private static final String CODE = "123456";
+    private static final String TO = "user@example.com";
+
+    private Session session;
+    private EmailTemplate template;
+    private InternetAddress fromAddress;
+
+    @Setup
+    public void setUp() throws Exception {
+        session = Session.getInstance(new Properties());
+        template = new EmailTemplateRegistry().get(EmailTemplateType.SIGNUP, Locale.KOREA);
+        fromAddress = new InternetAddress("noreply@petfit.com", "PetFit", "UTF-8");
+    }
+
+    @Benchmark
+    public MimeMessage compiled() throws Exception {
+        MimeMessage message = new MimeMessage(session);
+        message.setFrom(fromAddress);
+        message.setRecipient(Message.RecipientType.TO, new InternetAddress(TO));
+        template.render(CODE).writeTo(message);
+        message.saveChanges();
+        message.writeTo(OutputStream.nullOutputStream());
+        return message;
+    }
+
+    @Benchmark
+    public MimeMessage legacy() throws Exception {
+        MimeMessage message = new MimeMessage(session);
+        MimeMessageHelper helper = new MimeMessageHelper(message, "utf-8");
+        helper.setFrom("noreply@petfit.com", "PetFit");
+        helper.setTo(TO);
+        helper.setSubject("[PetFit] 회원가입 이메일 인증");
+        helper.setText(legacyHtml(CODE), true);
+        message.saveChanges();
+        message.writeTo(OutputStream.nullOutputStream());
+        return message;
+    }
+
+    private static String legacyHtml(String verificationCode) {
+        return ""
+                + "<div style=\"font-family:Arial,sans-serif;color:#333;padding:20px;max-width:600px;margin:auto;\">"
+                + "  <div style=\"text-align:center;margin-bottom:20px;\">"
+                + "    <h1 style=\"margin:0;font-size:24px;color:#0064FF;\">PetFit</h1>"
+                + "  </div>"
+                + "  <p style=\"font-size:16px;\">안녕하세요!</p>"
+                + "  <p style=\"font-size:16px;\">회원가입 인증을 위해 아래 인증 코드를 입력해주세요.</p>"
+                + "  <div style=\"background:#f5f5f5;padding:20px;text-align:center;margin:20px 0;border-radius:8px;\">"
+                + "    <div style=\"font-size:32px;font-weight:bold;color:#0064FF;letter-spacing:4px;margin:10px 0;\">"
+                + verificationCode
+                + "    </div>"
+                + "  </div>"
+                + "  <p style=\"font-size:14px;color:#888;\">이 인증 코드는 5분 후 만료됩니다.</p>"
+                + "  <p style=\"font-size:14px;\">요청하지 않으셨다면 고객지원으로 문의해주세요.</p>"
+                + "  <hr style=\"border:none;border-top:1px solid #eee;margin:30px 0;\"/>"
+                + "  <div style=\"font-size:12px;color:#aaa;text-align:center;\">PetFit Inc, Seoul, Korea</div>"
+                + "</div>";
+    }
+}
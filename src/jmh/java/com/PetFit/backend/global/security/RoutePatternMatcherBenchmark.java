@@ -0,0 +1,80 @@
+package com.PetFit.backend.global.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 경로 정책 판별 비용 비교
+ * legacy 는 요청마다 모든 패턴과 요청 경로를 다시 파싱하던 기존 방식
+ * 인증이 필요한 경로(어떤 패턴에도 걸리지 않는 경우)가 가장 흔하므로 이를 기준으로 측정한다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RoutePatternMatcherBenchmark {
+
+    @Param({"13", "100", "1000"})
+    private int patternCount;
+
+    private final PathPatternParser pathPatternParser = new PathPatternParser();
+
+    private List<RoutePolicyProperties.Route> paths;
+    private RoutePatternMatcher<RoutePolicy> matcher;
+    private String requestPath;
+
+    @Setup
+    public void setUp() {
+        paths = new ArrayList<>(List.of(
+                new RoutePolicyProperties.Route("/api/auth/signup", "POST", RoutePolicy.PUBLIC),
+                new RoutePolicyProperties.Route("/api/auth/login", "POST", RoutePolicy.PUBLIC),
+                new RoutePolicyProperties.Route("/api/auth/reissue", "POST", RoutePolicy.PUBLIC),
+                new RoutePolicyProperties.Route("/api/auth/verify", "POST", RoutePolicy.PUBLIC),
+                new RoutePolicyProperties.Route("/api/email/**", "POST", RoutePolicy.PUBLIC),
+                new RoutePolicyProperties.Route("/swagger-ui.html", "GET", RoutePolicy.PUBLIC),
+                new RoutePolicyProperties.Route("/swagger-ui/index.html", "GET", RoutePolicy.PUBLIC),
+                new RoutePolicyProperties.Route("/swagger-ui/**", "GET", RoutePolicy.PUBLIC),
+                new RoutePolicyProperties.Route("/v3/api-docs", "GET", RoutePolicy.PUBLIC),
+                new RoutePolicyProperties.Route("/v3/api-docs/swagger-config", "GET", RoutePolicy.PUBLIC),
+                new RoutePolicyProperties.Route("/actuator/**", "GET", RoutePolicy.PUBLIC),
+                new RoutePolicyProperties.Route("/**", "OPTIONS", RoutePolicy.PUBLIC),
+                new RoutePolicyProperties.Route("/api/public/{id}", "GET", RoutePolicy.PUBLIC)
+        ));
+        for (int i = paths.size(); i < patternCount; i++) {
+            paths.add(new RoutePolicyProperties.Route("/public" + i + "/**", "GET", RoutePolicy.PUBLIC));
+        }
+        RoutePatternMatcher.Builder<RoutePolicy> builder = RoutePatternMatcher.builder();
+        paths.forEach(path -> builder.add(HttpMethod.valueOf(path.getMethod()), path.getPathPattern(), path.getPolicy()));
+        matcher = builder.build();
+        requestPath = "/api/pets/42/records";
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return matcher.matches(HttpMethod.GET, requestPath);
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        HttpMethod requestMethod = HttpMethod.GET;
+        return paths.stream()
+                .anyMatch(authPath ->
+                        pathPatternParser.parse(authPath.getPathPattern())
+                                .matches(PathContainer.parsePath(requestPath))
+                                && requestMethod.equals(HttpMethod.valueOf(authPath.getMethod()))
+                );
+    }
+}
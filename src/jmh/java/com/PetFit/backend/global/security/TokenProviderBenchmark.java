@@ -0,0 +1,77 @@
+package com.PetFit.backend.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * 토큰 발급/검증 비용 비교
+ * legacy* 는 호출마다 키와 파서를 새로 만들던 기존 방식, 나머지는 TokenProvider 의 현재 구현
+ * 실행: ./gradlew jmh (gc 프로파일러로 alloc/op 함께 출력)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jmh-purposes-only-very-long-key";
+
+    private TokenProvider tokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setKey(SECRET);
+        jwtProperties.setAccessTokenExpirationMs(900000L);
+        jwtProperties.setRefreshTokenExpirationMs(1209600000L);
+        jwtProperties.setVerificationExpirationMs(900000L);
+
+        tokenProvider = new TokenProvider(jwtProperties);
+        accessToken = tokenProvider.createAccessToken("benchmark-user");
+    }
+
+    @Benchmark
+    public String issue() {
+        return tokenProvider.createAccessToken("benchmark-user");
+    }
+
+    @Benchmark
+    public Object verify() {
+        return tokenProvider.verify(accessToken);
+    }
+
+    @Benchmark
+    public String legacyIssue() {
+        return Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 900000L))
+                .setSubject("AccessToken")
+                .claim("id", "benchmark-user")
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public Claims legacyVerify() {
+        return Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(accessToken)
+                .getBody();
+    }
+}
@@ -0,0 +1,9 @@
+package com.PetFit.backend.auth.domain.auth.application.dto.response;
+
+/**
+ * 가입 가능 여부 (요청하지 않은 항목은 null)
+ */
+public record AvailabilityResponse(
+        Boolean userIdAvailable,
+        Boolean emailAvailable
+) {}
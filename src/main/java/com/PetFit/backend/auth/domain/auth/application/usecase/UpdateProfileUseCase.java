@@ -21,7 +21,7 @@ public class UpdateProfileUseCase {
     private final PasswordEncoder passwordEncoder;
 
     public ProfileResponse update(String userId, UpdateProfileRequest request) {
-        User user = userService.findUser(userId);
+        User user = userService.findUserEntity(userId);
 
         String encodedNewPassword = null;
 
@@ -35,6 +35,7 @@ public class UpdateProfileUseCase {
         }
 
         user.updateProfile(request.name(), request.birth(), encodedNewPassword);
+        userService.evictUser(user.getUserId());
         return ProfileResponse.create(user);
     }
 }
\ No newline at end of file
@@ -1,32 +1,34 @@
 package com.PetFit.backend.auth.domain.auth.application.usecase;
 
-import java.time.Duration;
+import java.util.Optional;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.PetFit.backend.auth.domain.auth.application.dto.request.LoginRequest;
 import com.PetFit.backend.auth.domain.auth.application.dto.request.SignUpRequest;
 import com.PetFit.backend.auth.domain.auth.application.dto.request.TokenReissueRequest;
+import com.PetFit.backend.auth.domain.auth.application.dto.response.AvailabilityResponse;
 import com.PetFit.backend.auth.domain.auth.application.dto.response.LoginResponse;
 import com.PetFit.backend.auth.domain.auth.application.dto.response.TokenReissueResponse;
 import com.PetFit.backend.auth.domain.auth.domain.entity.User;
+import com.PetFit.backend.auth.domain.auth.domain.service.PasswordRehashService;
 import com.PetFit.backend.auth.domain.auth.domain.service.RefreshTokenService;
 import com.PetFit.backend.auth.domain.auth.domain.service.TokenBlacklistService;
 import com.PetFit.backend.auth.domain.auth.domain.service.TokenWhitelistService;
 import com.PetFit.backend.auth.domain.auth.domain.service.UserService;
 import com.PetFit.backend.auth.domain.email.domain.service.EmailVerificationService;
 import com.PetFit.backend.global.exception.RestApiException;
-import static com.PetFit.backend.global.exception.code.status.AuthErrorStatus.ALREADY_REGISTERED_EMAIL;
-import static com.PetFit.backend.global.exception.code.status.AuthErrorStatus.ALREADY_REGISTERED_USER_ID;
 import static com.PetFit.backend.global.exception.code.status.AuthErrorStatus.EMPTY_JWT;
-import static com.PetFit.backend.global.exception.code.status.AuthErrorStatus.EXPIRED_REFRESH_TOKEN;
 import static com.PetFit.backend.global.exception.code.status.AuthErrorStatus.INVALID_ACCESS_TOKEN;
 import static com.PetFit.backend.global.exception.code.status.AuthErrorStatus.INVALID_REFRESH_TOKEN;
 import static com.PetFit.backend.global.exception.code.status.AuthErrorStatus.LOGIN_ERROR;
 import static com.PetFit.backend.global.exception.code.status.EmailErrorStatus.EMAIL_NOT_VERIFIED;
+import static com.PetFit.backend.global.exception.code.status.GlobalErrorStatus._BAD_REQUEST;
 import com.PetFit.backend.global.security.TokenProvider;
+import com.PetFit.backend.global.security.VerifiedToken;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -43,49 +45,77 @@ public class UserAuthUseCase {
     private final TokenWhitelistService tokenWhitelistService;
     private final TokenBlacklistService tokenBlacklistService;
     private final EmailVerificationService emailVerificationService;
+    private final PasswordRehashService passwordRehashService;
 
+    /**
+     * 회원가입 (Redis GETDEL 1회 + INSERT 1회)
+     * 중복 아이디/이메일은 미리 조회하지 않고 INSERT 의 유니크 제약 위반으로 판단한다.
+     * 제약 위반 후 같은 트랜잭션에서는 조회할 수 없으므로 트랜잭션 밖에서 실행하고 저장은 자체 트랜잭션으로 커밋한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void signUp(SignUpRequest request) {
-        // 이메일 인증 상태 확인
-        if (!emailVerificationService.isEmailVerified(request.email())) {
+        // 이메일 인증 상태 확인과 제거를 한 번에 (한 번만 사용 가능)
+        if (!emailVerificationService.consumeEmailVerification(request.email())) {
             throw new RestApiException(EMAIL_NOT_VERIFIED);
         }
-        
-        if (userService.isAlreadyRegistered(request.email())) {
-            throw new RestApiException(ALREADY_REGISTERED_EMAIL);
+
+        try {
+            userService.save(request);
+        } catch (RuntimeException e) {
+            // 가입하지 못했으면 다시 시도할 수 있도록 인증 상태를 되돌린다
+            emailVerificationService.restoreEmailVerification(request.email());
+            throw e;
         }
-        if (userService.isUserIdAlreadyRegistered(request.userId())) {
-            throw new RestApiException(ALREADY_REGISTERED_USER_ID);
+    }
+
+    /**
+     * 회원가입 폼의 아이디/이메일 사용 가능 여부
+     * 존재 인덱스가 "없음" 으로 답하면 DB 를 조회하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public AvailabilityResponse checkAvailability(String userId, String email) {
+        boolean hasUserId = userId != null && !userId.isBlank();
+        boolean hasEmail = email != null && !email.isBlank();
+        if (!hasUserId && !hasEmail) {
+            throw new RestApiException(_BAD_REQUEST);
         }
-        
-        // 회원가입 처리
-        userService.save(request);
-        
-        // 이메일 인증 상태 제거 (한 번만 사용 가능)
-        emailVerificationService.removeEmailVerification(request.email());
+        return new AvailabilityResponse(
+                hasUserId ? !userService.isUserIdAlreadyRegistered(userId) : null,
+                hasEmail ? !userService.isAlreadyRegistered(email) : null);
     }
 
+    /**
+     * 로그인
+     * 비밀번호 검증(BCrypt)은 벌크헤드 대기와 해시 동안 DB 연결을 잡지 않도록 트랜잭션 밖에서 실행한다.
+     * 사용자 조회는 리포지토리의 짧은 읽기 트랜잭션으로 끝난다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse login(LoginRequest request) {
-        User user = userService.findByUserId(request.userId());
+        User user = userService.findUserEntity(request.userId());
         if (!passwordEncoder.matches(request.password(), user.getPassword())) {
             throw new RestApiException(LOGIN_ERROR);
         }
+        // 해시 강도가 낮아졌다면 백그라운드에서 다시 해시
+        passwordRehashService.rehashIfNeeded(user.getUserId(), user.getPassword(), request.password());
         String access = tokenProvider.createAccessToken(user.getUserId());
-        String refresh = tokenProvider.createRefreshToken(user.getUserId());
-        Duration ttl = tokenProvider.getRemainingDuration(refresh).orElse(Duration.ofDays(14));
-        refreshTokenService.saveRefreshToken(user.getUserId(), refresh, ttl);
+        // 로그인마다 새 계보를 시작한다
+        String family = tokenProvider.newFamilyId();
+        String refresh = tokenProvider.createRefreshToken(user.getUserId(), family);
+        refreshTokenService.saveRefreshToken(user.getUserId(), refresh, family, tokenProvider.getRefreshTokenLifetime());
         return new LoginResponse(access, refresh);
     }
 
     public void logout(HttpServletRequest request) {
         String accessToken = tokenProvider.getToken(request)
                 .orElseThrow(() -> new RestApiException(EMPTY_JWT));
-        String userId = tokenProvider.getId(accessToken)
+        // 필터에서 검증한 토큰 재사용
+        VerifiedToken verifiedToken = tokenProvider.getVerifiedToken(request)
                 .orElseThrow(() -> new RestApiException(INVALID_ACCESS_TOKEN));
-        Duration expiration = tokenProvider.getRemainingDuration(accessToken)
+        String userId = Optional.ofNullable(verifiedToken.id())
                 .orElseThrow(() -> new RestApiException(INVALID_ACCESS_TOKEN));
         refreshTokenService.deleteRefreshToken(userId);
         tokenWhitelistService.deleteWhitelistToken(accessToken);
-        tokenBlacklistService.blacklist(accessToken, expiration);
+        tokenBlacklistService.blacklist(verifiedToken);
     }
 
     /**
@@ -97,41 +127,32 @@ public class UserAuthUseCase {
         refreshTokenService.deleteRefreshToken(userId);
     }
 
+    /**
+     * 토큰 재발급 (JWT 파싱 1회 + Redis 스크립트 1회)
+     * 저장된 현재 토큰과 비교해 교체하는 일을 한 번에 하므로 같은 토큰으로 동시에 재발급해도 하나만 성공한다.
+     * 이미 교체된 토큰이 다시 오면 계보를 폐기하므로 탈취한 쪽과 원래 사용자 모두 다시 로그인해야 한다.
+     * 교체된 리프레시 토큰은 API 인증에 쓸 수 없으므로 (액세스 토큰만 허용) 블랙리스트에 올리지 않는다.
+     */
     public TokenReissueResponse reissueToken(TokenReissueRequest request) {
-        String refreshToken = request.refreshToken();
-
-        // 1. refresh token 유효성 검증
-        if (!tokenProvider.validateToken(refreshToken)) {
-            throw new RestApiException(INVALID_REFRESH_TOKEN);
-        }
-
-        // 2. refresh token에서 userId 추출
-        String userId = tokenProvider.getId(refreshToken)
+        // 1. refresh token 유효성 검증 (서명, 만료, 종류)
+        VerifiedToken verifiedRefreshToken = tokenProvider.verify(request.refreshToken())
+                .filter(VerifiedToken::isRefreshToken)
+                .orElseThrow(() -> new RestApiException(INVALID_REFRESH_TOKEN));
+        String userId = Optional.ofNullable(verifiedRefreshToken.id())
                 .orElseThrow(() -> new RestApiException(INVALID_REFRESH_TOKEN));
 
-        // 3. Redis에 저장된 refresh token과 일치하는지 확인
-        String savedRefreshToken = refreshTokenService.findByUserId(userId);
-        if (savedRefreshToken == null || !savedRefreshToken.equals(refreshToken)) {
-            throw new RestApiException(INVALID_REFRESH_TOKEN);
-        }
-
-        // 4. refresh token 만료 시간 확인
-        Duration remainingTime = tokenProvider.getRemainingDuration(refreshToken)
-                .orElseThrow(() -> new RestApiException(EXPIRED_REFRESH_TOKEN));
-
-        // 5. 새로운 access token 발급
+        // 2. 새 토큰 발급 (계보 도입 전 토큰이면 새 계보를 시작)
+        String family = Optional.ofNullable(verifiedRefreshToken.family())
+                .orElseGet(tokenProvider::newFamilyId);
         String newAccessToken = tokenProvider.createAccessToken(userId);
+        String newRefreshToken = tokenProvider.createRefreshToken(userId, family);
 
-        // 6. 새로운 refresh token 발급 (기존 것 교체)
-        String newRefreshToken = tokenProvider.createRefreshToken(userId);
-        Duration newTtl = tokenProvider.getRemainingDuration(newRefreshToken).orElse(Duration.ofDays(14));
-
-        // 7. 기존 refresh token 삭제하고 새로운 것 저장
-        refreshTokenService.deleteRefreshToken(userId);
-        refreshTokenService.saveRefreshToken(userId, newRefreshToken, newTtl);
-
-        // 8. 기존 refresh token을 블랙리스트에 추가 (보안 강화)
-        tokenBlacklistService.blacklist(refreshToken, remainingTime);
+        // 3. 저장된 현재 토큰과 비교해 교체
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(
+                verifiedRefreshToken, newRefreshToken, family, tokenProvider.getRefreshTokenLifetime());
+        if (rotation != RefreshTokenService.Rotation.SUCCESS) {
+            throw new RestApiException(INVALID_REFRESH_TOKEN);
+        }
 
         return new TokenReissueResponse(
                 newAccessToken,
@@ -147,26 +168,26 @@ public class UserAuthUseCase {
      */
     @Transactional(readOnly = true)
     public String verifyToken(HttpServletRequest request) {
-        String accessToken = tokenProvider.getToken(request)
-                .orElseThrow(() -> new RestApiException(EMPTY_JWT));
+        if (tokenProvider.getToken(request).isEmpty()) {
+            throw new RestApiException(EMPTY_JWT);
+        }
 
         // 1. 토큰 유효성 검증
-        if (!tokenProvider.validateToken(accessToken)) {
-            throw new RestApiException(INVALID_ACCESS_TOKEN);
-        }
+        VerifiedToken verifiedToken = tokenProvider.getVerifiedToken(request)
+                .orElseThrow(() -> new RestApiException(INVALID_ACCESS_TOKEN));
 
         // 2. Access Token인지 확인
-        if (!tokenProvider.isAccessToken(accessToken)) {
+        if (!verifiedToken.isAccessToken()) {
             throw new RestApiException(INVALID_ACCESS_TOKEN);
         }
 
         // 3. 블랙리스트에 있는지 확인
-        if (tokenBlacklistService.isBlacklistToken(accessToken)) {
+        if (tokenBlacklistService.isBlacklistToken(verifiedToken)) {
             throw new RestApiException(INVALID_ACCESS_TOKEN);
         }
 
         // 4. 사용자 ID 추출 및 사용자 존재 여부 확인
-        String userId = tokenProvider.getId(accessToken)
+        String userId = Optional.ofNullable(verifiedToken.id())
                 .orElseThrow(() -> new RestApiException(INVALID_ACCESS_TOKEN));
         
         // 사용자가 존재하는지 확인 (탈퇴한 사용자의 토큰은 무효)
@@ -1,11 +1,14 @@
 package com.PetFit.backend.auth.domain.auth.domain.entity;
 
+import org.springframework.data.domain.Persistable;
+
 import com.PetFit.backend.global.common.BaseEntity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,20 +16,25 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-public class User extends BaseEntity {
+public class User extends BaseEntity implements Persistable<String> {
+
+    // 가입 시 중복 이메일을 제약 위반으로 구분하기 위한 이름
+    public static final String EMAIL_CONSTRAINT = "uk_users_email";
 
     @Id
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String userId;
 
     @Column(nullable = false)
     private String name;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
@@ -42,4 +50,10 @@ public class User extends BaseEntity {
             this.password = encodedNewPassword;
         }
     }
-}
\ No newline at end of file
+
+    // userId 를 직접 지정하므로 새 엔티티 여부는 BaseEntity 가 판단
+    @Override
+    public String getId() {
+        return userId;
+    }
+}
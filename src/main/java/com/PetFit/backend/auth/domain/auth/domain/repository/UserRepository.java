@@ -1,24 +1,45 @@
 package com.PetFit.backend.auth.domain.auth.domain.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.PetFit.backend.auth.domain.auth.domain.entity.User;
 
 public interface UserRepository extends JpaRepository<User, String> {
 
-    @Query("select count(u) > 0 from User u where u.email = :email")
-    Boolean existsByEmail(@Param("email") String email);
+    // 파생 exists 쿼리는 첫 행에서 멈춘다 (limit 1)
+    boolean existsByEmail(String email);
 
     @Query("select u from User u where u.email = :email")
     Optional<User> findByEmail(@Param("email") String email);
 
-    @Query("select count(u) > 0 from User u where u.userId = :userId")
-    Boolean existsByUserId(@Param("userId") String userId);
+    boolean existsByUserId(String userId);
 
     @Query("select u from User u where u.userId = :userId")
     Optional<User> findByUserId(@Param("userId") String userId);
+
+    // 존재 인덱스 적재용 키셋 페이지 (userId 순)
+    @Query("select u.userId as userId, u.email as email from User u where u.userId > :after order by u.userId")
+    List<UserIdentity> findIdentitiesAfter(@Param("after") String after, Pageable pageable);
+
+    // 그 사이 비밀번호가 바뀌었다면 덮어쓰지 않는다
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.password = :newPassword where u.userId = :userId and u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") String userId,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
+    interface UserIdentity {
+        String getUserId();
+
+        String getEmail();
+    }
 }
\ No newline at end of file
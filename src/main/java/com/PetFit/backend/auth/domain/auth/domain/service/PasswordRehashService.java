@@ -0,0 +1,98 @@
+package com.PetFit.backend.auth.domain.auth.domain.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.PetFit.backend.auth.domain.auth.domain.repository.UserRepository;
+import com.PetFit.backend.global.config.properties.PasswordHashingProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 시 약한 비밀번호 해시 재해시
+ * 평문 비밀번호를 알 수 있는 시점은 로그인뿐이므로, 해시 강도(또는 형식)가 현재 설정보다 낮으면
+ * 응답을 늦추지 않도록 백그라운드에서 새로 해시해 저장한다.
+ * 재해시는 기회가 될 때 하는 작업이라 대기열이 차면 버린다. (다음 로그인에서 다시 시도)
+ */
+@Slf4j
+@Service
+public class PasswordRehashService implements DisposableBean {
+
+    private static final int QUEUE_CAPACITY = 256;
+
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final PasswordHashingProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Counter rehashedCounter;
+    private final Counter skippedCounter;
+
+    public PasswordRehashService(PasswordEncoder passwordEncoder,
+                                 UserRepository userRepository,
+                                 UserService userService,
+                                 PasswordHashingProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.userService = userService;
+        this.properties = properties;
+        // 해시 자체는 PasswordEncoder 격벽에서 실행되므로 여기서는 스레드 하나로 충분하다
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-rehash");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.rehashedCounter = Counter.builder("password.rehash").tag("outcome", "rehashed").register(meterRegistry);
+        this.skippedCounter = Counter.builder("password.rehash").tag("outcome", "skipped").register(meterRegistry);
+    }
+
+    /**
+     * @param userId 사용자 ID
+     * @param currentHash 로그인에 사용한 저장된 해시
+     * @param rawPassword 검증이 끝난 평문 비밀번호
+     */
+    public void rehashIfNeeded(String userId, String currentHash, String rawPassword) {
+        if (!properties.isRehashOnLogin() || !passwordEncoder.upgradeEncoding(currentHash)) {
+            return;
+        }
+        try {
+            executor.execute(() -> rehash(userId, currentHash, rawPassword));
+        } catch (RejectedExecutionException e) {
+            skippedCounter.increment();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void rehash(String userId, String currentHash, String rawPassword) {
+        try {
+            String newHash = passwordEncoder.encode(rawPassword);
+            int updated = userRepository.updatePasswordIfUnchanged(userId, currentHash, newHash);
+            if (updated > 0) {
+                userService.evictUser(userId);
+                rehashedCounter.increment();
+                log.info("[PasswordRehash] upgraded: {}", userId);
+            } else {
+                skippedCounter.increment();
+            }
+        } catch (Exception e) {
+            // 격벽 포화 등으로 실패하면 다음 로그인에서 다시 시도
+            skippedCounter.increment();
+            log.warn("[PasswordRehash] failed for {}: {}", userId, e.getMessage());
+        }
+    }
+}
@@ -1,34 +1,99 @@
 package com.PetFit.backend.auth.domain.auth.domain.service;
 
-import lombok.RequiredArgsConstructor;
+import java.time.Duration;
+import java.util.List;
+
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
-import java.util.Objects;
+import com.PetFit.backend.global.config.properties.RefreshTokenProperties;
+import com.PetFit.backend.global.security.VerifiedToken;
+import com.PetFit.backend.global.util.TokenDigest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 사용자별 리프레시 토큰 저장소
+ * 토큰 원문 대신 현재 토큰의 다이제스트와 계보 ID 만 해시 하나에 저장한다.
+ * 재발급은 스크립트 한 번(왕복 1회)으로 비교와 교체를 함께 하므로 동시에 보낸 재발급 중 하나만 성공한다.
+ * 이미 교체된 토큰이 다시 오면 탈취로 보고 계보를 폐기해, 그 계보의 토큰으로는 더 이상 재발급할 수 없다.
+ * 계보 도입 전에 원문 키로 저장된 토큰은 첫 재발급 때 계보로 옮긴다.
+ * 스크립트가 두 키를 함께 다루므로 계보 키의 해시 태그를 원문 키 이름 전체로 잡아 Redis Cluster 에서도 같은 슬롯에 둔다.
+ * (아이디에 중괄호가 들어가면 원문 키의 슬롯이 달라지므로, 그런 아이디는 단일 노드 Redis 에서만 계보로 옮길 수 있다)
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
     private static final String refreshTokenPrefix = "REFRESH_TOKEN:";
+    private static final String familyPrefix = "REFRESH_TOKEN_FAMILY:";
+    private static final String METRIC_NAME = "refresh.token.rotations";
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshTokenProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final RedisScript<Long> refreshTokenSaveScript;
+    private final RedisScript<Long> refreshTokenRotateScript;
 
-    public void saveRefreshToken(String userId, String refreshToken, Duration timeout) {
-        redisTemplate.opsForValue().set(refreshTokenPrefix + userId, refreshToken, timeout);
+    /**
+     * 새 계보 저장 (이전 계보는 폐기)
+     * @param family 토큰에 담은 계보 ID
+     */
+    public void saveRefreshToken(String userId, String refreshToken, String family, Duration timeout) {
+        redisTemplate.execute(refreshTokenSaveScript, keys(userId),
+                TokenDigest.of(refreshToken), family, String.valueOf(timeout.toMillis()));
+    }
+
+    /**
+     * 제시한 토큰이 현재 토큰이면 새 토큰으로 교체
+     * @param presented 검증을 마친 리프레시 토큰
+     * @param newRefreshToken 새 토큰 (presented 의 계보, 계보 도입 전 토큰이면 새 계보)
+     * @param newFamily 새 토큰의 계보 ID
+     */
+    public Rotation rotate(VerifiedToken presented, String newRefreshToken, String newFamily, Duration timeout) {
+        boolean legacy = presented.family() == null;
+        Long result = redisTemplate.execute(refreshTokenRotateScript, keys(presented.id()),
+                TokenDigest.of(presented.token()),
+                legacy ? "" : presented.family(),
+                TokenDigest.of(newRefreshToken),
+                newFamily,
+                String.valueOf(properties.getReuseGrace().toMillis()),
+                String.valueOf(timeout.toMillis()),
+                legacy ? presented.token() : "");
+        Rotation rotation = Rotation.of(result);
+        if (rotation == Rotation.REUSE_DETECTED) {
+            log.warn("[RefreshToken] reuse detected, family revoked: user {}", presented.id());
+        }
+        meterRegistry.counter(METRIC_NAME, "result", rotation.name().toLowerCase()).increment();
+        return rotation;
     }
 
     public void deleteRefreshToken(String userId) {
-        redisTemplate.delete(refreshTokenPrefix + userId);
+        redisTemplate.delete(keys(userId));
     }
 
-    public String findByUserId(String userId) {
-        return redisTemplate.opsForValue().get(refreshTokenPrefix + userId);
+    private static List<String> keys(String userId) {
+        String legacyKey = refreshTokenPrefix + userId;
+        // REFRESH_TOKEN_FAMILY:{REFRESH_TOKEN:아이디} 는 원문 키와 같은 슬롯
+        return List.of(familyPrefix + "{" + legacyKey + "}", legacyKey);
     }
-    public boolean isExist(String token, String userId) {
-        String savedToken = redisTemplate.opsForValue().get(refreshTokenPrefix + userId);
-        boolean exists = savedToken != null && Objects.equals(savedToken, token);
 
-        return exists;
+    public enum Rotation {
+        SUCCESS,
+        // 이미 교체되었거나 (동시 재발급) 로그아웃/재로그인으로 저장되지 않은 토큰
+        STALE,
+        // 교체된 토큰의 재사용, 계보를 폐기했다
+        REUSE_DETECTED;
+
+        private static Rotation of(Long result) {
+            if (result == null) {
+                throw new IllegalStateException("refresh token rotation returned no result");
+            }
+            return values()[result.intValue()];
+        }
     }
-}
\ No newline at end of file
+}
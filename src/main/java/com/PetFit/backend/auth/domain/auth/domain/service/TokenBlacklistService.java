@@ -1,30 +1,304 @@
 package com.PetFit.backend.auth.domain.auth.domain.service;
 
-import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
-import java.util.Objects;
+import com.PetFit.backend.global.config.properties.TokenBlacklistProperties;
+import com.PetFit.backend.global.security.JwtProperties;
+import com.PetFit.backend.global.security.VerifiedToken;
+import com.PetFit.backend.global.util.BackgroundLoader;
+import com.PetFit.backend.global.util.TimeBucketedBloomFilter;
+import com.PetFit.backend.global.util.TokenDigest;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토큰 블랙리스트
+ * Redis 를 원본으로 두고, 각 노드는 토큰 만료 시각 기준으로 버킷을 나눈 Bloom filter 로 조회한다.
+ * 필터가 "없음" 이라고 답하면 Redis 조회 없이 끝나고, "있을 수 있음" 일 때만 Redis 를 확인한다.
+ * 블랙리스트 추가는 Redis 채널로 전파되어 모든 노드의 필터에 반영된다.
+ * 키는 토큰 원문이 아닌 토큰 ID(jti, 이전 토큰은 다이제스트)이고 값은 표시용 "1" 만 저장한다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
-public class TokenBlacklistService {
-    private static final Logger log = LoggerFactory.getLogger(TokenBlacklistService.class);
-    private final RedisTemplate<String, String> redisTemplate;
+public class TokenBlacklistService implements MessageListener {
+
     private final static String blacklistPrefix = "BLACKLIST:";
+    // BLACKLIST:* 스캔에 걸리지 않는 이름
+    private final static String MIGRATION_MARKER_KEY = "BLACKLIST_MIGRATION:token-id";
+    private final static String MESSAGE_DELIMITER = ":";
+    private final static String BLACKLISTED = "1";
+    private final static String METRIC_PREFIX = "token.blacklist.filter";
+    private final static int SCAN_BATCH_SIZE = 1000;
 
-    public boolean isBlacklistToken(String token) {
+    private static final int UNSYNCED = 0;
+    private static final int SYNCING = 1;
+    private static final int SYNCED = 2;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final TokenBlacklistProperties properties;
+    private final BackgroundLoader backgroundLoader;
+    private final TimeBucketedBloomFilter filter;
+    private final Counter falsePositiveCounter;
+    private final Timer redisLookupTimer;
+    private final AtomicInteger syncState = new AtomicInteger(UNSYNCED);
 
-        String savedToken = redisTemplate.opsForValue().get(blacklistPrefix + token);
-        boolean blacklisted = savedToken != null && Objects.equals(savedToken, token);
+    public TokenBlacklistService(RedisTemplate<String, String> redisTemplate,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 TokenBlacklistProperties properties,
+                                 JwtProperties jwtProperties,
+                                 BackgroundLoader backgroundLoader,
+                                 MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.properties = properties;
+        this.backgroundLoader = backgroundLoader;
+
+        // 블랙리스트에 오르는 토큰 중 가장 긴 유효 기간을 덮도록 버킷을 나눈다
+        Duration maxLifetime = Duration.ofMillis(Math.max(
+                jwtProperties.getAccessTokenExpirationMs(), jwtProperties.getRefreshTokenExpirationMs()));
+        this.filter = new TimeBucketedBloomFilter(
+                properties.getExpectedInsertions(),
+                properties.getFalsePositiveRate(),
+                maxLifetime,
+                properties.getBucketCount());
+
+        Gauge.builder(METRIC_PREFIX + ".bits", filter, TimeBucketedBloomFilter::bitSize)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".hash.functions", filter, TimeBucketedBloomFilter::hashFunctions)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".expected.insertions", filter, TimeBucketedBloomFilter::expectedInsertions)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".elements", filter, TimeBucketedBloomFilter::approximateElementCount)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".expected.fpp", filter, TimeBucketedBloomFilter::expectedFalsePositiveRate)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".estimated.fpp", filter, TimeBucketedBloomFilter::estimatedFalsePositiveRate)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".synced", syncState, state -> state.get() == SYNCED ? 1 : 0)
+                .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder(METRIC_PREFIX + ".false.positives")
+                .register(meterRegistry);
+        this.redisLookupTimer = Timer.builder("token.blacklist.redis.lookup")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(properties.getChannel()));
+    }
+
+    public boolean isBlacklistToken(VerifiedToken verifiedToken) {
+        String tokenId = verifiedToken.tokenId();
+        if (filter.mightContain(tokenId)) {
+            // 있을 수 있음 -> Redis 로 확정
+            boolean blacklisted = isBlacklistedInRedis(verifiedToken, tokenId);
+            if (!blacklisted) {
+                falsePositiveCounter.increment();
+            }
+            return blacklisted;
+        }
+        if (isFilterReady() || !properties.isFallbackToRedis()) {
+            return false;
+        }
+        // 구독이 끊겼거나 아직 적재 전이면 Redis 직접 조회
+        return isBlacklistedInRedis(verifiedToken, tokenId);
+    }
+
+    public void blacklist(VerifiedToken verifiedToken) {
+        Duration expiration = verifiedToken.getRemainingDuration();
+        if (expiration.isNegative() || expiration.isZero()) {
+            return;
+        }
+        String tokenId = verifiedToken.tokenId();
+        redisTemplate.opsForValue().set(blacklistPrefix + tokenId, BLACKLISTED, expiration);
+
+        long expiresAt = verifiedToken.expiration().getTime();
+        filter.put(tokenId, expiresAt);
+        redisTemplate.convertAndSend(properties.getChannel(), expiresAt + MESSAGE_DELIMITER + tokenId);
+    }
+
+    /**
+     * 다른 노드에서 발행한 블랙리스트 이벤트 수신 ("만료시각:토큰ID")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiter = body.indexOf(MESSAGE_DELIMITER);
+        if (delimiter < 0) {
+            log.warn("[TokenBlacklist] malformed message");
+            return;
+        }
+        try {
+            String tokenId = body.substring(delimiter + 1);
+            // 배포 중 이전 버전 노드가 보낸 토큰 원문은 다이제스트로 맞춘다
+            if (isLegacyKey(tokenId)) {
+                tokenId = TokenDigest.of(tokenId);
+            }
+            filter.put(tokenId, Long.parseLong(body.substring(0, delimiter)));
+        } catch (NumberFormatException e) {
+            log.warn("[TokenBlacklist] malformed message");
+        }
+    }
+
+    private boolean isBlacklistedInRedis(VerifiedToken verifiedToken, String tokenId) {
+        // jti 도입 전 토큰은 마이그레이션 전까지 원문 키로 남아 있을 수 있으므로 두 키를 한 번에 조회
+        List<String> keys = verifiedToken.jti() == null
+                ? List.of(blacklistPrefix + tokenId, blacklistPrefix + verifiedToken.token())
+                : List.of(blacklistPrefix + tokenId);
+        List<String> values = redisLookupTimer.record(() -> redisTemplate.opsForValue().multiGet(keys));
+        return values != null && values.stream().anyMatch(Objects::nonNull);
+    }
+
+    /**
+     * 토큰 원문을 키로 쓰던 이전 블랙리스트를 토큰 ID 키로 옮긴다. (남은 TTL 유지)
+     * 이전 토큰에는 jti 가 없으므로 새 키는 원문의 다이제스트이며, 토큰을 다시 파싱할 필요가 없다.
+     * token.blacklist.migrate-legacy-keys=true 일 때 기동 시 실행하며, 완료 표시 키를 SET NX 로 선점한 노드 하나만 스캔한다.
+     * 실패하면 표시를 지워 다음 기동에서 다시 시도한다. (이전 버전 노드가 모두 내려간 뒤 켜야 한다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyKeys() {
+        if (!properties.isMigrateLegacyKeys()) {
+            return;
+        }
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(MIGRATION_MARKER_KEY, BLACKLISTED))) {
+            log.info("[TokenBlacklist] legacy key migration already done");
+            return;
+        }
+        try {
+            log.info("[TokenBlacklist] legacy keys migrated: {}", migrateLegacyKeysOnce());
+        } catch (RuntimeException e) {
+            redisTemplate.delete(MIGRATION_MARKER_KEY);
+            throw e;
+        }
+    }
+
+    private int migrateLegacyKeysOnce() {
+        int migrated = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(blacklistScanOptions())) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                String suffix = key.substring(blacklistPrefix.length());
+                if (!isLegacyKey(suffix)) {
+                    continue;
+                }
+                Long ttlMillis = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                if (ttlMillis != null && ttlMillis > 0) {
+                    redisTemplate.opsForValue().set(
+                            blacklistPrefix + TokenDigest.of(suffix), BLACKLISTED, Duration.ofMillis(ttlMillis));
+                }
+                redisTemplate.delete(key);
+                migrated++;
+            }
+        }
+        return migrated;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        isFilterReady();
+    }
+
+    /**
+     * 구독 중이고 Redis 의 블랙리스트를 모두 적재했을 때만 필터의 "없음" 을 신뢰한다.
+     * 구독이 끊기면 그 사이 이벤트를 놓칠 수 있으므로 재연결 후 다시 적재한다.
+     * 적재는 백그라운드에서 하고 그동안은 Redis 로 확인한다.
+     */
+    private boolean isFilterReady() {
+        if (!listenerContainer.isListening()) {
+            syncState.compareAndSet(SYNCED, UNSYNCED);
+            return false;
+        }
+        if (syncState.get() == SYNCED) {
+            return true;
+        }
+        if (syncState.compareAndSet(UNSYNCED, SYNCING)
+                && !backgroundLoader.submit("token blacklist filter", this::load)) {
+            syncState.set(UNSYNCED);
+        }
+        return false;
+    }
+
+    private void load() {
+        try {
+            loadFromRedis();
+            // 종료 중 중단되어 일부만 적재된 필터는 신뢰하지 않는다
+            syncState.set(Thread.currentThread().isInterrupted() ? UNSYNCED : SYNCED);
+        } catch (Exception e) {
+            log.warn("[TokenBlacklist] filter load failed: {}", e.getMessage());
+            syncState.set(UNSYNCED);
+        }
+    }
+
+    private void loadFromRedis() {
+        int loaded = 0;
+        List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+        try (Cursor<String> cursor = redisTemplate.scan(blacklistScanOptions())) {
+            while (cursor.hasNext() && !Thread.currentThread().isInterrupted()) {
+                batch.add(cursor.next());
+                if (batch.size() == SCAN_BATCH_SIZE) {
+                    loaded += loadBatch(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            loaded += loadBatch(batch);
+        }
+        log.info("[TokenBlacklist] filter loaded: {} entries", loaded);
+    }
+
+    // 배치의 남은 TTL 을 파이프라인 한 번으로 조회
+    private int loadBatch(List<String> keys) {
+        List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+        long now = System.currentTimeMillis();
+        int loaded = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            if (!(ttls.get(i) instanceof Long ttlMillis) || ttlMillis <= 0) {
+                continue;
+            }
+            String suffix = keys.get(i).substring(blacklistPrefix.length());
+            String tokenId = isLegacyKey(suffix) ? TokenDigest.of(suffix) : suffix;
+            filter.put(tokenId, now + ttlMillis);
+            loaded++;
+        }
+        return loaded;
+    }
 
-        return blacklisted;
+    private ScanOptions blacklistScanOptions() {
+        return ScanOptions.scanOptions()
+                .match(blacklistPrefix + "*")
+                .count(SCAN_BATCH_SIZE)
+                .build();
     }
 
-    public void blacklist(String token, Duration expiration) {
-        redisTemplate.opsForValue().set(blacklistPrefix + token, token, expiration);
+    // 토큰 ID 에는 '.' 이 없고, JWT 원문에는 항상 있다
+    private static boolean isLegacyKey(String suffix) {
+        return suffix.indexOf('.') >= 0;
     }
-}
\ No newline at end of file
+}
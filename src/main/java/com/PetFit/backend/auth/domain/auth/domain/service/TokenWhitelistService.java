@@ -1,32 +1,77 @@
 package com.PetFit.backend.auth.domain.auth.domain.service;
 
 import java.time.Duration;
+import java.util.Optional;
 
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import lombok.RequiredArgsConstructor;
+import com.PetFit.backend.global.config.properties.TokenWhitelistProperties;
+import com.PetFit.backend.global.security.VerifiedToken;
+import com.PetFit.backend.global.util.TokenDigest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 검증이 끝난 액세스 토큰의 로컬 캐시
+ * Redis 왕복 없이 서명 검증을 건너뛰기 위한 용도로, 토큰 다이제스트를 키로 사용한다.
+ * 다른 노드에서 로그아웃한 토큰은 블랙리스트 인터셉터가 걸러낸다.
+ */
 @Service
-@RequiredArgsConstructor
 public class TokenWhitelistService {
-    private final RedisTemplate<String, String> redisTemplate;
 
-    private final static String whitelistPrefix = "WHITELIST:";
+    private static final String CACHE_NAME = "token.whitelist";
 
-    public boolean isWhitelistToken(String token) {
-        // 너무 잦은 호출이라면 debug 로만 남겨두고
-        String saved = redisTemplate.opsForValue().get(whitelistPrefix + token);
-        boolean result = saved != null && saved.equals(token);
-        return result;
+    private final Cache<String, VerifiedToken> whitelist;
+
+    public TokenWhitelistService(TokenWhitelistProperties properties, MeterRegistry meterRegistry) {
+        this.whitelist = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new TokenExpiry(properties.getTtl()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, whitelist, CACHE_NAME);
     }
 
+    public Optional<VerifiedToken> find(String token) {
+        return Optional.ofNullable(whitelist.getIfPresent(TokenDigest.of(token)));
+    }
+
+    public boolean isWhitelistToken(String token) {
+        return find(token).isPresent();
+    }
 
-    public void whitelist(String token, Duration timeout) {
-        redisTemplate.opsForValue().set(whitelistPrefix + token, token, timeout);
+    public void whitelist(VerifiedToken verifiedToken) {
+        whitelist.put(TokenDigest.of(verifiedToken.token()), verifiedToken);
     }
 
     public void deleteWhitelistToken(String token) {
-        redisTemplate.delete(whitelistPrefix + token);
+        whitelist.invalidate(TokenDigest.of(token));
+    }
+
+    // 설정된 TTL 과 토큰 자체의 남은 유효시간 중 짧은 쪽으로 만료
+    private record TokenExpiry(Duration ttl) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            Duration remaining = value.getRemainingDuration();
+            if (remaining.isNegative()) {
+                return 0;
+            }
+            return Math.min(ttl.toNanos(), remaining.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
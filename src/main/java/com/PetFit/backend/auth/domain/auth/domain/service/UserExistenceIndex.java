@@ -0,0 +1,226 @@
+package com.PetFit.backend.auth.domain.auth.domain.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import com.PetFit.backend.auth.domain.auth.domain.repository.UserRepository;
+import com.PetFit.backend.auth.domain.auth.domain.repository.UserRepository.UserIdentity;
+import com.PetFit.backend.global.config.properties.UserExistenceIndexProperties;
+import com.PetFit.backend.global.util.BackgroundLoader;
+import com.PetFit.backend.global.util.BloomFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * userId, 이메일 존재 여부 인덱스
+ * 노드마다 필드별 Bloom filter 를 두고, "없음" 이면 DB 조회 없이 사용 가능으로 답한다.
+ * "있을 수 있음" 이면 DB 로 확인한다. 가입은 Redis 채널로 전파되어 모든 노드의 필터에 반영된다.
+ * 기동 후 전체 적재가 끝나고 구독 중일 때만 필터의 "없음" 을 신뢰하며, 그 전에는 DB 로 확인한다.
+ */
+@Slf4j
+@Service
+public class UserExistenceIndex implements MessageListener {
+
+    private static final String METRIC_PREFIX = "user.existence.index";
+    private static final String MESSAGE_DELIMITER = "\n";
+
+    private static final int UNSYNCED = 0;
+    private static final int SYNCING = 1;
+    private static final int SYNCED = 2;
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final UserExistenceIndexProperties properties;
+    private final BackgroundLoader backgroundLoader;
+    private final AtomicInteger syncState = new AtomicInteger(UNSYNCED);
+    private final Counter negativeCounter;
+    private final Counter databaseCounter;
+    private final Counter falsePositiveCounter;
+
+    private volatile Filters current;
+    // 적재 중 들어온 가입은 새 필터에도 넣는다
+    private volatile Filters loading;
+
+    public UserExistenceIndex(UserRepository userRepository,
+                              RedisTemplate<String, String> redisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              UserExistenceIndexProperties properties,
+                              BackgroundLoader backgroundLoader,
+                              MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.properties = properties;
+        this.backgroundLoader = backgroundLoader;
+        this.current = new Filters(properties.getExpectedInsertions(), properties.getFalsePositiveRate());
+
+        this.negativeCounter = checkCounter(meterRegistry, "negative");
+        this.databaseCounter = checkCounter(meterRegistry, "database");
+        this.falsePositiveCounter = checkCounter(meterRegistry, "false_positive");
+        Gauge.builder(METRIC_PREFIX + ".elements", this, index -> index.current.userIds.approximateElementCount())
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".estimated.fpp", this, index -> index.current.userIds.estimatedFalsePositiveRate())
+                .register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(properties.getChannel()));
+    }
+
+    public boolean existsByUserId(String userId) {
+        return exists(userId, Filters::userIds, userRepository::existsByUserId);
+    }
+
+    public boolean existsByEmail(String email) {
+        return exists(email, Filters::emails, userRepository::existsByEmail);
+    }
+
+    /**
+     * 가입한 사용자를 이 노드와 다른 노드의 필터에 추가
+     */
+    public void add(String userId, String email) {
+        put(userId, email);
+        try {
+            redisTemplate.convertAndSend(properties.getChannel(), userId + MESSAGE_DELIMITER + email);
+        } catch (RuntimeException e) {
+            // 다른 노드는 "있을 수 있음" 이 아닌 "없음" 으로 답할 수 있으나 DB 유니크 제약이 막는다
+            log.warn("[UserExistenceIndex] publish failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiter = body.indexOf(MESSAGE_DELIMITER);
+        if (delimiter < 0) {
+            log.warn("[UserExistenceIndex] malformed message");
+            return;
+        }
+        put(body.substring(0, delimiter), body.substring(delimiter + 1));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (properties.isEnabled()) {
+            isReady();
+        }
+    }
+
+    private boolean exists(String key, Function<Filters, BloomFilter> field, Predicate<String> database) {
+        // 적재가 끝난 뒤의 필터를 읽도록 준비 여부를 먼저 확인
+        boolean ready = isReady();
+        if (ready && !field.apply(current).mightContain(key)) {
+            negativeCounter.increment();
+            return false;
+        }
+        databaseCounter.increment();
+        boolean exists = database.test(key);
+        if (ready && !exists) {
+            falsePositiveCounter.increment();
+        }
+        return exists;
+    }
+
+    private void put(String userId, String email) {
+        // loading 을 먼저 읽는다. 적재 스레드는 current 를 바꾼 뒤 loading 을 비우므로
+        // loading 이 비어 있으면 그 뒤에 읽은 current 는 새 필터다.
+        Filters next = loading;
+        current.put(userId, email);
+        if (next != null) {
+            next.put(userId, email);
+        }
+    }
+
+    /**
+     * 구독이 끊기면 그 사이 가입을 놓칠 수 있으므로 다시 적재한다.
+     * 적재는 백그라운드에서 하고 그동안은 DB 로 확인한다.
+     */
+    private boolean isReady() {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        if (!listenerContainer.isListening()) {
+            syncState.compareAndSet(SYNCED, UNSYNCED);
+            return false;
+        }
+        if (syncState.get() == SYNCED) {
+            return true;
+        }
+        if (syncState.compareAndSet(UNSYNCED, SYNCING)
+                && !backgroundLoader.submit("user existence index", this::load)) {
+            syncState.set(UNSYNCED);
+        }
+        return false;
+    }
+
+    private void load() {
+        try {
+            long total = userRepository.count();
+            long expected = Math.max(properties.getExpectedInsertions(), total * 2);
+            Filters next = new Filters(expected, properties.getFalsePositiveRate());
+            loading = next;
+
+            String after = "";
+            int loaded = 0;
+            PageRequest page = PageRequest.of(0, properties.getWarmupPageSize());
+            List<UserIdentity> identities;
+            do {
+                identities = userRepository.findIdentitiesAfter(after, page);
+                for (UserIdentity identity : identities) {
+                    next.put(identity.getUserId(), identity.getEmail());
+                    after = identity.getUserId();
+                }
+                loaded += identities.size();
+            } while (identities.size() == page.getPageSize() && !Thread.currentThread().isInterrupted());
+
+            if (Thread.currentThread().isInterrupted()) {
+                // 종료 중 중단되어 일부만 적재된 필터로는 교체하지 않는다
+                loading = null;
+                syncState.set(UNSYNCED);
+                return;
+            }
+            current = next;
+            loading = null;
+            syncState.set(SYNCED);
+            log.info("[UserExistenceIndex] loaded {} users (expected insertions {})", loaded, expected);
+        } catch (Exception e) {
+            loading = null;
+            syncState.set(UNSYNCED);
+            log.warn("[UserExistenceIndex] load failed: {}", e.getMessage());
+        }
+    }
+
+    private Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".checks")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Filters(BloomFilter userIds, BloomFilter emails) {
+
+        private Filters(long expectedInsertions, double falsePositiveRate) {
+            this(new BloomFilter(expectedInsertions, falsePositiveRate),
+                    new BloomFilter(expectedInsertions, falsePositiveRate));
+        }
+
+        private void put(String userId, String email) {
+            userIds.put(userId);
+            emails.put(email);
+        }
+    }
+}
@@ -1,42 +1,76 @@
 package com.PetFit.backend.auth.domain.auth.domain.service;
 
+import java.util.Locale;
+import java.util.Optional;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.PetFit.backend.auth.domain.auth.application.dto.request.SignUpRequest;
 import com.PetFit.backend.auth.domain.auth.application.dto.response.ProfileResponse;
 import com.PetFit.backend.auth.domain.auth.domain.entity.User;
 import com.PetFit.backend.auth.domain.auth.domain.repository.UserRepository;
 import com.PetFit.backend.global.exception.RestApiException;
+import com.PetFit.backend.global.exception.code.BaseCodeInterface;
+import static com.PetFit.backend.global.exception.code.status.AuthErrorStatus.ALREADY_REGISTERED_EMAIL;
+import static com.PetFit.backend.global.exception.code.status.AuthErrorStatus.ALREADY_REGISTERED_USER_ID;
 import static com.PetFit.backend.global.exception.code.status.GlobalErrorStatus._NOT_FOUND;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
-import lombok.RequiredArgsConstructor;
-
+/**
+ * 사용자 조회는 userId 기준 캐시(로컬 -> Redis -> DB)를 거치며 엔티티 대신 읽기 전용 CachedUser 를 돌려준다.
+ * 비밀번호 해시가 필요하거나 (로그인) 사용자를 변경할 때는 findUserEntity 로 영속 엔티티를 읽고, 변경 후 evictUser 로 비운다.
+ * 캐시는 putIfAbsent 로만 채워, 변경 전에 읽은 행이 커밋 후 제거를 덮어쓰지 못하게 한다.
+ */
 @Service
-@RequiredArgsConstructor
 public class UserService {
 
+    public static final String USER_CACHE = "user";
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserExistenceIndex userExistenceIndex;
+    private final Cache userCache;
 
-    public User findByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RestApiException(_NOT_FOUND));
+    public UserService(UserRepository userRepository,
+                       PasswordEncoder passwordEncoder,
+                       UserExistenceIndex userExistenceIndex,
+                       CacheManager cacheManager) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.userExistenceIndex = userExistenceIndex;
+        this.userCache = cacheManager.getCache(USER_CACHE);
     }
 
-    public User findByUserId(String userId) {
-        return userRepository.findByUserId(userId)
-                .orElseThrow(() -> new RestApiException(_NOT_FOUND));
+    public CachedUser findByUserId(String userId) {
+        return findCachedUser(userId);
+    }
+
+    /**
+     * 탈퇴하지 않은 사용자인지 확인 (캐시 적중 시 엔티티를 만들지 않는다)
+     */
+    public boolean isActiveUser(String userId) {
+        return loadCachedUser(userId).isPresent();
     }
 
     public boolean isAlreadyRegistered(String email) {
-        return userRepository.existsByEmail(email);
+        return userExistenceIndex.existsByEmail(email);
     }
 
     public boolean isUserIdAlreadyRegistered(String userId) {
-        return userRepository.existsByUserId(userId);
+        return userExistenceIndex.existsByUserId(userId);
     }
 
+    /**
+     * 새 사용자 INSERT (조회 없이 persist)
+     * 중복 아이디/이메일은 유니크 제약 위반으로 구분하며, 위반이 이 메서드에서 드러나도록 바깥 트랜잭션 없이 호출한다.
+     */
     public User save(SignUpRequest request) {
         User user = User.builder()
                 .userId(request.userId())
@@ -45,17 +79,110 @@ public class UserService {
                 .name(request.name())
                 .birth(request.birth())
                 .build();
-        return userRepository.save(user);
+        User saved;
+        try {
+            saved = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new RestApiException(resolveConflict(request, e));
+        }
+        userExistenceIndex.add(saved.getUserId(), saved.getEmail());
+        evictUser(saved.getUserId());
+        return saved;
     }
 
-    public User findUser(String userId) {
+    /**
+     * 캐시를 거치지 않은 영속 엔티티 조회 (비밀번호 해시 확인, 변경용)
+     */
+    public User findUserEntity(String userId) {
         return userRepository.findByUserId(userId)
                 .orElseThrow(() -> new RestApiException(_NOT_FOUND));
     }
 
     public ProfileResponse findProfile(String userId) {
-        User user = userRepository.findByUserId(userId)
+        return findCachedUser(userId).toProfile();
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에, 아니면 바로 캐시에서 제거
+     * 커밋 전에 지우면 그 사이 다른 요청이 이전 값을 다시 채울 수 있다.
+     */
+    public void evictUser(String userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userCache.evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userCache.evict(userId);
+            }
+        });
+    }
+
+    private BaseCodeInterface resolveConflict(SignUpRequest request, DataIntegrityViolationException e) {
+        String constraint = constraintName(e);
+        if (constraint != null) {
+            String name = constraint.toLowerCase(Locale.ROOT);
+            if (name.contains(User.EMAIL_CONSTRAINT)) {
+                return ALREADY_REGISTERED_EMAIL;
+            }
+            // PostgreSQL "users_pkey", H2 "PRIMARY KEY ON PUBLIC.USERS(USER_ID)"
+            if (name.contains("pkey") || name.contains("primary")) {
+                return ALREADY_REGISTERED_USER_ID;
+            }
+        }
+        // 제약 이름이 자동 생성된 기존 스키마는 실패한 경우에만 한 번 조회해 구분
+        if (userRepository.existsByEmail(request.email())) {
+            return ALREADY_REGISTERED_EMAIL;
+        }
+        if (userRepository.existsByUserId(request.userId())) {
+            return ALREADY_REGISTERED_USER_ID;
+        }
+        throw e;
+    }
+
+    private static String constraintName(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getConstraintName();
+            }
+        }
+        return null;
+    }
+
+    private CachedUser findCachedUser(String userId) {
+        return loadCachedUser(userId)
                 .orElseThrow(() -> new RestApiException(_NOT_FOUND));
-        return ProfileResponse.create(user);
     }
-}
\ No newline at end of file
+
+    private Optional<CachedUser> loadCachedUser(String userId) {
+        CachedUser cached = userCache.get(userId, CachedUser.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<CachedUser> loaded = userRepository.findByUserId(userId).map(CachedUser::from);
+        // 이 사이 커밋된 변경의 삭제 표시가 있으면 채우지 않는다
+        loaded.ifPresent(user -> userCache.putIfAbsent(userId, user));
+        return loaded;
+    }
+
+    /**
+     * 캐시에 저장하는 사용자 행 (엔티티 대신 불변 값으로 저장, 비밀번호 해시 제외)
+     * 이전 버전이 저장한 password 필드는 무시한다.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record CachedUser(
+            String userId,
+            String name,
+            String email,
+            String birth
+    ) {
+        static CachedUser from(User user) {
+            return new CachedUser(user.getUserId(), user.getName(), user.getEmail(), user.getBirth());
+        }
+
+        ProfileResponse toProfile() {
+            return new ProfileResponse(userId, email, name, birth);
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package com.PetFit.backend.auth.domain.auth.ui;
 
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.PetFit.backend.auth.domain.auth.application.dto.request.LoginRequest;
 import com.PetFit.backend.auth.domain.auth.application.dto.request.SignUpRequest;
 import com.PetFit.backend.auth.domain.auth.application.dto.request.TokenReissueRequest;
+import com.PetFit.backend.auth.domain.auth.application.dto.response.AvailabilityResponse;
 import com.PetFit.backend.auth.domain.auth.application.dto.response.LoginResponse;
 import com.PetFit.backend.auth.domain.auth.application.dto.response.TokenReissueResponse;
 import com.PetFit.backend.auth.domain.auth.application.usecase.UserAuthUseCase;
@@ -36,6 +39,14 @@ public class AuthController implements AuthApi {
         return BaseResponse.onSuccess();
     }
 
+    @GetMapping("/availability")
+    @Override
+    public BaseResponse<AvailabilityResponse> checkAvailability(
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) String email) {
+        return BaseResponse.onSuccess(userAuthUseCase.checkAvailability(userId, email));
+    }
+
     @PostMapping("/login")
     @Override
     public BaseResponse<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
@@ -65,7 +76,8 @@ public class AuthController implements AuthApi {
     }
 
     /**
-     * Nginx Ingress Controller의 auth-request를 위한 토큰 검증 엔드포인트 (사용할지 사용 안할지 모르겠음)
+     * Nginx Ingress Controller의 auth-request를 위한 토큰 검증 엔드포인트
+     * 기본적으로 AuthVerifyFilter 가 먼저 응답하며, auth.verify.enabled=false 일 때만 여기까지 온다.
      */
     @PostMapping("/verify")
     public BaseResponse<Void> verifyToken(HttpServletRequest request, HttpServletResponse response) {
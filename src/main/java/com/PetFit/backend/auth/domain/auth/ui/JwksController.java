@@ -0,0 +1,54 @@
+package com.PetFit.backend.auth.domain.auth.ui;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.PetFit.backend.global.config.properties.JwtSigningProperties;
+import com.PetFit.backend.global.security.JwtKeyRing;
+import com.PetFit.backend.global.security.TokenProvider;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토큰 검증용 공개 키 목록 (RFC 7517)
+ * 다른 서비스는 이 키로 토큰을 직접 검증하므로 /api/auth/verify 호출이 필요 없다.
+ * 본문은 키 목록이 바뀔 때만 다시 만들고, ETag 로 조건부 요청에 304 를 돌려준다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final TokenProvider tokenProvider;
+    private final JwtSigningProperties signingProperties;
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> jwks() {
+        JwtKeyRing.JwkSet jwkSet = tokenProvider.getJwkSet();
+        // If-None-Match 가 일치하면 Spring 이 본문 없이 304 로 바꾼다
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl(jwkSet))
+                .eTag(jwkSet.etag())
+                .body(jwkSet.json());
+    }
+
+    // 교체된 키가 빠지는 시각을 넘겨 캐시하지 않는다
+    private CacheControl cacheControl(JwtKeyRing.JwkSet jwkSet) {
+        Duration maxAge = signingProperties.getJwksMaxAge();
+        if (jwkSet.validUntil() != null) {
+            Duration untilChange = Duration.between(Instant.now(), jwkSet.validUntil());
+            if (untilChange.compareTo(maxAge) < 0) {
+                maxAge = untilChange.isNegative() ? Duration.ZERO : untilChange;
+            }
+        }
+        return CacheControl.maxAge(maxAge)
+                .cachePublic()
+                .staleWhileRevalidate(maxAge)
+                .staleIfError(Duration.ofDays(1));
+    }
+}
@@ -1,11 +1,13 @@
 package com.PetFit.backend.auth.domain.email.application.usecase;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.PetFit.backend.auth.domain.email.application.dto.request.SendVerificationRequest;
 import com.PetFit.backend.auth.domain.email.domain.service.EmailService;
+import com.PetFit.backend.global.exception.RateLimitedApiException;
 import com.PetFit.backend.global.exception.RestApiException;
+import com.PetFit.backend.global.ratelimit.RateLimitExceededException;
+import com.PetFit.backend.global.ratelimit.RateLimitResult;
 import static com.PetFit.backend.global.exception.code.status.EmailErrorStatus.EMAIL_COOLDOWN_ACTIVE;
 import static com.PetFit.backend.global.exception.code.status.EmailErrorStatus.EMAIL_DAILY_LIMIT_EXCEEDED;
 import static com.PetFit.backend.global.exception.code.status.EmailErrorStatus.EMAIL_SEND_FAILED;
@@ -15,7 +17,6 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class SendEmailVerificationUseCase {
 
@@ -27,21 +28,20 @@ public class SendEmailVerificationUseCase {
         log.info("이메일 인증 발송 요청: {}", email);
         
         try {
-            // 이메일 발송 (Rate Limiting 포함)
+            // 이메일 발송 대기열에 추가 (Rate Limiting 포함, 실제 발송은 백그라운드)
             emailService.sendVerificationCode(email);
             log.info("이메일 인증 발송 완료: {}", email);
+        } catch (RateLimitExceededException e) {
+            log.warn("이메일 인증 발송 제한: {} - {}", email, e.getMessage());
+            RateLimitResult result = e.getResult();
+            throw new RateLimitedApiException(
+                    result.outcome() == RateLimitResult.Outcome.COOLDOWN ? EMAIL_COOLDOWN_ACTIVE : EMAIL_DAILY_LIMIT_EXCEEDED,
+                    result.retryAfter());
+        } catch (RestApiException e) {
+            // 대기열이 가득 찬 경우 등 이미 응답 코드가 정해진 예외
+            log.warn("이메일 인증 발송 거절: {} - {}", email, e.getErrorCode().getCode());
+            throw e;
         } catch (RuntimeException e) {
-            log.error("이메일 인증 발송 실패: {} - {}", email, e.getMessage());
-            
-            // 에러 메시지에 따라 적절한 예외 처리
-            if (e.getMessage().contains("쿨다운")) {
-                throw new RestApiException(EMAIL_COOLDOWN_ACTIVE);
-            } else if (e.getMessage().contains("횟수")) {
-                throw new RestApiException(EMAIL_DAILY_LIMIT_EXCEEDED);
-            } else {
-                throw new RestApiException(EMAIL_SEND_FAILED);
-            }
-        } catch (Exception e) {
             log.error("이메일 인증 발송 실패: {}", email, e);
             throw new RestApiException(EMAIL_SEND_FAILED);
         }
@@ -7,9 +7,12 @@ import com.PetFit.backend.auth.domain.email.application.dto.request.VerifyEmailR
 import com.PetFit.backend.auth.domain.email.application.dto.response.EmailVerificationResponse;
 import com.PetFit.backend.auth.domain.email.domain.service.EmailService;
 import com.PetFit.backend.auth.domain.email.domain.service.EmailVerificationService;
+import com.PetFit.backend.global.exception.RateLimitedApiException;
 import com.PetFit.backend.global.exception.RestApiException;
 import static com.PetFit.backend.global.exception.code.status.EmailErrorStatus.EMAIL_INVALID_TOKEN;
 import static com.PetFit.backend.global.exception.code.status.EmailErrorStatus.EMAIL_VERIFICATION_FAILED;
+import static com.PetFit.backend.global.exception.code.status.EmailErrorStatus.EMAIL_VERIFY_ATTEMPTS_EXCEEDED;
+import com.PetFit.backend.global.ratelimit.RateLimitExceededException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,6 +50,9 @@ public class VerifyEmailUseCase {
             
             return new EmailVerificationResponse(true, VERIFICATION_TTL_SECONDS);
             
+        } catch (RateLimitExceededException e) {
+            log.warn("이메일 인증 시도 제한: {} - {}", email, e.getMessage());
+            throw new RateLimitedApiException(EMAIL_VERIFY_ATTEMPTS_EXCEEDED, e.getResult().retryAfter());
         } catch (IllegalArgumentException e) {
             log.warn("이메일 인증 실패: {}", e.getMessage());
             throw new RestApiException(EMAIL_INVALID_TOKEN);
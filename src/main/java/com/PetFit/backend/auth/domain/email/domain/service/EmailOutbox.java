@@ -0,0 +1,293 @@
+package com.PetFit.backend.auth.domain.email.domain.service;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+
+import com.PetFit.backend.auth.domain.email.domain.template.RenderedEmail;
+import com.PetFit.backend.global.config.properties.EmailOutboxProperties;
+import com.PetFit.backend.global.exception.RestApiException;
+import static com.PetFit.backend.global.exception.code.status.EmailErrorStatus.EMAIL_OUTBOX_FULL;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.Message;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 발송 대기열
+ * 요청 스레드는 대기열에 넣고 바로 반환하며, 전용 워커가 백그라운드에서 SMTP 로 발송한다.
+ * 워커는 대기 중인 메일을 batchSize 만큼 묶어 한 번의 send 로 보내므로 같은 SMTP 연결을 공유한다.
+ * 실패하면 지수 백오프(지터 포함)로 재시도하고, 최대 시도 횟수를 넘기면 Redis 의 dead letter 목록에 남긴다.
+ */
+@Slf4j
+@Service
+public class EmailOutbox implements SmartLifecycle {
+
+    private static final String DEAD_LETTER_KEY = "EMAIL_DEAD_LETTER";
+    private static final String METRIC_PREFIX = "email.outbox";
+
+    private final JavaMailSender mailSender;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final EmailOutboxProperties properties;
+    // 발신자 주소는 매번 인코딩하지 않도록 한 번만 만든다
+    private final InternetAddress fromAddress;
+
+    private final BlockingQueue<MailJob> queue;
+    private final ScheduledExecutorService retryScheduler;
+    private final List<Thread> workers = new ArrayList<>();
+    // 종료 대기 중 sleep 하므로 synchronized 대신 사용 (가상 스레드 캐리어 고정 방지)
+    private final ReentrantLock lifecycleLock = new ReentrantLock();
+    private volatile boolean running;
+
+    private final Timer sendTimer;
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter deadLetterCounter;
+    private final Counter rejectedCounter;
+
+    public EmailOutbox(JavaMailSender mailSender,
+                       RedisTemplate<String, String> redisTemplate,
+                       ObjectMapper objectMapper,
+                       EmailOutboxProperties properties,
+                       MeterRegistry meterRegistry,
+                       @Value("${email.from}") String fromEmail) {
+        this.mailSender = mailSender;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.fromAddress = fromAddress(fromEmail);
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "email-outbox-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", queue, BlockingQueue::size)
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder(METRIC_PREFIX + ".send")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder(METRIC_PREFIX + ".sent").register(meterRegistry);
+        this.retryCounter = Counter.builder(METRIC_PREFIX + ".failures").tag("outcome", "retry").register(meterRegistry);
+        this.deadLetterCounter = Counter.builder(METRIC_PREFIX + ".failures").tag("outcome", "dead_letter").register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".failures").tag("outcome", "rejected").register(meterRegistry);
+    }
+
+    /**
+     * 발송 대기열에 추가
+     * 대기열이 가득 차면 바로 실패시켜 요청 스레드가 SMTP 를 기다리지 않게 한다.
+     * @throws RestApiException EMAIL_OUTBOX_FULL, 대기열이 가득 찬 경우
+     */
+    public void enqueue(String to, RenderedEmail mail) {
+        if (!queue.offer(new MailJob(to, mail, 1))) {
+            rejectedCounter.increment();
+            log.warn("[EmailOutbox] queue full, rejected: {}", to);
+            throw new RestApiException(EMAIL_OUTBOX_FULL);
+        }
+    }
+
+    @Override
+    public void start() {
+        lifecycleLock.lock();
+        try {
+            if (running) {
+                return;
+            }
+            running = true;
+            // Jakarta Mail 은 SMTP 입출력을 synchronized 메서드 안에서 하므로 가상 스레드 모드에서도 워커는 플랫폼 스레드로 둔다
+            for (int i = 0; i < properties.getWorkers(); i++) {
+                Thread worker = new Thread(this::work, "email-outbox-" + i);
+                worker.start();
+                workers.add(worker);
+            }
+            log.info("[EmailOutbox] started: {} workers", properties.getWorkers());
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    @Override
+    public void stop() {
+        lifecycleLock.lock();
+        try {
+            drainAndStop();
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    private void drainAndStop() {
+        if (!running) {
+            return;
+        }
+        // 남은 메일은 정해진 시간까지 보내고 종료
+        long deadline = System.nanoTime() + properties.getShutdownTimeout().toNanos();
+        while (!queue.isEmpty() && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        running = false;
+        workers.forEach(Thread::interrupt);
+        workers.clear();
+        retryScheduler.shutdownNow();
+        if (!queue.isEmpty()) {
+            log.warn("[EmailOutbox] stopped with {} unsent mails", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                MailJob job = queue.poll(1, TimeUnit.SECONDS);
+                if (job == null) {
+                    continue;
+                }
+                List<MailJob> batch = new ArrayList<>();
+                batch.add(job);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void deliver(List<MailJob> batch) {
+        List<MailJob> jobs = new ArrayList<>(batch.size());
+        List<MimeMessage> messages = new ArrayList<>(batch.size());
+        for (MailJob job : batch) {
+            try {
+                messages.add(createMessage(job));
+                jobs.add(job);
+            } catch (Exception ex) {
+                log.warn("[EmailOutbox] build failed to={}: {}", job.to(), ex.getMessage());
+                retryOrDeadLetter(job, ex.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failedMessages = Map.of();
+        Exception batchFailure = null;
+        Timer.Sample sample = Timer.start();
+        try {
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+        } catch (MailSendException ex) {
+            failedMessages = ex.getFailedMessages();
+            // 메시지별 실패 정보가 없으면 (연결 실패 등) 전체 실패로 본다
+            if (failedMessages.isEmpty()) {
+                batchFailure = ex;
+            }
+        } catch (Exception ex) {
+            batchFailure = ex;
+        } finally {
+            sample.stop(sendTimer);
+        }
+
+        for (int i = 0; i < jobs.size(); i++) {
+            MailJob job = jobs.get(i);
+            Exception failure = batchFailure != null ? batchFailure : failedMessages.get(messages.get(i));
+            if (failure == null) {
+                sentCounter.increment();
+                log.info("이메일 전송 성공: {}", job.to());
+            } else {
+                log.warn("[EmailOutbox] send failed to={} attempt={}: {}", job.to(), job.attempt(), failure.getMessage());
+                retryOrDeadLetter(job, failure.getMessage());
+            }
+        }
+    }
+
+    private MimeMessage createMessage(MailJob job) throws Exception {
+        MimeMessage message = mailSender.createMimeMessage();
+        message.setFrom(fromAddress);
+        message.setRecipient(Message.RecipientType.TO, new InternetAddress(job.to()));
+        job.mail().writeTo(message);
+        return message;
+    }
+
+    private static InternetAddress fromAddress(String fromEmail) {
+        try {
+            return new InternetAddress(fromEmail, "PetFit", "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void retryOrDeadLetter(MailJob job, String error) {
+        if (job.attempt() >= properties.getMaxAttempts() || !running) {
+            deadLetter(job, error);
+            return;
+        }
+        retryCounter.increment();
+        MailJob next = job.nextAttempt();
+        retryScheduler.schedule(() -> {
+            if (!queue.offer(next)) {
+                deadLetter(next, "queue full on retry");
+            }
+        }, backoffMillis(job.attempt()), TimeUnit.MILLISECONDS);
+    }
+
+    // 지수 백오프 + ±50% 지터
+    private long backoffMillis(int attempt) {
+        long initial = properties.getInitialBackoff().toMillis();
+        long base = Math.min(properties.getMaxBackoff().toMillis(), initial << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(base / 2, base + base / 2 + 1);
+    }
+
+    private void deadLetter(MailJob job, String error) {
+        deadLetterCounter.increment();
+        // 인증 코드가 담긴 본문은 남기지 않는다 (만료된 코드라 재발송 의미도 없음)
+        DeadLetter deadLetter = new DeadLetter(job.to(), job.mail().subject(), job.attempt(), error, System.currentTimeMillis());
+        try {
+            redisTemplate.opsForList().leftPush(DEAD_LETTER_KEY, objectMapper.writeValueAsString(deadLetter));
+            redisTemplate.opsForList().trim(DEAD_LETTER_KEY, 0, properties.getDeadLetterMaxSize() - 1);
+            log.error("[EmailOutbox] dead letter to={} attempts={}: {}", job.to(), job.attempt(), error);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("[EmailOutbox] dead letter store failed to={}: {}", job.to(), e.getMessage());
+        }
+    }
+
+    record MailJob(String to, RenderedEmail mail, int attempt) {
+        MailJob nextAttempt() {
+            return new MailJob(to, mail, attempt + 1);
+        }
+    }
+
+    record DeadLetter(String to, String subject, int attempts, String error, long failedAt) {
+    }
+}
@@ -4,16 +4,18 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
 
+import com.PetFit.backend.auth.domain.email.domain.template.EmailTemplateRegistry;
+import com.PetFit.backend.auth.domain.email.domain.template.EmailTemplateType;
+import com.PetFit.backend.auth.domain.email.domain.template.RenderedEmail;
+import com.PetFit.backend.global.ratelimit.RateLimitExceededException;
+import com.PetFit.backend.global.ratelimit.RateLimitResult;
+import com.PetFit.backend.global.ratelimit.RateLimitRule;
+import com.PetFit.backend.global.ratelimit.RedisRateLimiter;
 import com.PetFit.backend.global.security.TokenProvider;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,14 +24,11 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class EmailService {
 
-    private final JavaMailSender mailSender;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final EmailOutbox emailOutbox;
     private final TokenProvider tokenProvider;
     private final EmailVerificationService emailVerificationService;
-
-    @Value("${email.from}")
-    private String fromEmail;
-
+    private final EmailTemplateRegistry emailTemplateRegistry;
+    private final RedisRateLimiter rateLimiter;
 
     // Redis 키 접두사
     private final static String COOLDOWN_PREFIX = "EMAIL_COOLDOWN:";
@@ -38,7 +37,7 @@ public class EmailService {
 
     // Rate Limiting 상수
     private static final int MAX_DAILY_ATTEMPTS = 5;
-    private static final long COOLDOWN_SECONDS = 60;
+    private static final Duration COOLDOWN = Duration.ofSeconds(60);
 
 
     /**
@@ -46,48 +45,27 @@ public class EmailService {
      * @param email 인증할 이메일 주소
      */
     public void sendVerificationCode(String email) {
-        // 쿨다운 확인
-        if (isInCooldown(email)) {
-            log.warn("이메일 발송 쿨다운 중: {}", email);
-            throw new RuntimeException("이메일 발송 쿨다운 중입니다. 잠시 후 다시 시도해주세요.");
-        }
-        
-        // 일일 발송 시도 횟수 확인
-        if (isDailyLimitExceeded(email)) {
-            log.warn("일일 이메일 발송 시도 횟수 초과: {}", email);
-            throw new RuntimeException("일일 이메일 발송 횟수를 초과했습니다.");
-        }
+        // 쿨다운, 일일 한도 확인과 시도 기록을 한 번에 처리
+        boolean acquired = acquireSendPermit(email);
 
-        // 6자리 인증 코드 생성 및 저장
-        String verificationCode = emailVerificationService.generateVerificationCode();
-        emailVerificationService.saveVerificationCode(email, verificationCode);
-
-        String subject = "[PetFit] 회원가입 이메일 인증";
-        String html = ""
-                + "<div style=\"font-family:Arial,sans-serif;color:#333;padding:20px;max-width:600px;margin:auto;\">"
-                + "  <div style=\"text-align:center;margin-bottom:20px;\">"
-                + "    <h1 style=\"margin:0;font-size:24px;color:#0064FF;\">PetFit</h1>"
-                + "  </div>"
-                + "  <p style=\"font-size:16px;\">안녕하세요!</p>"
-                + "  <p style=\"font-size:16px;\">회원가입 인증을 위해 아래 인증 코드를 입력해주세요.</p>"
-                + "  <div style=\"background:#f5f5f5;padding:20px;text-align:center;margin:20px 0;border-radius:8px;\">"
-                + "    <div style=\"font-size:32px;font-weight:bold;color:#0064FF;letter-spacing:4px;margin:10px 0;\">"
-                + verificationCode
-                + "    </div>"
-                + "  </div>"
-                + "  <p style=\"font-size:14px;color:#888;\">이 인증 코드는 5분 후 만료됩니다.</p>"
-                + "  <p style=\"font-size:14px;\">요청하지 않으셨다면 고객지원으로 문의해주세요.</p>"
-                + "  <hr style=\"border:none;border-top:1px solid #eee;margin:30px 0;\"/>"
-                + "  <div style=\"font-size:12px;color:#aaa;text-align:center;\">PetFit Inc, Seoul, Korea</div>"
-                + "</div>";
-
-        sendHtmlMail(email, subject, html);
-        
-        // 쿨다운 설정
-        setCooldown(email, COOLDOWN_SECONDS);
-        
-        // 발송 시도 횟수 증가
-        incrementAttemptCount(email);
+        try {
+            // 6자리 인증 코드 생성 및 저장
+            String verificationCode = emailVerificationService.generateVerificationCode();
+            emailVerificationService.saveVerificationCode(email, verificationCode);
+
+            // 기동 시 컴파일한 템플릿에 코드만 채운다 (요청의 Accept-Language 로 언어 선택)
+            RenderedEmail mail = emailTemplateRegistry.get(EmailTemplateType.SIGNUP, LocaleContextHolder.getLocale())
+                    .render(verificationCode);
+
+            // 발송은 대기열에 맡기고 바로 반환
+            emailOutbox.enqueue(email, mail);
+        } catch (RuntimeException e) {
+            // 대기열이 가득 차는 등 발송 요청을 받지 못했으면 쿨다운과 일일 시도로 치지 않는다
+            if (acquired) {
+                refundSendPermit(email);
+            }
+            throw e;
+        }
     }
 
     /**
@@ -99,6 +77,9 @@ public class EmailService {
     public boolean verifySignupCode(String email, String code) {
         try {
             return emailVerificationService.verifyCode(email, code);
+        } catch (RateLimitExceededException ex) {
+            // 시도 횟수 초과는 재시도 시간을 담아 그대로 전달
+            throw ex;
         } catch (Exception ex) {
             throw new IllegalArgumentException("인증 코드가 만료되었거나 유효하지 않습니다.");
         }
@@ -131,79 +112,45 @@ public class EmailService {
         return tokenProvider.getEmailFromVerificationToken(token).orElse(null);
     }
 
-    // 공통 HTML 메일 전송
-    private void sendHtmlMail(String to, String subject, String htmlContent) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, "utf-8");
-            helper.setFrom(fromEmail, "PetFit");
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(htmlContent, true);
-            mailSender.send(message);
-            log.info("이메일 전송 성공: {}", to);
-        } catch (MessagingException ex) {
-            log.error("HTML 메일 전송 실패 to={}: {}", to, ex.getMessage(), ex);
-            throw new RuntimeException("이메일 전송에 실패했습니다.", ex);
-        } catch (Exception ex) {
-            log.error("HTML 메일 전송 실패 to={}: {}", to, ex.getMessage(), ex);
-            throw new RuntimeException("이메일 전송에 실패했습니다.", ex);
-        }
-    }
-
-    // Rate Limiting 관련 메서드들
-    private boolean isInCooldown(String email) {
+    /**
+     * @return 시도를 기록했으면 true (Redis 장애로 확인하지 못하고 허용했으면 false)
+     */
+    private boolean acquireSendPermit(String email) {
+        RateLimitRule rule = new RateLimitRule(COOLDOWN, MAX_DAILY_ATTEMPTS,
+                Duration.ofSeconds(Math.max(1, getSecondsUntilMidnight())));
+        RateLimitResult result;
         try {
-            String key = COOLDOWN_PREFIX + email;
-            String cooldown = redisTemplate.opsForValue().get(key);
-            return cooldown != null;
+            result = rateLimiter.tryAcquire(attemptKey(email), COOLDOWN_PREFIX + email, rule);
         } catch (Exception e) {
-            log.warn("이메일 쿨다운 확인 실패: {}", e.getMessage());
+            // Redis 장애 시 발송 자체는 막지 않는다
+            log.warn("이메일 발송 제한 확인 실패: {}", e.getMessage());
             return false;
         }
-    }
-
-    private void setCooldown(String email, long cooldownSeconds) {
-        try {
-            String key = COOLDOWN_PREFIX + email;
-            redisTemplate.opsForValue().set(key, "true", Duration.ofSeconds(cooldownSeconds));
-            log.info("이메일 쿨다운 설정: {}, {}초", email, cooldownSeconds);
-        } catch (Exception e) {
-            log.error("이메일 쿨다운 설정 실패: {}", e.getMessage());
-        }
-    }
 
-    private int getTodayAttemptCount(String email) {
-        try {
-            String today = LocalDate.now().format(DATE_FORMATTER);
-            String key = ATTEMPT_PREFIX + email + ":" + today;
-            String countStr = redisTemplate.opsForValue().get(key);
-            return countStr != null ? Integer.parseInt(countStr) : 0;
-        } catch (Exception e) {
-            log.warn("이메일 발송 시도 횟수 확인 실패: {}", e.getMessage());
-            return 0;
+        switch (result.outcome()) {
+            case COOLDOWN -> {
+                log.warn("이메일 발송 쿨다운 중: {}", email);
+                throw new RateLimitExceededException("이메일 발송 쿨다운 중입니다. 잠시 후 다시 시도해주세요.", result);
+            }
+            case LIMIT_EXCEEDED -> {
+                log.warn("일일 이메일 발송 시도 횟수 초과: {}", email);
+                throw new RateLimitExceededException("일일 이메일 발송 횟수를 초과했습니다.", result);
+            }
+            default -> log.info("이메일 발송 허용: {}, 오늘 남은 횟수 {}회", email, result.remaining());
         }
+        return true;
     }
 
-    private void incrementAttemptCount(String email) {
+    private void refundSendPermit(String email) {
         try {
-            String today = LocalDate.now().format(DATE_FORMATTER);
-            String key = ATTEMPT_PREFIX + email + ":" + today;
-            
-            Long count = redisTemplate.opsForValue().increment(key);
-            if (count == 1) {
-                long secondsUntilMidnight = getSecondsUntilMidnight();
-                redisTemplate.expire(key, Duration.ofSeconds(secondsUntilMidnight));
-            }
-            
-            log.info("이메일 발송 시도 횟수 증가: {}, {}회", email, count);
+            rateLimiter.refund(attemptKey(email), COOLDOWN_PREFIX + email);
         } catch (Exception e) {
-            log.error("이메일 발송 시도 횟수 증가 실패: {}", e.getMessage());
+            log.warn("이메일 발송 시도 반환 실패: {}", e.getMessage());
         }
     }
 
-    private boolean isDailyLimitExceeded(String email) {
-        return getTodayAttemptCount(email) >= MAX_DAILY_ATTEMPTS;
+    private String attemptKey(String email) {
+        return ATTEMPT_PREFIX + email + ":" + LocalDate.now().format(DATE_FORMATTER);
     }
 
     private long getSecondsUntilMidnight() {
@@ -6,6 +6,11 @@ import java.util.Random;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import com.PetFit.backend.global.ratelimit.RateLimitExceededException;
+import com.PetFit.backend.global.ratelimit.RateLimitResult;
+import com.PetFit.backend.global.ratelimit.RateLimitRule;
+import com.PetFit.backend.global.ratelimit.RedisRateLimiter;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -15,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 public class EmailVerificationService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisRateLimiter rateLimiter;
     private final static String VERIFICATION_PREFIX = "EMAIL_VERIFIED:";
     private final static String VERIFICATION_CODE_PREFIX = "EMAIL_VERIFICATION_CODE:";
     private final static String VERIFICATION_ATTEMPT_PREFIX = "EMAIL_VERIFICATION_ATTEMPT:";
@@ -25,6 +31,10 @@ public class EmailVerificationService {
     private static final int MAX_ATTEMPT_COUNT = 5;
     // 시도 횟수 TTL (10분)
     private static final long ATTEMPT_TTL_SECONDS = 600;
+    private static final RateLimitRule ATTEMPT_RULE =
+            RateLimitRule.of(MAX_ATTEMPT_COUNT, Duration.ofSeconds(ATTEMPT_TTL_SECONDS));
+    // 가입 실패 후 되돌린 인증 상태의 TTL (GETDEL 로 원래 TTL 은 알 수 없음)
+    private static final Duration RESTORED_VERIFICATION_TTL = Duration.ofMinutes(10);
 
     /**
      * 이메일 인증 상태를 Redis에 저장
@@ -60,6 +70,34 @@ public class EmailVerificationService {
         }
     }
 
+    /**
+     * 이메일 인증 상태를 확인하면서 소비 (GETDEL 한 번)
+     * 같은 인증으로 동시에 두 번 가입할 수 없다.
+     * @param email 확인할 이메일
+     * @return 인증 완료 여부
+     */
+    public boolean consumeEmailVerification(String email) {
+        try {
+            String verified = redisTemplate.opsForValue().getAndDelete(VERIFICATION_PREFIX + email);
+            return "true".equals(verified);
+        } catch (Exception e) {
+            log.warn("이메일 인증 상태 소비 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 가입에 실패했을 때 소비한 인증 상태를 되돌린다.
+     * @param email 되돌릴 이메일
+     */
+    public void restoreEmailVerification(String email) {
+        try {
+            redisTemplate.opsForValue().set(VERIFICATION_PREFIX + email, "true", RESTORED_VERIFICATION_TTL);
+        } catch (Exception e) {
+            log.error("이메일 인증 상태 복구 실패: {}", e.getMessage());
+        }
+    }
+
     /**
      * 6자리 랜덤 인증 코드 생성
      * @return 6자리 인증 코드
@@ -94,10 +132,11 @@ public class EmailVerificationService {
      */
     public boolean verifyCode(String email, String inputCode) {
         try {
-            // 시도 횟수 확인
-            if (isMaxAttemptsExceeded(email)) {
+            // 시도 횟수 확인과 기록을 한 번에 (성공하면 아래에서 초기화)
+            RateLimitResult attempt = rateLimiter.tryAcquire(VERIFICATION_ATTEMPT_PREFIX + email, ATTEMPT_RULE);
+            if (!attempt.isAllowed()) {
                 log.warn("이메일 인증 시도 횟수 초과: {}", email);
-                throw new RuntimeException("인증 시도 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.");
+                throw new RateLimitExceededException("인증 시도 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.", attempt);
             }
 
             String key = VERIFICATION_CODE_PREFIX + email;
@@ -105,7 +144,6 @@ public class EmailVerificationService {
             
             if (storedCode == null) {
                 log.warn("이메일 인증 코드가 존재하지 않음: {}", email);
-                incrementAttemptCount(email);
                 return false;
             }
 
@@ -119,8 +157,7 @@ public class EmailVerificationService {
                 redisTemplate.delete(attemptKey);
                 log.info("이메일 인증 코드 검증 성공: {}", email);
             } else {
-                log.warn("이메일 인증 코드 불일치: {}", email);
-                incrementAttemptCount(email);
+                log.warn("이메일 인증 코드 불일치: {}, 남은 시도 {}회", email, attempt.remaining());
             }
             
             return isValid;
@@ -146,42 +183,6 @@ public class EmailVerificationService {
         }
     }
 
-    /**
-     * 시도 횟수 증가
-     * @param email 이메일 주소
-     */
-    private void incrementAttemptCount(String email) {
-        try {
-            String key = VERIFICATION_ATTEMPT_PREFIX + email;
-            Long count = redisTemplate.opsForValue().increment(key);
-            
-            if (count == 1) {
-                redisTemplate.expire(key, Duration.ofSeconds(ATTEMPT_TTL_SECONDS));
-            }
-            
-            log.info("이메일 인증 시도 횟수 증가: {}, {}회", email, count);
-        } catch (Exception e) {
-            log.error("이메일 인증 시도 횟수 증가 실패: {}", e.getMessage());
-        }
-    }
-
-    /**
-     * 최대 시도 횟수 초과 여부 확인
-     * @param email 이메일 주소
-     * @return 최대 시도 횟수 초과 여부
-     */
-    private boolean isMaxAttemptsExceeded(String email) {
-        try {
-            String key = VERIFICATION_ATTEMPT_PREFIX + email;
-            String countStr = redisTemplate.opsForValue().get(key);
-            int count = countStr != null ? Integer.parseInt(countStr) : 0;
-            return count >= MAX_ATTEMPT_COUNT;
-        } catch (Exception e) {
-            log.warn("이메일 인증 시도 횟수 확인 실패: {}", e.getMessage());
-            return false;
-        }
-    }
-
     /**
      * 현재 시도 횟수 조회
      * @param email 이메일 주소
@@ -0,0 +1,125 @@
+package com.PetFit.backend.auth.domain.email.domain.template;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * 기동 시 컴파일한 메일 템플릿
+ * 본문을 {{slot}} 기준으로 나눠 고정 구간은 UTF-8 바이트로, 제목은 인코딩된 헤더 값으로 미리 만들어 둔다.
+ * 렌더링은 슬롯 값만 인코딩해 필요한 크기의 배열 하나에 복사한다.
+ *
+ * 템플릿 파일 형식:
+ * <pre>
+ * Subject: [PetFit] 제목
+ *
+ * &lt;div&gt;...{{code}}...&lt;/div&gt;
+ * </pre>
+ */
+public final class EmailTemplate {
+
+    private static final String SUBJECT_PREFIX = "Subject:";
+    private static final String SLOT_START = "{{";
+    private static final String SLOT_END = "}}";
+
+    private final EmailTemplateType type;
+    private final String subject;
+    private final String encodedSubject;
+    // segments.length == slotIndexes.length + 1
+    private final byte[][] segments;
+    // i 번째 슬롯에 들어갈 render 인자 위치
+    private final int[] slotIndexes;
+    private final int staticLength;
+
+    private EmailTemplate(EmailTemplateType type, String subject, byte[][] segments, int[] slotIndexes) {
+        this.type = type;
+        this.subject = subject;
+        this.encodedSubject = RenderedEmail.encodeSubject(subject);
+        this.segments = segments;
+        this.slotIndexes = slotIndexes;
+        int length = 0;
+        for (byte[] segment : segments) {
+            length += segment.length;
+        }
+        this.staticLength = length;
+    }
+
+    /**
+     * 템플릿 원문 컴파일
+     * @throws IllegalStateException 제목이 없거나, 닫히지 않았거나 type 에 없는 슬롯이 있을 때
+     */
+    public static EmailTemplate compile(EmailTemplateType type, String source) {
+        int headerEnd = source.indexOf('\n');
+        if (headerEnd < 0 || !source.startsWith(SUBJECT_PREFIX)) {
+            throw new IllegalStateException("메일 템플릿에 제목이 없습니다: " + type.getName());
+        }
+        String subject = source.substring(SUBJECT_PREFIX.length(), headerEnd).trim();
+        String body = source.substring(headerEnd + 1).strip();
+
+        List<byte[]> segments = new ArrayList<>();
+        List<Integer> slotIndexes = new ArrayList<>();
+        int position = 0;
+        int start;
+        while ((start = body.indexOf(SLOT_START, position)) >= 0) {
+            int end = body.indexOf(SLOT_END, start);
+            if (end < 0) {
+                throw new IllegalStateException("닫히지 않은 슬롯: " + type.getName());
+            }
+            String slot = body.substring(start + SLOT_START.length(), end).trim();
+            int slotIndex = type.getSlots().indexOf(slot);
+            if (slotIndex < 0) {
+                throw new IllegalStateException("알 수 없는 슬롯 '" + slot + "': " + type.getName());
+            }
+            segments.add(body.substring(position, start).getBytes(StandardCharsets.UTF_8));
+            slotIndexes.add(slotIndex);
+            position = end + SLOT_END.length();
+        }
+        segments.add(body.substring(position).getBytes(StandardCharsets.UTF_8));
+
+        return new EmailTemplate(type, subject,
+                segments.toArray(byte[][]::new),
+                slotIndexes.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * @param values type 의 slots 순서대로의 값 (HTML 이스케이프 후 삽입)
+     */
+    public RenderedEmail render(String... values) {
+        if (values.length != type.getSlots().size()) {
+            throw new IllegalArgumentException("슬롯 값 개수가 맞지 않습니다: " + type.getName());
+        }
+        byte[][] slotValues = new byte[values.length][];
+        int length = staticLength;
+        for (int i = 0; i < slotIndexes.length; i++) {
+            int index = slotIndexes[i];
+            if (slotValues[index] == null) {
+                slotValues[index] = HtmlUtils.htmlEscape(values[index]).getBytes(StandardCharsets.UTF_8);
+            }
+            length += slotValues[index].length;
+        }
+
+        byte[] body = new byte[length];
+        int position = 0;
+        for (int i = 0; i < slotIndexes.length; i++) {
+            position = append(body, position, segments[i]);
+            position = append(body, position, slotValues[slotIndexes[i]]);
+        }
+        append(body, position, segments[segments.length - 1]);
+        return new RenderedEmail(subject, encodedSubject, body);
+    }
+
+    public EmailTemplateType getType() {
+        return type;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    private static int append(byte[] target, int position, byte[] source) {
+        System.arraycopy(source, 0, target, position, source.length);
+        return position + source.length;
+    }
+}
@@ -0,0 +1,111 @@
+package com.PetFit.backend.auth.domain.email.domain.template;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 템플릿 목록
+ * 기동 시 templates/email/*.html 을 모두 컴파일하고, 지역화 변형은 언어 코드로 구분한다.
+ * (signup.html -> 기본, signup_en.html -> en)
+ * 발송 시에는 Locale 의 언어 코드로 맵을 한 번 조회할 뿐 템플릿을 다시 읽거나 파싱하지 않는다.
+ */
+@Slf4j
+@Component
+public class EmailTemplateRegistry {
+
+    static final String LOCATION = "classpath*:templates/email/*.html";
+    private static final String EXTENSION = ".html";
+    private static final char VARIANT_DELIMITER = '_';
+
+    private final Map<EmailTemplateType, Variants> templates;
+
+    public EmailTemplateRegistry() {
+        this(new PathMatchingResourcePatternResolver());
+    }
+
+    EmailTemplateRegistry(ResourcePatternResolver resolver) {
+        this.templates = load(resolver);
+    }
+
+    /**
+     * @return locale 의 언어에 맞는 템플릿, 없으면 기본 템플릿
+     */
+    public EmailTemplate get(EmailTemplateType type, Locale locale) {
+        return templates.get(type).resolve(locale);
+    }
+
+    private static Map<EmailTemplateType, Variants> load(ResourcePatternResolver resolver) {
+        Map<EmailTemplateType, Map<String, EmailTemplate>> byType = new EnumMap<>(EmailTemplateType.class);
+        try {
+            for (Resource resource : resolver.getResources(LOCATION)) {
+                String fileName = resource.getFilename();
+                if (fileName == null || !fileName.endsWith(EXTENSION)) {
+                    continue;
+                }
+                String baseName = fileName.substring(0, fileName.length() - EXTENSION.length());
+                int delimiter = baseName.indexOf(VARIANT_DELIMITER);
+                String name = delimiter < 0 ? baseName : baseName.substring(0, delimiter);
+                String language = delimiter < 0 ? "" : baseName.substring(delimiter + 1).toLowerCase(Locale.ROOT);
+
+                EmailTemplateType type = findType(name);
+                if (type == null) {
+                    log.warn("[EmailTemplate] unknown template ignored: {}", fileName);
+                    continue;
+                }
+                byType.computeIfAbsent(type, t -> new HashMap<>())
+                        .put(language, EmailTemplate.compile(type, read(resource)));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("메일 템플릿을 읽을 수 없습니다.", e);
+        }
+
+        Map<EmailTemplateType, Variants> templates = new EnumMap<>(EmailTemplateType.class);
+        for (EmailTemplateType type : EmailTemplateType.values()) {
+            Map<String, EmailTemplate> variants = byType.getOrDefault(type, Map.of());
+            EmailTemplate fallback = variants.get("");
+            if (fallback == null) {
+                throw new IllegalStateException("기본 메일 템플릿이 없습니다: " + type.getName() + EXTENSION);
+            }
+            templates.put(type, new Variants(Map.copyOf(variants), fallback));
+        }
+        log.info("[EmailTemplate] loaded: {}", byType.keySet());
+        return templates;
+    }
+
+    private static EmailTemplateType findType(String name) {
+        for (EmailTemplateType type : EmailTemplateType.values()) {
+            if (type.getName().equals(name)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    private static String read(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private record Variants(Map<String, EmailTemplate> byLanguage, EmailTemplate fallback) {
+
+        private EmailTemplate resolve(Locale locale) {
+            if (locale == null) {
+                return fallback;
+            }
+            return byLanguage.getOrDefault(locale.getLanguage(), fallback);
+        }
+    }
+}
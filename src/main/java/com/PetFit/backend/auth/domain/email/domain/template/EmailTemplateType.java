@@ -0,0 +1,24 @@
+package com.PetFit.backend.auth.domain.email.domain.template;
+
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * 메일 템플릿 종류
+ * 템플릿 파일은 templates/email/{name}.html (기본), {name}_{언어}.html (지역화) 로 둔다.
+ * slots 는 render 에 넘기는 값의 순서이다.
+ */
+@Getter
+public enum EmailTemplateType {
+    SIGNUP("signup", List.of("code")),
+    RESET("reset", List.of("code"));
+
+    private final String name;
+    private final List<String> slots;
+
+    EmailTemplateType(String name, List<String> slots) {
+        this.name = name;
+        this.slots = slots;
+    }
+}
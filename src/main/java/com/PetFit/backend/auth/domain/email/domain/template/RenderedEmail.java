@@ -0,0 +1,48 @@
+package com.PetFit.backend.auth.domain.email.domain.template;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.activation.DataHandler;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeUtility;
+import jakarta.mail.util.ByteArrayDataSource;
+
+/**
+ * 렌더링이 끝난 메일 (제목 + UTF-8 HTML 본문)
+ * @param subject 제목 (로그, dead letter 용)
+ * @param encodedSubject RFC 2047 로 인코딩한 제목 헤더 값
+ * @param body HTML 본문
+ */
+public record RenderedEmail(String subject, String encodedSubject, byte[] body) {
+
+    private static final String HTML_CONTENT_TYPE = "text/html; charset=UTF-8";
+    private static final String SUBJECT_HEADER = "Subject";
+    private static final String CONTENT_TYPE_HEADER = "Content-Type";
+    private static final String TRANSFER_ENCODING_HEADER = "Content-Transfer-Encoding";
+
+    public static RenderedEmail of(String subject, String html) {
+        return new RenderedEmail(subject, encodeSubject(subject), html.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String encodeSubject(String subject) {
+        try {
+            return MimeUtility.encodeText(subject, "UTF-8", "B");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 제목과 본문을 MimeMessage 에 기록
+     * 헤더를 미리 정해 두어 저장 시 본문을 훑어 charset, 전송 인코딩을 고르는 과정을 건너뛴다.
+     */
+    public void writeTo(MimeMessage message) throws MessagingException {
+        message.setHeader(SUBJECT_HEADER, encodedSubject);
+        // setDataHandler 가 Content-* 헤더를 지우므로 헤더는 그 뒤에 설정
+        message.setDataHandler(new DataHandler(new ByteArrayDataSource(body, HTML_CONTENT_TYPE)));
+        message.setHeader(CONTENT_TYPE_HEADER, HTML_CONTENT_TYPE);
+        message.setHeader(TRANSFER_ENCODING_HEADER, "base64");
+    }
+}
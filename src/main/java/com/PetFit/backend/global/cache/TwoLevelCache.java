@@ -0,0 +1,213 @@
+package com.PetFit.backend.global.cache;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬(L1) 캐시 + Redis(L2) 캐시
+ * 조회는 L1 -> L2 -> 로더 순이며, 아래 단계에서 찾은 값은 위 단계에 채운다.
+ * 원본에서 읽은 값은 putIfAbsent 로 채우고, 값이 바뀌면 evict 한다.
+ * evict 는 값 대신 짧게 유지되는 삭제 표시(Tombstone)를 L2, L1 에 남긴 뒤 다른 노드의 L1 에도 전파한다. (키는 문자열만 사용)
+ * 변경이 커밋되기 전에 이전 값을 읽은 요청이 뒤늦게 채우려 해도 삭제 표시가 남아 있는 동안은 채우지 못한다.
+ * 삭제 표시는 조회 시 미스로 처리한다.
+ * Redis 장애 시 L2 를 건너뛰고 원본을 조회한다.
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final Cache local;
+    private final Cache remote;
+    private final Consumer<Object> invalidation;
+    private final Counter remoteHitCounter;
+    private final Counter remoteMissCounter;
+    private final Counter remoteErrorCounter;
+
+    /**
+     * @param invalidation 다른 노드에 L1 무효화를 전파 (키가 null 이면 전체)
+     */
+    public TwoLevelCache(String name, Cache local, Cache remote, Consumer<Object> invalidation,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidation = invalidation;
+        this.remoteHitCounter = remoteGetCounter(meterRegistry, "hit");
+        this.remoteMissCounter = remoteGetCounter(meterRegistry, "miss");
+        this.remoteErrorCounter = Counter.builder("cache.redis.errors")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.get(key);
+        if (value != null && !(value.get() instanceof Tombstone)) {
+            return value;
+        }
+        ValueWrapper remoteValue = getRemote(key);
+        if (remoteValue == null || remoteValue.get() == null) {
+            return null;
+        }
+        local.put(key, remoteValue.get());
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null || value.get() == null) {
+            return null;
+        }
+        Object stored = value.get();
+        if (type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + stored);
+        }
+        return (T) stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (value != null) {
+            putIfAbsent(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        putRemote(key, value);
+        local.put(key, value);
+    }
+
+    /**
+     * 원본에서 읽은 값 채우기
+     * L2 에 값이나 삭제 표시가 있으면 채우지 않는다. (Redis 장애 시에는 L1 만 같은 규칙으로 채운다)
+     */
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (value == null) {
+            return null;
+        }
+        ValueWrapper existing;
+        try {
+            existing = remote.putIfAbsent(key, value);
+        } catch (RuntimeException e) {
+            remoteErrorCounter.increment();
+            log.warn("[TwoLevelCache] {} redis put failed: {}", name, e.getMessage());
+            return local.putIfAbsent(key, value);
+        }
+        if (existing == null) {
+            local.put(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        Tombstone tombstone = new Tombstone(System.currentTimeMillis());
+        try {
+            remote.put(key, tombstone);
+        } catch (RuntimeException e) {
+            // 남은 L2 값은 TTL 까지 유지된다
+            remoteErrorCounter.increment();
+            log.warn("[TwoLevelCache] {} redis evict failed: {}", name, e.getMessage());
+        }
+        local.put(key, tombstone);
+        invalidation.accept(key);
+    }
+
+    @Override
+    public void clear() {
+        try {
+            remote.clear();
+        } catch (RuntimeException e) {
+            remoteErrorCounter.increment();
+            log.warn("[TwoLevelCache] {} redis clear failed: {}", name, e.getMessage());
+        }
+        local.clear();
+        invalidation.accept(null);
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 반영 (L1 만)
+     */
+    void evictLocal(Object key) {
+        if (key == null) {
+            local.clear();
+        } else {
+            local.evict(key);
+        }
+    }
+
+    private ValueWrapper getRemote(Object key) {
+        try {
+            ValueWrapper value = remote.get(key);
+            if (value == null || value.get() instanceof Tombstone) {
+                remoteMissCounter.increment();
+                return null;
+            }
+            remoteHitCounter.increment();
+            return new SimpleValueWrapper(value.get());
+        } catch (RuntimeException e) {
+            remoteErrorCounter.increment();
+            log.warn("[TwoLevelCache] {} redis get failed: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(Object key, Object value) {
+        try {
+            remote.put(key, value);
+        } catch (RuntimeException e) {
+            remoteErrorCounter.increment();
+            log.warn("[TwoLevelCache] {} redis put failed: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 삭제 표시 (L2 에서는 tombstone-ttl 동안 유지)
+     * @param evictedAt 삭제 시각 (ms)
+     */
+    public record Tombstone(long evictedAt) {
+    }
+
+    private Counter remoteGetCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.redis.gets")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,105 @@
+package com.PetFit.backend.global.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import com.PetFit.backend.global.config.properties.TwoLevelCacheProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이름별 TwoLevelCache 를 처음 요청될 때 만든다.
+ * L1 무효화는 Redis 채널로 "캐시이름:키" (전체 비우기는 "캐시이름") 를 보내 모든 노드에 전파한다.
+ * L1 적중률은 cache.gets{cache="이름.local"}, L2 는 cache.redis.gets{cache="이름"} 로 수집한다.
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractCacheManager implements MessageListener {
+
+    private static final String MESSAGE_DELIMITER = ":";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TwoLevelCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final RedisCacheManager redisCacheManager;
+
+    public TwoLevelCacheManager(RedisConnectionFactory connectionFactory,
+                                RedisTemplate<String, String> redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                TwoLevelCacheProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
+                // 삭제 표시는 커밋 전에 읽은 값이 다시 채워지지 않을 만큼만 유지
+                .entryTtl((key, value) -> value instanceof TwoLevelCache.Tombstone
+                        ? properties.getTombstoneTtl()
+                        : properties.getRedisTtl())
+                .computePrefixWith(cacheName -> properties.getKeyPrefix() + cacheName + MESSAGE_DELIMITER)
+                .serializeValuesWith(SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
+                .disableCachingNullValues();
+        this.redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(redisCacheConfiguration)
+                .build();
+        this.redisCacheManager.initializeCaches();
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(properties.getChannel()));
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return List.of();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        CaffeineCache local = new CaffeineCache(name, Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaximumSize())
+                .expireAfterWrite(properties.getLocalTtl())
+                .recordStats()
+                .build(), false);
+        CaffeineCacheMetrics.monitor(meterRegistry, local.getNativeCache(), name + ".local");
+        return new TwoLevelCache(name, local, redisCacheManager.getCache(name),
+                key -> publishInvalidation(name, key), meterRegistry);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiter = body.indexOf(MESSAGE_DELIMITER);
+        String cacheName = delimiter < 0 ? body : body.substring(0, delimiter);
+        // 이 노드에서 아직 쓰지 않은 캐시는 비울 것이 없다
+        if (lookupCache(cacheName) instanceof TwoLevelCache cache) {
+            cache.evictLocal(delimiter < 0 ? null : body.substring(delimiter + 1));
+        }
+    }
+
+    private void publishInvalidation(String cacheName, Object key) {
+        try {
+            redisTemplate.convertAndSend(properties.getChannel(),
+                    key == null ? cacheName : cacheName + MESSAGE_DELIMITER + key);
+        } catch (RuntimeException e) {
+            // 다른 노드의 L1 은 localTtl 안에 만료된다
+            log.warn("[TwoLevelCache] {} invalidation publish failed: {}", cacheName, e.getMessage());
+        }
+    }
+}
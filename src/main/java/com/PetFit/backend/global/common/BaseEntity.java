@@ -3,6 +3,10 @@ package com.PetFit.backend.global.common;
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -10,6 +14,11 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
+/**
+ * 공통 엔티티
+ * ID 를 직접 지정하는 엔티티는 Persistable 을 구현하고 getId 만 제공하면 된다.
+ * 새 엔티티 여부는 DB 에서 읽었거나 저장했는지로 판단하므로 save 가 merge(SELECT 후 INSERT) 대신 persist 를 호출한다.
+ */
 @Getter
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
@@ -24,6 +33,10 @@ public abstract class BaseEntity {
 
     private LocalDateTime deletedAt;
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
     public boolean isDeleted() {
         return deletedAt != null;
     }
@@ -32,4 +45,17 @@ public abstract class BaseEntity {
         deletedAt = LocalDateTime.now();
     }
 
+    /**
+     * Persistable#isNew 구현용 (DB 에서 읽거나 저장한 적 없으면 새 엔티티)
+     */
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
 }
@@ -0,0 +1,26 @@
+package com.PetFit.backend.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.PetFit.backend.global.cache.TwoLevelCacheManager;
+import com.PetFit.backend.global.config.properties.TwoLevelCacheProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             RedisTemplate<String, String> redisTemplate,
+                                             RedisMessageListenerContainer redisMessageListenerContainer,
+                                             TwoLevelCacheProperties twoLevelCacheProperties,
+                                             MeterRegistry meterRegistry) {
+        return new TwoLevelCacheManager(connectionFactory, redisTemplate, redisMessageListenerContainer,
+                twoLevelCacheProperties, meterRegistry);
+    }
+}
@@ -6,7 +6,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import com.PetFit.backend.global.config.properties.EmailPoolProperties;
+import com.PetFit.backend.global.mail.PooledJavaMailSender;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 public class EmailConfig {
@@ -24,8 +28,9 @@ public class EmailConfig {
     private String password;
 
     @Bean
-    public JavaMailSender javaMailSender() {
-        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+    public JavaMailSender javaMailSender(EmailPoolProperties poolProperties, MeterRegistry meterRegistry) {
+        // 인증된 SMTP 연결을 재사용 (발송마다 TLS 핸드셰이크, AUTH 를 반복하지 않음)
+        PooledJavaMailSender mailSender = new PooledJavaMailSender(poolProperties, meterRegistry);
         mailSender.setHost(host);
         mailSender.setPort(port);
         if (username != null && !username.isBlank()) {
@@ -2,15 +2,16 @@ package com.PetFit.backend.global.config;
 
 import java.util.Arrays;
 
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpMethod;
+import org.springframework.core.Ordered;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -19,11 +20,24 @@ import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.PetFit.backend.auth.domain.auth.domain.service.RefreshTokenService;
+import com.PetFit.backend.auth.domain.auth.domain.service.TokenBlacklistService;
 import com.PetFit.backend.auth.domain.auth.domain.service.TokenWhitelistService;
+import com.PetFit.backend.auth.domain.auth.domain.service.UserService;
+import com.PetFit.backend.global.config.properties.AuthVerifyProperties;
 import com.PetFit.backend.global.config.properties.CorsProperties;
-import com.PetFit.backend.global.security.ExcludeAuthPathProperties;
+import com.PetFit.backend.global.config.properties.PasswordHashingProperties;
+import com.PetFit.backend.global.config.properties.RateLimitProperties;
+import com.PetFit.backend.global.ratelimit.RateLimitFilter;
+import com.PetFit.backend.global.ratelimit.RedisRateLimiter;
+import com.PetFit.backend.global.security.AuthVerifyFilter;
+import com.PetFit.backend.global.security.BulkheadPasswordEncoder;
 import com.PetFit.backend.global.security.JwtAuthenticationFilter;
+import com.PetFit.backend.global.security.PasswordHashCalibrator;
+import com.PetFit.backend.global.security.RoutePolicyRegistry;
 import com.PetFit.backend.global.security.TokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,10 +49,14 @@ import lombok.extern.slf4j.Slf4j;
 public class SecurityConfig {
 
     private final TokenProvider tokenProvider;
-    private final ExcludeAuthPathProperties excludeAuthPathProperties;
+    private final RoutePolicyRegistry routePolicyRegistry;
     private final RefreshTokenService refreshTokenService;
     private final TokenWhitelistService tokenWhitelistService;
     private final CorsProperties corsProperties;
+    private final RateLimitProperties rateLimitProperties;
+    private final RedisRateLimiter redisRateLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -49,27 +67,10 @@ public class SecurityConfig {
                 .formLogin(AbstractHttpConfigurer::disable)
                 .logout(AbstractHttpConfigurer::disable);
 
-        http.authorizeHttpRequests(request -> {
-            excludeAuthPathProperties.getPaths().iterator()
-                    .forEachRemaining(authPath ->
-                            request.requestMatchers(HttpMethod.valueOf(authPath.getMethod()), authPath.getPathPattern()).permitAll()
-                    );
-        });
-
+        // 공개 경로는 route-policy 설정 한 곳에서 관리
         http.authorizeHttpRequests(request -> request
                 .requestMatchers(CorsUtils::isPreFlightRequest).permitAll()
-                .requestMatchers(
-                        "/swagger-ui/**",
-                        "/v3/api-docs/**",
-                        "/swagger-ui.html",
-                        "/webjars/**",
-                        "/swagger-resources/**"
-                ).permitAll()
-                .requestMatchers(
-                        "/actuator/**",
-                        "/favicon.ico"
-                ).permitAll()
-                .requestMatchers(HttpMethod.POST, "/users/token").authenticated() // 토큰 재발급
+                .requestMatchers(routePolicyRegistry::isPublic).permitAll()
                 // Authenticated
                 .anyRequest().authenticated()
         );
@@ -79,6 +80,8 @@ public class SecurityConfig {
 
         // Jwt 커스텀 필터 등록
         http.addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+        // 요청 제한은 인증, 로그인 처리보다 먼저
+        http.addFilterBefore(rateLimitFilter(), JwtAuthenticationFilter.class);
 
         // Token Exception Handling
         http.exceptionHandling(except -> except
@@ -121,12 +124,34 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(tokenProvider, excludeAuthPathProperties, refreshTokenService, tokenWhitelistService);
+        return new JwtAuthenticationFilter(tokenProvider, routePolicyRegistry, refreshTokenService, tokenWhitelistService);
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter(rateLimitProperties, redisRateLimiter, objectMapper, meterRegistry);
+    }
+
+    /**
+     * 인그레스 auth-request 는 Security 체인보다 먼저 서블릿 필터에서 응답
+     */
+    @Bean
+    public FilterRegistrationBean<AuthVerifyFilter> authVerifyFilter(TokenBlacklistService tokenBlacklistService,
+                                                                     UserService userService,
+                                                                     AuthVerifyProperties authVerifyProperties) {
+        AuthVerifyFilter filter = new AuthVerifyFilter(tokenProvider, tokenWhitelistService, tokenBlacklistService,
+                userService, authVerifyProperties, meterRegistry);
+        FilterRegistrationBean<AuthVerifyFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns(authVerifyProperties.getPath());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
     }
 
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties) {
+        // 강도는 기동 시 측정, 해시는 요청 스레드가 아닌 전용 격벽에서 실행
+        return new BulkheadPasswordEncoder(
+                PasswordHashCalibrator.createEncoder(passwordHashingProperties), passwordHashingProperties, meterRegistry);
     }
 }
 
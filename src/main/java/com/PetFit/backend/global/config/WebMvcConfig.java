@@ -1,16 +1,19 @@
 package com.PetFit.backend.global.config;
 
 import java.util.List;
+import java.util.Locale;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
 
 import com.PetFit.backend.global.interceptor.JwtBlacklistInterceptor;
 import com.PetFit.backend.global.resolver.CurrentUserArgumentResolver;
 import com.PetFit.backend.global.resolver.RefreshTokenArgumentResolver;
-import com.PetFit.backend.global.security.ExcludeBlacklistPathProperties;
 import com.PetFit.backend.global.security.TokenProvider;
 
 import lombok.RequiredArgsConstructor;
@@ -21,7 +24,16 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     private final TokenProvider tokenProvider;
     private final JwtBlacklistInterceptor jwtBlacklistInterceptor;
-    private final ExcludeBlacklistPathProperties excludeBlacklistPathProperties;
+
+    /**
+     * Accept-Language 가 없으면 JVM 기본 언어 대신 한국어 (메일 템플릿 등)
+     */
+    @Bean
+    public LocaleResolver localeResolver() {
+        AcceptHeaderLocaleResolver resolver = new AcceptHeaderLocaleResolver();
+        resolver.setDefaultLocale(Locale.KOREAN);
+        return resolver;
+    }
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
@@ -33,7 +45,7 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(jwtBlacklistInterceptor)
-                .excludePathPatterns(excludeBlacklistPathProperties.getExcludeAuthPaths());
+        // 블랙리스트 검사 대상은 인터셉터가 RoutePolicyRegistry 로 판단
+        registry.addInterceptor(jwtBlacklistInterceptor);
     }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.PetFit.backend.global.config.properties;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "auth.verify")
+public class AuthVerifyProperties {
+    // false 면 필터를 건너뛰고 AuthController 의 /verify 로 처리
+    private boolean enabled = true;
+    // auth-request 를 처리할 경로
+    private String path = "/api/auth/verify";
+    // 인그레스가 허용 결과를 캐시해도 되는 시간 (토큰 만료가 더 빠르면 만료까지, 0 이면 캐시 금지)
+    private Duration cacheMaxAge = Duration.ofSeconds(5);
+}
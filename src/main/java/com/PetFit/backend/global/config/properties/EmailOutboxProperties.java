@@ -0,0 +1,26 @@
+package com.PetFit.backend.global.config.properties;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "email.outbox")
+public class EmailOutboxProperties {
+    // 발송 대기열 크기 (가득 차면 요청을 거절)
+    private int queueCapacity = 1000;
+    // 발송 워커 수
+    private int workers = 2;
+    // 워커가 한 번에 꺼내 같은 SMTP 연결로 보내는 최대 메일 수
+    private int batchSize = 20;
+    // 최대 발송 시도 횟수 (첫 시도 포함)
+    private int maxAttempts = 3;
+    // 재시도 대기 시간 (시도마다 2배, 최대 maxBackoff, ±50% 지터)
+    private Duration initialBackoff = Duration.ofSeconds(1);
+    private Duration maxBackoff = Duration.ofSeconds(30);
+    // 종료 시 남은 메일을 보내기 위해 기다리는 시간
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+    // 실패 메일 보관 개수
+    private int deadLetterMaxSize = 1000;
+}
@@ -0,0 +1,19 @@
+package com.PetFit.backend.global.config.properties;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "email.pool")
+public class EmailPoolProperties {
+    // 동시에 열어 둘 수 있는 최대 SMTP 연결 수
+    private int maxSize = 4;
+    // 연결을 빌리기 위해 기다리는 최대 시간
+    private Duration maxWait = Duration.ofSeconds(5);
+    // 이 시간 이상 쓰지 않은 연결은 닫는다 (SMTP 서버의 유휴 타임아웃보다 짧게)
+    private Duration maxIdle = Duration.ofSeconds(30);
+    // 빌릴 때 NOOP 으로 연결 상태 확인
+    private boolean testOnBorrow = true;
+}
@@ -0,0 +1,51 @@
+package com.PetFit.backend.global.config.properties;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "jwt.signing")
+public class JwtSigningProperties {
+    // HS256: keys 의 비밀 키 (비어 있으면 jwt.key 하나, kid 없음), ES256: keys 의 EC(P-256) 키 쌍
+    private SignatureAlgorithm algorithm = SignatureAlgorithm.HS256;
+    // 새 토큰에 서명할 키
+    private String activeKid;
+    // 키 목록, 교체된 키는 retired-at 을 적어 두면 토큰이 모두 만료될 때까지 검증과 JWKS 공개를 유지
+    private List<Key> keys = new ArrayList<>();
+    // 키 링 도입 전에 발급된 kid 없는 토큰(jwt.key 서명)을 검증할 마지막 시각 (전환 시각 + 가장 긴 토큰 유효기간)
+    // 비어 있으면 검증하지 않는다
+    private Instant acceptUnkeyedUntil;
+    // JWKS 응답 캐시 시간
+    private Duration jwksMaxAge = Duration.ofMinutes(10);
+    // 재기동 없이 키를 교체할 Redis 원본
+    private Redis redis = new Redis();
+
+    @Data
+    public static class Key {
+        private String kid;
+        // HS256 비밀 키 (32바이트 이상)
+        private String secret;
+        // ES256 PKCS#8 PEM (서명하지 않는 키는 생략)
+        private String privateKey;
+        // ES256 X.509 PEM
+        private String publicKey;
+        // 서명 키에서 내려온 시각
+        private Instant retiredAt;
+    }
+
+    @Data
+    public static class Redis {
+        // 켜면 기동 시와 채널 알림 시 Redis 의 키 설정(JSON)으로 교체, 없으면 위 설정을 그대로 사용
+        private boolean enabled = false;
+        private String key = "JWT:SIGNING_KEYS";
+        private String channel = "jwt-signing-keys";
+        // 모르는 kid 로 Redis 를 다시 읽는 최소 간격 (알림을 놓친 노드 복구용)
+        private Duration minReloadInterval = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,30 @@
+package com.PetFit.backend.global.config.properties;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "password.hashing")
+public class PasswordHashingProperties {
+    // 해시 전용 스레드 수 (0 이면 CPU 코어 수)
+    private int threads = 0;
+    // 대기열 크기 (가득 차면 즉시 거절)
+    private int queueCapacity = 64;
+    // 대기 + 해시 최대 시간 (넘으면 거절)
+    private Duration maxWait = Duration.ofSeconds(2);
+    // BCrypt 강도 (0 이면 기동 시 targetLatency 에 맞춰 측정)
+    private int strength = 0;
+    // 해시 한 번에 쓸 목표 시간
+    private Duration targetLatency = Duration.ofMillis(250);
+    // 측정 결과와 관계없이 지킬 최소/최대 강도
+    private int minStrength = 10;
+    private int maxStrength = 14;
+    // 로그인 성공 시 현재 강도보다 약한 해시를 백그라운드에서 다시 해시
+    private boolean rehashOnLogin = true;
+
+    public int resolveThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,41 @@
+package com.PetFit.backend.global.config.properties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.PetFit.backend.global.ratelimit.RateLimitKeyType;
+
+@Data
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    // 노드별 로컬 버킷 최대 개수 (IP 가 많아져도 메모리 상한 유지)
+    private long maxLocalBuckets = 100_000;
+    // 이 시간 동안 요청이 없으면 로컬 버킷 제거 (버킷이 가득 찬 것과 같음)
+    private Duration bucketIdleTimeout = Duration.ofMinutes(10);
+    // 키 추출을 위해 읽는 요청 본문 최대 크기
+    private int maxBodyBytes = 4096;
+    private List<Route> routes = new ArrayList<>();
+
+    /**
+     * 경로별 토큰 버킷
+     * 같은 경로에 여러 규칙(IP, 사용자 ID 등)을 둘 수 있으며 모두 통과해야 한다.
+     */
+    @Data
+    public static class Route {
+        private String pathPattern;
+        private String method;
+        private RateLimitKeyType key = RateLimitKeyType.IP;
+        // 버킷 크기 (순간 허용량)
+        private int capacity;
+        // refillPeriod 마다 채워지는 토큰 수
+        private int refillTokens;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+        // true 면 로컬 버킷 통과 후 Redis 버킷으로 전체 노드 합산 제한
+        private boolean global = false;
+    }
+}
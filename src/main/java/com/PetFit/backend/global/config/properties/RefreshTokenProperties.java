@@ -0,0 +1,13 @@
+package com.PetFit.backend.global.config.properties;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "token.refresh")
+public class RefreshTokenProperties {
+    // 직전 리프레시 토큰이 이 시간 안에 다시 오면 동시 재발급으로 보고 재사용으로 처리하지 않는다
+    private Duration reuseGrace = Duration.ofSeconds(10);
+}
@@ -0,0 +1,21 @@
+package com.PetFit.backend.global.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "token.blacklist")
+public class TokenBlacklistProperties {
+    // 블랙리스트 추가 이벤트를 전파할 Redis 채널
+    private String channel = "token-blacklist";
+    // 구독이 끊겼을 때 Redis 를 직접 조회할지 여부 (false 면 로컬 캐시로만 판단)
+    private boolean fallbackToRedis = true;
+    // 필터 버킷 수 (최대 토큰 유효 기간을 이 수 - 1 로 나눈 구간마다 버킷 하나)
+    private int bucketCount = 15;
+    // 버킷당 예상 블랙리스트 수
+    private long expectedInsertions = 100_000;
+    // 버킷당 목표 오탐률
+    private double falsePositiveRate = 0.001;
+    // 기동 시 토큰 원문 키로 저장된 이전 블랙리스트를 토큰 ID 키로 옮길지 여부
+    private boolean migrateLegacyKeys = false;
+}
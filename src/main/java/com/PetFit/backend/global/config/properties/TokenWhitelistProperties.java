@@ -0,0 +1,15 @@
+package com.PetFit.backend.global.config.properties;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "token.whitelist")
+public class TokenWhitelistProperties {
+    // 로컬 캐시에 보관할 최대 토큰 수
+    private long maximumSize = 10_000;
+    // 캐시 유지 시간 (토큰 만료 시각이 더 빠르면 만료 시각까지)
+    private Duration ttl = Duration.ofSeconds(30);
+}
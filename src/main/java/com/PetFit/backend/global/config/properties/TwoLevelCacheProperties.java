@@ -0,0 +1,23 @@
+package com.PetFit.backend.global.config.properties;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "cache.two-level")
+public class TwoLevelCacheProperties {
+    // 캐시별 로컬(L1) 최대 항목 수
+    private long localMaximumSize = 10_000;
+    // 로컬 캐시 유지 시간 (무효화 메시지를 놓쳤을 때 오래된 값이 남는 최대 시간)
+    private Duration localTtl = Duration.ofSeconds(30);
+    // Redis(L2) 유지 시간
+    private Duration redisTtl = Duration.ofMinutes(10);
+    // evict 후 삭제 표시를 유지하는 시간 (그동안 이전 값을 읽은 요청이 다시 채우지 못한다)
+    private Duration tombstoneTtl = Duration.ofSeconds(10);
+    // Redis 키 접두사 ("CACHE:user:<key>")
+    private String keyPrefix = "CACHE:";
+    // 로컬 캐시 무효화를 다른 노드에 전파하는 채널
+    private String channel = "cache-invalidation";
+}
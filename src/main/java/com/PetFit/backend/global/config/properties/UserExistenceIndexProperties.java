@@ -0,0 +1,18 @@
+package com.PetFit.backend.global.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "user.existence-index")
+public class UserExistenceIndexProperties {
+    private boolean enabled = true;
+    // 필드별 예상 사용자 수 (적재 시 실제 수의 2배보다 작으면 늘린다)
+    private long expectedInsertions = 1_000_000;
+    // 목표 오탐률 (오탐이면 DB 로 확인)
+    private double falsePositiveRate = 0.01;
+    // 기동 시 적재 페이지 크기
+    private int warmupPageSize = 1_000;
+    // 가입 이벤트를 다른 노드에 전파하는 채널
+    private String channel = "user-existence";
+}
@@ -48,6 +48,21 @@ public class ExceptionAdvice extends ResponseEntityExceptionHandler {
         return handleExceptionInternal(errorCode);
     }
 
+    /*
+     * 요청 제한 예외 처리 (Retry-After 헤더 포함)
+     */
+    @ExceptionHandler(value = RateLimitedApiException.class)
+    public ResponseEntity<BaseResponse<String>> handleRateLimitedApiException(RateLimitedApiException e) {
+        log.warn("[handleRateLimited] code={} retryAfter={}", e.getErrorCode().getCode(), e.getRetryAfter());
+        BaseCode errorCode = e.getErrorCode();
+        // 초 단위 올림 (0 초면 바로 재시도하게 되므로 최소 1 초)
+        long retryAfterSeconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity
+                .status(errorCode.getHttpStatus().value())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(BaseResponse.onFailure(errorCode.getCode(), errorCode.getMessage(), null));
+    }
+
     /*
      * DataIntegrityViolationException 발생 시 예외 처리
      * 데이터베이스 제약조건 위반 시 발생
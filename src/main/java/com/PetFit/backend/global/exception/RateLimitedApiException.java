@@ -0,0 +1,21 @@
+package com.PetFit.backend.global.exception;
+
+import java.time.Duration;
+
+import com.PetFit.backend.global.exception.code.BaseCodeInterface;
+
+import lombok.Getter;
+
+/**
+ * 요청 제한으로 거절된 경우의 REST API 예외 (Retry-After 헤더로 재시도 시간을 알려준다)
+ */
+@Getter
+public class RateLimitedApiException extends RestApiException {
+
+    private final Duration retryAfter;
+
+    public RateLimitedApiException(BaseCodeInterface errorCode, Duration retryAfter) {
+        super(errorCode);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -2,7 +2,9 @@ package com.PetFit.backend.global.interceptor;
 
 import com.PetFit.backend.auth.domain.auth.domain.service.TokenBlacklistService;
 import com.PetFit.backend.global.exception.RestApiException;
+import com.PetFit.backend.global.security.RoutePolicyRegistry;
 import com.PetFit.backend.global.security.TokenProvider;
+import com.PetFit.backend.global.security.VerifiedToken;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -18,13 +20,24 @@ public class JwtBlacklistInterceptor implements HandlerInterceptor {
 
     private final TokenProvider tokenProvider;
     private final TokenBlacklistService tokenBlacklistService;
+    private final RoutePolicyRegistry routePolicyRegistry;
 
     @Override
     public boolean preHandle(HttpServletRequest req, HttpServletResponse res, Object handler) {
-        String token = tokenProvider.getToken(req)
-                .orElseThrow(() -> new RestApiException(EMPTY_JWT));
+        if (!routePolicyRegistry.classify(req).checksBlacklist()) {
+            return true;
+        }
+
+        // 필터에서 검증한 토큰이 있으면 재사용
+        VerifiedToken verifiedToken = tokenProvider.getVerifiedToken(req).orElse(null);
+        if (verifiedToken == null) {
+            tokenProvider.getToken(req)
+                    .orElseThrow(() -> new RestApiException(EMPTY_JWT));
+            // 검증되지 않은 토큰은 블랙리스트에 오를 수 없다
+            return true;
+        }
 
-        boolean isBlack = tokenBlacklistService.isBlacklistToken(token);
+        boolean isBlack = tokenBlacklistService.isBlacklistToken(verifiedToken);
         if (isBlack) {
             throw new RestApiException(EXPIRED_MEMBER_JWT);
         }
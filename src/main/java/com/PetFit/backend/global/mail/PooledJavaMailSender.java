@@ -0,0 +1,202 @@
+package com.PetFit.backend.global.mail;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import com.PetFit.backend.global.config.properties.EmailPoolProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증까지 마친 SMTP 연결을 풀에 보관해 재사용하는 JavaMailSender
+ * 기본 구현은 send 호출마다 연결, STARTTLS, 인증을 새로 수행한다.
+ * 한 번의 send 로 넘어온 메시지들은 같은 연결로 보내고, 유휴 시간이 지난 연결은 주기적으로 닫는다.
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private static final String HEADER_MESSAGE_ID = "Message-ID";
+    private static final String METRIC_PREFIX = "email.smtp";
+
+    private final EmailPoolProperties properties;
+    private final BlockingDeque<IdleTransport> idleTransports = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final ScheduledExecutorService evictor;
+
+    private final Counter handshakeCounter;
+    private final Timer sendTimer;
+
+    public PooledJavaMailSender(EmailPoolProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.permits = new Semaphore(properties.getMaxSize());
+
+        this.handshakeCounter = Counter.builder(METRIC_PREFIX + ".handshakes")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder(METRIC_PREFIX + ".send")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".pool.idle", idleTransports, BlockingDeque::size)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".pool.active", this,
+                        sender -> properties.getMaxSize() - sender.permits.availablePermits())
+                .register(meterRegistry);
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "smtp-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1000, properties.getMaxIdle().toMillis() / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        Transport transport;
+        try {
+            transport = borrow();
+        } catch (AuthenticationFailedException ex) {
+            throw new MailAuthenticationException(ex);
+        } catch (Exception ex) {
+            // 연결 자체가 실패하면 모든 메시지 실패
+            for (int i = 0; i < mimeMessages.length; i++) {
+                failedMessages.put(originalMessages != null ? originalMessages[i] : mimeMessages[i], ex);
+            }
+            throw new MailSendException("Mail server connection failed", ex, failedMessages);
+        }
+
+        boolean reusable = true;
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                MimeMessage mimeMessage = mimeMessages[i];
+                Timer.Sample sample = Timer.start();
+                try {
+                    if (mimeMessage.getSentDate() == null) {
+                        mimeMessage.setSentDate(new Date());
+                    }
+                    String messageId = mimeMessage.getMessageID();
+                    mimeMessage.saveChanges();
+                    if (messageId != null) {
+                        mimeMessage.setHeader(HEADER_MESSAGE_ID, messageId);
+                    }
+                    Address[] addresses = mimeMessage.getAllRecipients();
+                    transport.sendMessage(mimeMessage, addresses != null ? addresses : new Address[0]);
+                } catch (Exception ex) {
+                    failedMessages.put(originalMessages != null ? originalMessages[i] : mimeMessage, ex);
+                    // 수신자 거부가 아닌 오류는 연결 상태를 알 수 없으므로 재사용하지 않는다
+                    if (!(ex instanceof jakarta.mail.SendFailedException)) {
+                        reusable = false;
+                    }
+                } finally {
+                    sample.stop(sendTimer);
+                }
+            }
+        } finally {
+            if (reusable) {
+                release(transport);
+            } else {
+                invalidate(transport);
+            }
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        evictor.shutdownNow();
+        IdleTransport idle;
+        while ((idle = idleTransports.pollFirst()) != null) {
+            closeQuietly(idle.transport());
+        }
+    }
+
+    private Transport borrow() throws MessagingException, InterruptedException {
+        if (!permits.tryAcquire(properties.getMaxWait().toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new MessagingException("SMTP connection pool exhausted");
+        }
+        try {
+            IdleTransport idle;
+            // 최근에 쓴 연결부터 (LIFO) 꺼내 오래된 연결이 자연스럽게 만료되도록 한다
+            while ((idle = idleTransports.pollFirst()) != null) {
+                if (isExpired(idle)) {
+                    closeQuietly(idle.transport());
+                    continue;
+                }
+                // SMTPTransport.isConnected 는 NOOP 을 보내 연결 상태를 확인한다
+                if (properties.isTestOnBorrow() && !idle.transport().isConnected()) {
+                    closeQuietly(idle.transport());
+                    continue;
+                }
+                return idle.transport();
+            }
+            Transport transport = connectTransport();
+            handshakeCounter.increment();
+            return transport;
+        } catch (MessagingException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    private void release(Transport transport) {
+        idleTransports.offerFirst(new IdleTransport(transport, System.nanoTime()));
+        permits.release();
+    }
+
+    private void invalidate(Transport transport) {
+        closeQuietly(transport);
+        permits.release();
+    }
+
+    private void evictIdle() {
+        // 가장 오래된 연결은 뒤쪽에 있다
+        IdleTransport oldest;
+        while ((oldest = idleTransports.peekLast()) != null && isExpired(oldest)) {
+            if (idleTransports.removeLastOccurrence(oldest)) {
+                closeQuietly(oldest.transport());
+            }
+        }
+    }
+
+    private boolean isExpired(IdleTransport idle) {
+        return System.nanoTime() - idle.lastUsedNanos() > properties.getMaxIdle().toNanos();
+    }
+
+    private static void closeQuietly(Transport transport) {
+        try {
+            transport.close();
+        } catch (Exception ex) {
+            log.debug("[SmtpPool] close failed: {}", ex.getMessage());
+        }
+    }
+
+    private record IdleTransport(Transport transport, long lastUsedNanos) {
+    }
+}
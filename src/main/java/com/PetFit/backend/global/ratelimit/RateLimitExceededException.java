@@ -0,0 +1,14 @@
+package com.PetFit.backend.global.ratelimit;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final RateLimitResult result;
+
+    public RateLimitExceededException(String message, RateLimitResult result) {
+        super(message);
+        this.result = result;
+    }
+}
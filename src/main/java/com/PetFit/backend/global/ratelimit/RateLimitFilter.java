@@ -0,0 +1,302 @@
+package com.PetFit.backend.global.ratelimit;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.PetFit.backend.global.common.BaseResponse;
+import com.PetFit.backend.global.config.properties.RateLimitProperties;
+import com.PetFit.backend.global.exception.code.BaseCode;
+import com.PetFit.backend.global.exception.code.status.GlobalErrorStatus;
+import com.PetFit.backend.global.security.RoutePatternMatcher;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 경로별 토큰 버킷 요청 제한
+ * JwtAuthenticationFilter 앞에서 실행되어 로그인(BCrypt) 등 비싼 처리 전에 429 로 거절한다.
+ * 노드 로컬 버킷을 먼저 확인하고, global 규칙만 Redis 버킷까지 확인한다.
+ * Redis 장애 시에는 로컬 버킷만으로 판단한다.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String BUCKET_PREFIX = "RATE_LIMIT:";
+    private static final String USER_ID_FIELD = "userId";
+
+    private final RateLimitProperties properties;
+    private final RedisRateLimiter redisRateLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final RoutePatternMatcher<List<Rule>> matcher;
+    private final Cache<BucketKey, TokenBucket> localBuckets;
+    private final Counter oversizedCounter;
+
+    public RateLimitFilter(RateLimitProperties properties,
+                           RedisRateLimiter redisRateLimiter,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redisRateLimiter = redisRateLimiter;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.matcher = compile(properties.getRoutes(), meterRegistry);
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxLocalBuckets())
+                .expireAfterAccess(properties.getBucketIdleTimeout())
+                .build();
+        this.oversizedCounter = Counter.builder("rate.limit.oversized").register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        List<Rule> rules = matcher.match(HttpMethod.valueOf(request.getMethod()), request.getRequestURI());
+        if (rules == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest target = request;
+        String userId = null;
+        if (requiresUserId(rules)) {
+            CachedBodyRequest cached = CachedBodyRequest.wrap(request, properties.getMaxBodyBytes());
+            if (!cached.isComplete()) {
+                // 본문을 부풀려 사용자 ID 규칙을 피하지 못하도록 키를 읽을 수 없는 본문은 거절
+                oversizedCounter.increment();
+                log.warn("[RateLimit] body too large {} {}", request.getMethod(), request.getRequestURI());
+                writeError(response, GlobalErrorStatus._PAYLOAD_TOO_LARGE.getCode());
+                return;
+            }
+            userId = readUserId(cached.getCachedBody());
+            target = cached;
+        }
+
+        long now = System.nanoTime();
+        for (Rule rule : rules) {
+            String key = rule.keyType() == RateLimitKeyType.IP ? request.getRemoteAddr() : userId;
+            if (key == null || key.isBlank()) {
+                continue;
+            }
+            Duration wait = tryConsume(rule, key, now);
+            if (!wait.isZero()) {
+                rule.rejected().increment();
+                log.warn("[RateLimit] rejected {} {} key={} retryAfter={}",
+                        request.getMethod(), request.getRequestURI(), rule.keyType(), wait);
+                reject(response, wait);
+                return;
+            }
+        }
+        filterChain.doFilter(target, response);
+    }
+
+    private Duration tryConsume(Rule rule, String key, long now) {
+        TokenBucket bucket = localBuckets.get(new BucketKey(rule.id(), key),
+                k -> new TokenBucket(rule.capacity(), rule.refillTokens(), rule.refillPeriod().toNanos(), now));
+        long waitNanos = bucket.tryConsume(now);
+        if (waitNanos > 0) {
+            return Duration.ofNanos(waitNanos);
+        }
+        if (!rule.global()) {
+            return Duration.ZERO;
+        }
+        try {
+            return redisRateLimiter.tryConsume(BUCKET_PREFIX + rule.id() + ":" + key,
+                    rule.capacity(), rule.refillTokens(), rule.refillPeriod());
+        } catch (Exception e) {
+            log.warn("[RateLimit] global bucket unavailable, local only: {}", e.getMessage());
+            return Duration.ZERO;
+        }
+    }
+
+    private void reject(HttpServletResponse response, Duration wait) throws IOException {
+        // 초 단위 올림
+        long retryAfterSeconds = Math.max(1, (wait.toMillis() + 999) / 1000);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        writeError(response, GlobalErrorStatus._TOO_MANY_REQUEST.getCode());
+    }
+
+    private void writeError(HttpServletResponse response, BaseCode errorCode) throws IOException {
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                BaseResponse.onFailure(errorCode.getCode(), errorCode.getMessage(), null));
+    }
+
+    private String readUserId(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode userId = objectMapper.readTree(body).get(USER_ID_FIELD);
+            return userId != null && userId.isTextual() ? userId.asText() : null;
+        } catch (IOException e) {
+            // 본문 오류는 컨트롤러의 검증에 맡긴다
+            return null;
+        }
+    }
+
+    private static boolean requiresUserId(List<Rule> rules) {
+        for (Rule rule : rules) {
+            if (rule.keyType() == RateLimitKeyType.USER_ID) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static RoutePatternMatcher<List<Rule>> compile(List<RateLimitProperties.Route> routes,
+                                                          MeterRegistry meterRegistry) {
+        // 같은 (메서드, 경로) 의 규칙은 한 목록으로 묶는다
+        Map<String, List<Rule>> grouped = new LinkedHashMap<>();
+        Map<String, RateLimitProperties.Route> firstRoutes = new LinkedHashMap<>();
+        for (int i = 0; i < routes.size(); i++) {
+            RateLimitProperties.Route route = routes.get(i);
+            String routeKey = route.getMethod() + " " + route.getPathPattern();
+            Counter rejected = Counter.builder("rate.limit.rejected")
+                    .tag("route", routeKey)
+                    .tag("key", route.getKey().name())
+                    .register(meterRegistry);
+            grouped.computeIfAbsent(routeKey, k -> new ArrayList<>()).add(new Rule(
+                    i, route.getKey(), route.getCapacity(), route.getRefillTokens(), route.getRefillPeriod(),
+                    route.isGlobal(), rejected));
+            firstRoutes.putIfAbsent(routeKey, route);
+        }
+        RoutePatternMatcher.Builder<List<Rule>> builder = RoutePatternMatcher.builder();
+        grouped.forEach((routeKey, rules) -> {
+            RateLimitProperties.Route route = firstRoutes.get(routeKey);
+            builder.add(HttpMethod.valueOf(route.getMethod()), route.getPathPattern(), List.copyOf(rules));
+        });
+        return builder.build();
+    }
+
+    private record Rule(int id, RateLimitKeyType keyType, int capacity, int refillTokens, Duration refillPeriod,
+                        boolean global, Counter rejected) {
+    }
+
+    private record BucketKey(int ruleId, String key) {
+    }
+
+    /**
+     * 키 추출을 위해 본문 앞부분을 읽어 두고, 이후 필터와 컨트롤러가 본문 전체를 다시 읽을 수 있게 한다.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] cachedBody;
+        private final boolean complete;
+        private InputStream remaining;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] cachedBody, boolean complete,
+                                  InputStream remaining) {
+            super(request);
+            this.cachedBody = cachedBody;
+            this.complete = complete;
+            this.remaining = remaining;
+        }
+
+        static CachedBodyRequest wrap(HttpServletRequest request, int maxBytes) throws IOException {
+            InputStream in = request.getInputStream();
+            byte[] head = in.readNBytes(maxBytes);
+            // maxBytes 를 다 채웠다면 뒤에 더 있을 수 있다
+            boolean complete = head.length < maxBytes;
+            return new CachedBodyRequest(request, head, complete, complete ? null : in);
+        }
+
+        byte[] getCachedBody() {
+            return cachedBody;
+        }
+
+        boolean isComplete() {
+            return complete;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            InputStream body = new ByteArrayInputStream(cachedBody);
+            if (remaining != null) {
+                body = new SequenceInputStream(body, remaining);
+                remaining = null;
+            }
+            return new BodyInputStream(body);
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+
+    private static final class BodyInputStream extends ServletInputStream {
+        private final InputStream delegate;
+        private boolean finished;
+
+        private BodyInputStream(InputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            finished = b < 0;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = delegate.read(buffer, offset, length);
+            finished = read < 0;
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.PetFit.backend.global.ratelimit;
+
+/**
+ * 요청 제한 키
+ * IP 는 클라이언트 주소 (server.forward-headers-strategy=native 로 신뢰 프록시가 보낸 X-Forwarded-For 반영),
+ * USER_ID 는 JSON 요청 본문의 userId 필드이며 값이 없으면 해당 규칙은 건너뛴다.
+ * USER_ID 규칙이 있는 경로는 rate-limit.max-body-bytes 를 넘는 본문을 413 으로 거절한다.
+ */
+public enum RateLimitKeyType {
+    IP,
+    USER_ID
+}
@@ -0,0 +1,22 @@
+package com.PetFit.backend.global.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 요청 제한 판정 결과
+ * @param outcome 허용 또는 거절 사유
+ * @param remaining 이번 시도 이후 기간 내 남은 횟수
+ * @param retryAfter 거절된 경우 다시 시도할 수 있을 때까지 남은 시간 (허용이면 0)
+ */
+public record RateLimitResult(Outcome outcome, long remaining, Duration retryAfter) {
+
+    public enum Outcome {
+        ALLOWED,
+        COOLDOWN,
+        LIMIT_EXCEEDED
+    }
+
+    public boolean isAllowed() {
+        return outcome == Outcome.ALLOWED;
+    }
+}
@@ -0,0 +1,20 @@
+package com.PetFit.backend.global.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 요청 제한 규칙
+ * @param cooldown 허용 후 다음 시도까지 기다려야 하는 시간 (0 이면 쿨다운 없음)
+ * @param limit 기간 내 최대 허용 횟수
+ * @param window 한도 기간 (첫 시도부터)
+ */
+public record RateLimitRule(Duration cooldown, int limit, Duration window) {
+
+    public static RateLimitRule of(int limit, Duration window) {
+        return new RateLimitRule(Duration.ZERO, limit, window);
+    }
+
+    public boolean hasCooldown() {
+        return !cooldown.isZero() && !cooldown.isNegative();
+    }
+}
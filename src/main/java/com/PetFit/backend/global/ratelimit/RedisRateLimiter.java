@@ -0,0 +1,94 @@
+package com.PetFit.backend.global.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis 기반 요청 제한
+ * 쿨다운 확인, 기간 한도 확인, 시도 기록을 Lua 스크립트 한 번으로 처리하므로
+ * 왕복이 한 번이고 동시 요청이 한도를 넘어 허용되지 않는다.
+ * 전체 노드 공용 토큰 버킷도 같은 방식으로 제공한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisRateLimiter {
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/rate-limit.lua"), List.class);
+    private static final RedisScript<Long> REFUND_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/rate-limit-refund.lua"), Long.class);
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/token-bucket.lua"), Long.class);
+    private static final RateLimitResult.Outcome[] OUTCOMES = RateLimitResult.Outcome.values();
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 쿨다운 없이 기간 한도만 적용
+     * @param limitKey 한도 카운터 키
+     */
+    public RateLimitResult tryAcquire(String limitKey, RateLimitRule rule) {
+        return tryAcquire(limitKey, null, rule);
+    }
+
+    /**
+     * 시도 한 번을 기록하고 허용 여부를 판정 (거절되면 기록하지 않음)
+     * @param limitKey 한도 카운터 키
+     * @param cooldownKey 쿨다운 키 (rule 에 쿨다운이 없으면 사용하지 않음)
+     */
+    public RateLimitResult tryAcquire(String limitKey, String cooldownKey, RateLimitRule rule) {
+        List<String> keys = rule.hasCooldown() ? List.of(limitKey, cooldownKey) : List.of(limitKey);
+        List<?> reply = redisTemplate.execute(SCRIPT, keys,
+                String.valueOf(rule.limit()),
+                String.valueOf(rule.window().toMillis()),
+                String.valueOf(rule.hasCooldown() ? rule.cooldown().toMillis() : 0));
+        if (reply == null || reply.size() < 4) {
+            throw new IllegalStateException("rate limit script returned no result");
+        }
+        return new RateLimitResult(
+                OUTCOMES[toInt(reply.get(3))],
+                toLong(reply.get(1)),
+                Duration.ofMillis(toLong(reply.get(2))));
+    }
+
+    /**
+     * tryAcquire 로 허용된 시도 한 번을 되돌리고 쿨다운을 푼다. (한 번의 스크립트로 처리)
+     * 허용 뒤 작업이 시작되지 못해 시도로 치지 않을 때 사용한다.
+     * @param cooldownKey 쿨다운 키 (쿨다운이 없으면 null)
+     */
+    public void refund(String limitKey, String cooldownKey) {
+        List<String> keys = cooldownKey != null ? List.of(limitKey, cooldownKey) : List.of(limitKey);
+        redisTemplate.execute(REFUND_SCRIPT, keys);
+    }
+
+    /**
+     * Redis 토큰 버킷에서 토큰 하나를 꺼낸다. (전체 노드 합산 제한)
+     * @return 0 이면 허용, 아니면 토큰이 생길 때까지 남은 시간
+     */
+    public Duration tryConsume(String bucketKey, int capacity, int refillTokens, Duration refillPeriod) {
+        Long wait = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(bucketKey),
+                String.valueOf(capacity),
+                String.valueOf(refillTokens),
+                String.valueOf(refillPeriod.toMillis()));
+        if (wait == null) {
+            throw new IllegalStateException("token bucket script returned no result");
+        }
+        return Duration.ofMillis(wait);
+    }
+
+    private static long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    private static int toInt(Object value) {
+        return ((Number) value).intValue();
+    }
+}
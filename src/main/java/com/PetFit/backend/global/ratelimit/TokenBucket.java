@@ -0,0 +1,46 @@
+package com.PetFit.backend.global.ratelimit;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 노드 로컬 토큰 버킷
+ * 시간이 지난 만큼 토큰을 채운 뒤 하나를 꺼낸다. 임계 구역은 계산뿐이라 블로킹이 없다.
+ * 가상 스레드가 모니터 진입을 기다리면 캐리어 스레드를 붙잡으므로 synchronized 대신 ReentrantLock 을 쓴다.
+ */
+public final class TokenBucket {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final long capacity;
+    private final double tokensPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(long capacity, long refillTokens, long refillPeriodNanos, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = (double) refillTokens / refillPeriodNanos;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * @return 0 이면 허용, 아니면 토큰이 생길 때까지 남은 시간 (ns)
+     */
+    public long tryConsume(long nowNanos) {
+        lock.lock();
+        try {
+            if (nowNanos > lastRefillNanos) {
+                tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * tokensPerNano);
+                lastRefillNanos = nowNanos;
+            }
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / tokensPerNano);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.PetFit.backend.global.resolver;
 
+import java.util.Optional;
+
 import org.springframework.core.MethodParameter;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -10,6 +12,7 @@ import com.PetFit.backend.global.annotation.CurrentUser;
 import com.PetFit.backend.global.exception.RestApiException;
 import static com.PetFit.backend.global.exception.code.status.GlobalErrorStatus._UNAUTHORIZED;
 import com.PetFit.backend.global.security.TokenProvider;
+import com.PetFit.backend.global.security.VerifiedToken;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -38,22 +41,18 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
             throw new RestApiException(_UNAUTHORIZED);
         }
 
-        String token = tokenProvider.getToken(request)
+        // 필터에서 검증한 토큰 재사용 (없을 때만 파싱)
+        VerifiedToken verifiedToken = tokenProvider.getVerifiedToken(request)
                 .orElseThrow(() -> {
                     return new RestApiException(_UNAUTHORIZED);
                 });
 
-        // 토큰 유효성 검증 추가
-        if (!tokenProvider.validateToken(token)) {
-            throw new RestApiException(_UNAUTHORIZED);
-        }
-
         // Access Token인지 확인
-        if (!tokenProvider.isAccessToken(token)) {
+        if (!verifiedToken.isAccessToken()) {
             throw new RestApiException(_UNAUTHORIZED);
         }
 
-        String userId = tokenProvider.getId(token)
+        String userId = Optional.ofNullable(verifiedToken.id())
                 .orElseThrow(() -> {
                     return new RestApiException(_UNAUTHORIZED);
                 });
@@ -3,6 +3,7 @@ package com.PetFit.backend.global.resolver;
 import com.PetFit.backend.global.annotation.RefreshToken;
 import com.PetFit.backend.global.exception.RestApiException;
 import com.PetFit.backend.global.security.TokenProvider;
+import com.PetFit.backend.global.security.VerifiedToken;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
@@ -12,6 +13,7 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 import static com.PetFit.backend.global.exception.code.status.AuthErrorStatus.INVALID_REFRESH_TOKEN;
+import static com.PetFit.backend.global.exception.code.status.AuthErrorStatus.UNSUPPORTED_JWT;
 import static com.PetFit.backend.global.exception.code.status.GlobalErrorStatus._UNAUTHORIZED;
 
 @RequiredArgsConstructor
@@ -39,15 +41,20 @@ public class RefreshTokenArgumentResolver implements HandlerMethodArgumentResolv
             throw new RestApiException(_UNAUTHORIZED);
         }
 
-        String token = tokenProvider.getToken(request)
+        // 헤더가 없으면 인증 정보 없음, 있는데 검증에 실패하면 잘못된 토큰
+        if (tokenProvider.getToken(request).isEmpty()) {
+            throw new RestApiException(_UNAUTHORIZED);
+        }
+
+        VerifiedToken verifiedToken = tokenProvider.getVerifiedToken(request)
                 .orElseThrow(() -> {
-                    return new RestApiException(_UNAUTHORIZED);
+                    return new RestApiException(UNSUPPORTED_JWT);
                 });
 
-        if (tokenProvider.isAccessToken(token)) {
+        if (verifiedToken.isAccessToken()) {
             throw new RestApiException(INVALID_REFRESH_TOKEN);
         }
 
-        return token;
+        return verifiedToken.token();
     }
 }
\ No newline at end of file
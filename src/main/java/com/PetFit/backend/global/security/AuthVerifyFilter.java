@@ -0,0 +1,127 @@
+package com.PetFit.backend.global.security;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.PetFit.backend.auth.domain.auth.domain.service.TokenBlacklistService;
+import com.PetFit.backend.auth.domain.auth.domain.service.TokenWhitelistService;
+import com.PetFit.backend.auth.domain.auth.domain.service.UserService;
+import com.PetFit.backend.global.config.properties.AuthVerifyProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Nginx Ingress auth-request 전용 토큰 검증 (POST /api/auth/verify)
+ * Spring Security 체인과 DispatcherServlet 앞에서 바로 응답하며, 본문 없이 204(X-User-Id) 또는 401 만 돌려준다.
+ * 토큰은 한 번만 파싱하고 화이트리스트, 블랙리스트 필터, 사용자 캐시 등 로컬 캐시로 판단한다.
+ * 허용 응답에는 Cache-Control 로 인그레스가 결과를 캐시해도 되는 시간을 알려 준다.
+ * (그만큼 로그아웃이 인그레스에 늦게 반영되므로 auth.verify.cache-max-age 는 수 초로 둔다)
+ */
+@Slf4j
+public class AuthVerifyFilter extends OncePerRequestFilter {
+
+    public static final String USER_ID_HEADER = "X-User-Id";
+    private static final String NO_STORE = "no-store";
+
+    private final TokenProvider tokenProvider;
+    private final TokenWhitelistService tokenWhitelistService;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final UserService userService;
+    private final AuthVerifyProperties properties;
+    private final long cacheMaxAgeSeconds;
+    private final Counter allowedCounter;
+    private final Counter deniedCounter;
+
+    public AuthVerifyFilter(TokenProvider tokenProvider,
+                            TokenWhitelistService tokenWhitelistService,
+                            TokenBlacklistService tokenBlacklistService,
+                            UserService userService,
+                            AuthVerifyProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.tokenWhitelistService = tokenWhitelistService;
+        this.tokenBlacklistService = tokenBlacklistService;
+        this.userService = userService;
+        this.properties = properties;
+        this.cacheMaxAgeSeconds = properties.getCacheMaxAge().toSeconds();
+        this.allowedCounter = Counter.builder("auth.verify.requests")
+                .tag("result", "allowed")
+                .register(meterRegistry);
+        this.deniedCounter = Counter.builder("auth.verify.requests")
+                .tag("result", "denied")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !HttpMethod.POST.matches(request.getMethod())
+                || !properties.getPath().equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        VerifiedToken verifiedToken = authenticate(request);
+        if (verifiedToken == null) {
+            deniedCounter.increment();
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, NO_STORE);
+            return;
+        }
+        allowedCounter.increment();
+        response.setStatus(HttpServletResponse.SC_NO_CONTENT);
+        response.setHeader(USER_ID_HEADER, verifiedToken.id());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(verifiedToken.getRemainingDuration()));
+    }
+
+    /**
+     * @return 유효한 액세스 토큰, 거절이면 null
+     */
+    private VerifiedToken authenticate(HttpServletRequest request) {
+        String token = tokenProvider.getToken(request).orElse(null);
+        if (token == null) {
+            log.debug("[AuthVerify] missing Authorization header");
+            return null;
+        }
+        VerifiedToken verifiedToken = tokenWhitelistService.find(token).orElse(null);
+        if (verifiedToken == null) {
+            verifiedToken = tokenProvider.verify(token).orElse(null);
+            if (verifiedToken == null) {
+                log.debug("[AuthVerify] invalid token");
+                return null;
+            }
+            tokenWhitelistService.whitelist(verifiedToken);
+        }
+        if (!verifiedToken.isAccessToken() || verifiedToken.id() == null) {
+            log.debug("[AuthVerify] not an access token");
+            return null;
+        }
+        if (tokenBlacklistService.isBlacklistToken(verifiedToken)) {
+            log.debug("[AuthVerify] blacklisted token");
+            return null;
+        }
+        // 탈퇴한 사용자의 토큰은 무효
+        if (!userService.isActiveUser(verifiedToken.id())) {
+            log.debug("[AuthVerify] unknown user");
+            return null;
+        }
+        return verifiedToken;
+    }
+
+    // 설정된 시간과 토큰의 남은 유효시간 중 짧은 쪽
+    String cacheControl(Duration remaining) {
+        long maxAge = Math.min(cacheMaxAgeSeconds, remaining.toSeconds());
+        return maxAge > 0 ? "private, max-age=" + maxAge : NO_STORE;
+    }
+}
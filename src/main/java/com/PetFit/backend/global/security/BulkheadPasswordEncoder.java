@@ -0,0 +1,144 @@
+package com.PetFit.backend.global.security;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.PetFit.backend.global.config.properties.PasswordHashingProperties;
+import com.PetFit.backend.global.exception.RateLimitedApiException;
+import static com.PetFit.backend.global.exception.code.status.GlobalErrorStatus._TOO_MANY_REQUEST;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시 전용 격벽 (bulkhead)
+ * BCrypt 는 의도적으로 느리므로 요청 스레드에서 바로 돌리면 로그인이 몰릴 때 모든 CPU 를 차지한다.
+ * CPU 코어 수만큼의 전용 스레드와 고정 크기 대기열에서만 해시하고, 대기열이 차거나 너무 오래 기다리면 429 로 거절한다.
+ * 대기 시간과 해시 시간은 따로 기록한다.
+ * 해시는 CPU 작업이라 가상 스레드 모드에서도 이 풀은 플랫폼 스레드로 두고, 요청(가상) 스레드는 결과를 기다리는 동안 캐리어를 내려놓는다.
+ */
+@Slf4j
+public class BulkheadPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final String METRIC_PREFIX = "password.hash";
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final PasswordEncoder delegate;
+    private final Duration maxWait;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer queueWaitTimer;
+    private final Timer matchesTimer;
+    private final Timer encodeTimer;
+    private final Counter rejectedCounter;
+
+    public BulkheadPasswordEncoder(PasswordEncoder delegate,
+                                   PasswordHashingProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxWait = properties.getMaxWait();
+        int threads = properties.resolveThreads();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.prestartAllCoreThreads();
+
+        this.queueWaitTimer = Timer.builder(METRIC_PREFIX + ".queue.wait")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder(METRIC_PREFIX + ".duration")
+                .tag("operation", "matches")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder(METRIC_PREFIX + ".duration")
+                .tag("operation", "encode")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        log.info("[PasswordHash] bulkhead threads={} queue={}", threads, properties.getQueueCapacity());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // 접두사만 보는 가벼운 검사라 격벽을 거치지 않는다
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Timer hashTimer, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            throw reject("queue full");
+        }
+
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 대기 중이면 대기열에서 빼서 CPU 를 쓰지 않게 한다
+            future.cancel(false);
+            throw reject("timeout");
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw reject("interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private RateLimitedApiException reject(String reason) {
+        rejectedCounter.increment();
+        log.warn("[PasswordHash] rejected: {} (queue={})", reason, executor.getQueue().size());
+        return new RateLimitedApiException(_TOO_MANY_REQUEST, RETRY_AFTER);
+    }
+}
@@ -2,14 +2,10 @@ package com.PetFit.backend.global.security;
 
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.time.Duration;
 
-import org.springframework.http.HttpMethod;
-import org.springframework.http.server.PathContainer;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.pattern.PathPatternParser;
 
 import com.PetFit.backend.auth.domain.auth.domain.service.RefreshTokenService;
 import com.PetFit.backend.auth.domain.auth.domain.service.TokenWhitelistService;
@@ -29,12 +25,10 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenProvider tokenProvider;
-    private final ExcludeAuthPathProperties excludeAuthPathProperties;
+    private final RoutePolicyRegistry routePolicyRegistry;
     private final RefreshTokenService refreshTokenService;
     private final TokenWhitelistService tokenWhitelistService;
 
-    private final PathPatternParser pathPatternParser = new PathPatternParser();
-
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         log.debug("[JwtAuthFilter] start: {} {}", request.getMethod(), request.getRequestURI());
         try {
@@ -50,24 +44,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                         return new RestApiException(EMPTY_JWT);
                     });
 
-            // 토큰 캐시 확인
-            if (tokenWhitelistService.isWhitelistToken(token)) {
+            // 토큰 캐시 확인 (로컬 캐시 적중 시 서명 검증 생략)
+            VerifiedToken cachedToken = tokenWhitelistService.find(token).orElse(null);
+            VerifiedToken verifiedToken;
+            if (cachedToken != null) {
                 log.debug("[JwtAuthFilter] token whitelisted");
-                setAuthentication(token);
-                filterChain.doFilter(request, response);
-                return;
+                verifiedToken = cachedToken;
+            } else {
+                // 토큰 검증 (요청당 한 번만 파싱)
+                verifiedToken = tokenProvider.verify(token)
+                        .orElseThrow(() -> {
+                            log.warn("[JwtAuthFilter] invalid token");
+                            return new RestApiException(INVALID_ACCESS_TOKEN);
+                        });
             }
-
-            // 토큰 검증
-            if (tokenProvider.validateToken(token)) {
+            // 리프레시 토큰은 재발급에만 쓴다 (교체된 리프레시 토큰을 블랙리스트에 올리지 않아도 되는 이유)
+            if (!verifiedToken.isAccessToken()) {
+                log.warn("[JwtAuthFilter] not an access token: {}", verifiedToken.subject());
+                throw new RestApiException(INVALID_ACCESS_TOKEN);
+            }
+            if (cachedToken == null) {
                 log.info("[JwtAuthFilter] token valid, authenticating user");
-                setAuthentication(token);
                 // 토큰 캐시
-                tokenWhitelistService.whitelist(token, Duration.ofSeconds(30));
-            } else {
-                log.warn("[JwtAuthFilter] invalid token");
-                throw new RestApiException(INVALID_ACCESS_TOKEN);
+                tokenWhitelistService.whitelist(verifiedToken);
             }
+            setAuthentication(request, verifiedToken);
 
             filterChain.doFilter(request, response);
         } catch (RestApiException e) {
@@ -86,21 +87,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     public boolean isExcludedPath(HttpServletRequest request) {
-        String requestPath = request.getRequestURI();
-        HttpMethod requestMethod = HttpMethod.valueOf(request.getMethod());
-
-        return excludeAuthPathProperties.getPaths().stream()
-                .anyMatch(authPath ->
-                        pathPatternParser.parse(authPath.getPathPattern())
-                                .matches(PathContainer.parsePath(requestPath))
-                                && requestMethod.equals(HttpMethod.valueOf(authPath.getMethod()))
-                );
+        return !routePolicyRegistry.classify(request).requiresAuthentication();
     }
 
-    private void setAuthentication(String token) {
-        if (tokenProvider.validateToken(token)) {
-            Authentication authentication = tokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-        }
+    private void setAuthentication(HttpServletRequest request, VerifiedToken verifiedToken) {
+        request.setAttribute(VerifiedToken.ATTRIBUTE, verifiedToken);
+        Authentication authentication = tokenProvider.getAuthentication(verifiedToken);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 }
\ No newline at end of file
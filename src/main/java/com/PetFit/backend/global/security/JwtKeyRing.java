@@ -0,0 +1,274 @@
+package com.PetFit.backend.global.security;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.PetFit.backend.global.config.properties.JwtSigningProperties;
+import com.PetFit.backend.global.util.TokenDigest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.WeakKeyException;
+
+/**
+ * kid -> 검증 키 목록과 현재 서명 키
+ * 만든 뒤에는 바뀌지 않으며, 키 교체는 TokenProvider 가 링을 통째로 바꾼다.
+ * kid 없는 토큰(키 링 도입 전 jwt.key 로 서명)은 accept-unkeyed-until 까지만 그 비밀 키로 검증한다.
+ * 교체된 키는 retired-at 부터 가장 긴 토큰 유효기간이 지날 때까지 검증과 JWKS 공개를 유지한다.
+ */
+public final class JwtKeyRing {
+
+    private static final Pattern KID_PATTERN = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+    private static final Pattern PEM_ARMOR = Pattern.compile("-----(BEGIN|END) [A-Z ]+-----|\\s");
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int P256_FIELD_BITS = 256;
+
+    private final SigningKey signingKey;
+    private final Key unkeyedKey;
+    private final Instant unkeyedUntil;
+    private final Map<String, Key> verificationKeys;
+    private final List<PublishedKey> publishedKeys;
+    private volatile JwkSet jwkSet;
+
+    private JwtKeyRing(SigningKey signingKey, Key unkeyedKey, Instant unkeyedUntil,
+                       Map<String, Key> verificationKeys, List<PublishedKey> publishedKeys) {
+        this.signingKey = signingKey;
+        this.unkeyedKey = unkeyedKey;
+        this.unkeyedUntil = unkeyedUntil;
+        this.verificationKeys = verificationKeys;
+        this.publishedKeys = publishedKeys;
+    }
+
+    /**
+     * 공유 비밀 키 하나로 서명/검증 (kid 없음, 공개할 키 없음)
+     */
+    public static JwtKeyRing hmac(String secret) {
+        Key key = hmacKey(secret);
+        return new JwtKeyRing(new SigningKey(null, key, SignatureAlgorithm.HS256), key, Instant.MAX, Map.of(), List.of());
+    }
+
+    /**
+     * 설정으로 키 링 구성
+     * @param secret 공유 비밀 키 (jwt.key)
+     * @param maxTokenLifetime 가장 긴 토큰 유효기간, 교체된 키를 유지할 기간
+     * @throws IllegalStateException 키 설정이 잘못된 경우
+     */
+    public static JwtKeyRing of(JwtSigningProperties properties, String secret, Duration maxTokenLifetime, Instant now) {
+        SignatureAlgorithm algorithm = properties.getAlgorithm();
+        if (algorithm != SignatureAlgorithm.HS256 && algorithm != SignatureAlgorithm.ES256) {
+            throw new IllegalStateException("unsupported jwt.signing.algorithm: " + algorithm);
+        }
+        if (algorithm == SignatureAlgorithm.HS256 && properties.getKeys().isEmpty()) {
+            return hmac(secret);
+        }
+
+        SigningKey signingKey = null;
+        Map<String, Key> verificationKeys = new HashMap<>();
+        List<PublishedKey> publishedKeys = new ArrayList<>();
+        for (JwtSigningProperties.Key entry : properties.getKeys()) {
+            String kid = entry.getKid();
+            if (kid == null || !KID_PATTERN.matcher(kid).matches()) {
+                throw new IllegalStateException("invalid jwt signing kid: " + kid);
+            }
+            Instant publishUntil = entry.getRetiredAt() != null ? entry.getRetiredAt().plus(maxTokenLifetime) : null;
+            if (publishUntil != null && !now.isBefore(publishUntil)) {
+                // 이 키로 서명한 토큰은 모두 만료
+                continue;
+            }
+            Key verificationKey = algorithm == SignatureAlgorithm.HS256
+                    ? hmacKey(kid, entry.getSecret())
+                    : ecPublicKey(kid, entry.getPublicKey());
+            if (verificationKeys.putIfAbsent(kid, verificationKey) != null) {
+                throw new IllegalStateException("duplicate jwt signing kid: " + kid);
+            }
+            // 비밀 키는 공개하지 않는다
+            if (verificationKey instanceof ECPublicKey publicKey) {
+                publishedKeys.add(new PublishedKey(kid, publicKey, publishUntil));
+            }
+
+            if (kid.equals(properties.getActiveKid())) {
+                if (entry.getRetiredAt() != null) {
+                    throw new IllegalStateException("active jwt signing key is retired: " + kid);
+                }
+                Key key = verificationKey instanceof ECPublicKey publicKey
+                        ? ecPrivateKey(kid, entry.getPrivateKey(), publicKey)
+                        : verificationKey;
+                signingKey = new SigningKey(kid, key, algorithm);
+            }
+        }
+        if (signingKey == null) {
+            throw new IllegalStateException("jwt.signing.active-kid not found: " + properties.getActiveKid());
+        }
+        Instant unkeyedUntil = properties.getAcceptUnkeyedUntil();
+        Key unkeyedKey = unkeyedUntil != null && now.isBefore(unkeyedUntil) && secret != null ? hmacKey(secret) : null;
+        return new JwtKeyRing(signingKey, unkeyedKey, unkeyedUntil, Map.copyOf(verificationKeys), List.copyOf(publishedKeys));
+    }
+
+    public SigningKey signingKey() {
+        return signingKey;
+    }
+
+    /**
+     * @param kid 토큰 헤더의 kid (없으면 null)
+     * @return 검증 키, 모르는 kid 거나 kid 없는 토큰의 검증 기간이 끝났으면 null
+     */
+    public Key resolve(String kid) {
+        if (kid == null) {
+            // 링은 키 교체 때만 다시 만들므로 기간은 검증 시점에 확인한다
+            return unkeyedKey != null && Instant.now().isBefore(unkeyedUntil) ? unkeyedKey : null;
+        }
+        return verificationKeys.get(kid);
+    }
+
+    /**
+     * 공개 키 목록 (RFC 7517 JWK Set)
+     * 교체된 키의 공개 기간이 끝날 때만 다시 만든다.
+     */
+    public JwkSet jwkSet(Instant now) {
+        JwkSet current = jwkSet;
+        if (current == null || (current.validUntil() != null && !now.isBefore(current.validUntil()))) {
+            current = buildJwkSet(now);
+            jwkSet = current;
+        }
+        return current;
+    }
+
+    private JwkSet buildJwkSet(Instant now) {
+        List<Map<String, String>> keys = new ArrayList<>();
+        Instant validUntil = null;
+        for (PublishedKey publishedKey : publishedKeys) {
+            Instant publishUntil = publishedKey.publishUntil();
+            if (publishUntil != null) {
+                if (!now.isBefore(publishUntil)) {
+                    continue;
+                }
+                if (validUntil == null || publishUntil.isBefore(validUntil)) {
+                    validUntil = publishUntil;
+                }
+            }
+            keys.add(toJwk(publishedKey.kid(), publishedKey.key()));
+        }
+        try {
+            String json = OBJECT_MAPPER.writeValueAsString(Map.of("keys", keys));
+            return new JwkSet(json, "\"" + TokenDigest.of(json) + "\"", validUntil);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to write JWK set", e);
+        }
+    }
+
+    private static Map<String, String> toJwk(String kid, ECPublicKey key) {
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("use", "sig");
+        jwk.put("alg", SignatureAlgorithm.ES256.getValue());
+        jwk.put("kid", kid);
+        jwk.put("x", coordinate(key.getW().getAffineX()));
+        jwk.put("y", coordinate(key.getW().getAffineY()));
+        return jwk;
+    }
+
+    // 부호 바이트를 떼고 32바이트로 맞춘 좌표 (RFC 7518 6.2.1.2)
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[P256_FIELD_BITS / 8];
+        int length = Math.min(bytes.length, fixed.length);
+        System.arraycopy(bytes, bytes.length - length, fixed, fixed.length - length, length);
+        return BASE64URL.encodeToString(fixed);
+    }
+
+    private static Key hmacKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Key hmacKey(String kid, String secret) {
+        if (secret == null) {
+            throw new IllegalStateException("jwt signing key has no secret: " + kid);
+        }
+        try {
+            return hmacKey(secret);
+        } catch (WeakKeyException e) {
+            throw new IllegalStateException("jwt signing secret is shorter than 256 bits: " + kid, e);
+        }
+    }
+
+    private static ECPublicKey ecPublicKey(String kid, String pem) {
+        if (pem == null) {
+            throw new IllegalStateException("jwt signing key has no public key: " + kid);
+        }
+        try {
+            if (KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(pemBody(pem))) instanceof ECPublicKey key
+                    && key.getParams().getCurve().getField().getFieldSize() == P256_FIELD_BITS) {
+                return key;
+            }
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("invalid jwt signing public key: " + kid, e);
+        }
+        throw new IllegalStateException("jwt signing public key is not P-256: " + kid);
+    }
+
+    // 공개 키와 짝이 맞는지 한 번 서명해 확인
+    private static PrivateKey ecPrivateKey(String kid, String pem, ECPublicKey publicKey) {
+        if (pem == null) {
+            throw new IllegalStateException("active jwt signing key must have a private key: " + kid);
+        }
+        try {
+            PrivateKey privateKey = KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(pemBody(pem)));
+            byte[] probe = kid.getBytes(StandardCharsets.UTF_8);
+            Signature signer = Signature.getInstance("SHA256withECDSA");
+            signer.initSign(privateKey);
+            signer.update(probe);
+            byte[] signature = signer.sign();
+            Signature verifier = Signature.getInstance("SHA256withECDSA");
+            verifier.initVerify(publicKey);
+            verifier.update(probe);
+            if (!verifier.verify(signature)) {
+                throw new IllegalStateException("jwt signing key pair mismatch: " + kid);
+            }
+            return privateKey;
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("invalid jwt signing private key: " + kid, e);
+        }
+    }
+
+    private static byte[] pemBody(String pem) {
+        return Base64.getDecoder().decode(PEM_ARMOR.matcher(pem).replaceAll(""));
+    }
+
+    /**
+     * @param kid 토큰 헤더에 넣을 kid (공유 비밀 키는 null)
+     */
+    public record SigningKey(String kid, Key key, SignatureAlgorithm algorithm) {
+    }
+
+    /**
+     * @param json 응답 본문
+     * @param etag 본문 다이제스트 (따옴표 포함)
+     * @param validUntil 다음에 목록이 바뀌는 시각, 바뀔 예정이 없으면 null
+     */
+    public record JwkSet(String json, String etag, Instant validUntil) {
+    }
+
+    private record PublishedKey(String kid, ECPublicKey key, Instant publishUntil) {
+    }
+}
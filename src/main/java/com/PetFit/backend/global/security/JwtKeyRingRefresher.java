@@ -0,0 +1,126 @@
+package com.PetFit.backend.global.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.PetFit.backend.global.config.properties.JwtSigningProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 에 둔 키 설정으로 재기동 없이 키 링 교체
+ * jwt.signing.redis.key 에 jwt.signing 과 같은 구조의 JSON 을 저장하고 채널에 알리면 모든 노드가 다시 읽는다.
+ * 알림을 놓친 노드는 모르는 kid 의 토큰을 받았을 때 (최소 간격을 두고) 다시 읽어 따라잡는다.
+ * Redis 에 설정이 없거나 잘못되었으면 기존 키 링(기동 시 설정)을 그대로 쓴다.
+ */
+@Slf4j
+@Component
+public class JwtKeyRingRefresher implements MessageListener {
+
+    private static final String METRIC_NAME = "jwt.keyring.reloads";
+
+    private final TokenProvider tokenProvider;
+    private final JwtSigningProperties.Redis properties;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final long minReloadIntervalNanos;
+    private final AtomicLong nextReloadAt;
+    private volatile String appliedJson;
+
+    public JwtKeyRingRefresher(TokenProvider tokenProvider,
+                               JwtSigningProperties signingProperties,
+                               RedisTemplate<String, String> redisTemplate,
+                               RedisMessageListenerContainer listenerContainer,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.properties = signingProperties.getRedis();
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.minReloadIntervalNanos = properties.getMinReloadInterval().toNanos();
+        this.nextReloadAt = new AtomicLong(System.nanoTime());
+
+        if (properties.isEnabled()) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(properties.getChannel()));
+            tokenProvider.setUnknownKidHandler(this::onUnknownKid);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (properties.isEnabled()) {
+            reload();
+        }
+    }
+
+    /**
+     * 교체 알림 수신 (본문은 사용하지 않음)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        reload();
+    }
+
+    /**
+     * Redis 의 키 설정을 읽어 바뀌었으면 교체
+     * @return 새 키 링을 적용했으면 true
+     */
+    public synchronized boolean reload() {
+        String json;
+        try {
+            json = redisTemplate.opsForValue().get(properties.getKey());
+        } catch (Exception e) {
+            log.warn("[JwtKeyRing] redis read failed: {}", e.getMessage());
+            record("failed");
+            return false;
+        }
+        if (json == null) {
+            record("missing");
+            return false;
+        }
+        if (json.equals(appliedJson)) {
+            record("unchanged");
+            return false;
+        }
+        try {
+            JwtSigningProperties signingProperties = objectMapper.readValue(json, JwtSigningProperties.class);
+            tokenProvider.rotateKeys(signingProperties);
+            appliedJson = json;
+            log.info("[JwtKeyRing] rotated: active kid {}", signingProperties.getActiveKid());
+            record("applied");
+            return true;
+        } catch (Exception e) {
+            // 잘못된 설정으로 기존 키를 잃지 않는다
+            log.error("[JwtKeyRing] invalid key configuration in redis: {}", e.getMessage());
+            record("failed");
+            return false;
+        }
+    }
+
+    // 위조 토큰의 임의 kid 로 Redis 를 두드리지 못하도록 노드당 최소 간격을 둔다
+    private void onUnknownKid(String kid) {
+        long now = System.nanoTime();
+        long next = nextReloadAt.get();
+        if (now - next < 0 || !nextReloadAt.compareAndSet(next, now + minReloadIntervalNanos)) {
+            return;
+        }
+        log.info("[JwtKeyRing] unknown kid {}, reloading", kid);
+        reload();
+    }
+
+    private void record(String result) {
+        meterRegistry.counter(METRIC_NAME, "result", result).increment();
+    }
+}
@@ -0,0 +1,73 @@
+package com.PetFit.backend.global.security;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.PetFit.backend.global.config.properties.PasswordHashingProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시 강도 결정
+ * 기동 시 이 호스트에서 최소 강도의 BCrypt 시간을 재고, 강도가 1 오를 때마다 시간이 2배가 되는 점을 이용해
+ * 목표 시간 안에 드는 가장 높은 강도를 고른다.
+ * 해시는 "{bcrypt}$2a$강도$..." 형식이라 알고리즘과 강도가 해시에 남고, 약한 해시는 upgradeEncoding 으로 구분된다.
+ */
+@Slf4j
+public final class PasswordHashCalibrator {
+
+    static final String BCRYPT_ID = "bcrypt";
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int SAMPLES = 3;
+
+    private PasswordHashCalibrator() {
+    }
+
+    /**
+     * 측정한 강도의 BCrypt 를 쓰는 위임 인코더
+     * 접두사 없는 기존 해시도 BCrypt 로 검증하며, 이런 해시는 upgradeEncoding 이 true 이다.
+     */
+    public static PasswordEncoder createEncoder(PasswordHashingProperties properties) {
+        int strength = properties.getStrength() > 0 ? properties.getStrength() : calibrateBCryptStrength(properties);
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    static int calibrateBCryptStrength(PasswordHashingProperties properties) {
+        int minStrength = properties.getMinStrength();
+        long sampleNanos = measure(new BCryptPasswordEncoder(minStrength));
+        int strength = strengthFor(properties.getTargetLatency(), sampleNanos, minStrength, properties.getMaxStrength());
+        log.info("[PasswordHash] calibrated bcrypt strength={} (strength {} took {}ms, target {}ms)",
+                strength, minStrength, sampleNanos / 1_000_000, properties.getTargetLatency().toMillis());
+        return strength;
+    }
+
+    static int strengthFor(Duration targetLatency, long sampleNanos, int minStrength, int maxStrength) {
+        int strength = minStrength;
+        long estimated = Math.max(1, sampleNanos);
+        // 한 단계 올린 시간이 목표 안에 들면 올린다
+        while (strength < maxStrength && estimated * 2 <= targetLatency.toNanos()) {
+            estimated *= 2;
+            strength++;
+        }
+        return strength;
+    }
+
+    private static long measure(BCryptPasswordEncoder encoder) {
+        // 첫 실행은 클래스 로딩, JIT 영향이 커서 버린다
+        encoder.encode(SAMPLE_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,141 @@
+package com.PetFit.backend.global.security;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 기동 시 한 번 컴파일한 (HTTP 메서드, 경로 패턴) -> 값 목록
+ * 메서드별로 나눈 뒤 고정 경로는 해시 조회로, 패턴은 첫 경로 세그먼트로 묶어 후보만 비교한다.
+ * 요청 경로는 후보가 있을 때 한 번만 파싱하며, 여러 패턴이 일치하면 고정 경로, 구체적인 패턴 순으로 우선한다.
+ */
+public final class RoutePatternMatcher<T> {
+
+    private static final PathPatternParser PARSER = PathPatternParser.defaultInstance;
+
+    private final Map<HttpMethod, Routes<T>> routesByMethod;
+
+    private RoutePatternMatcher(Map<HttpMethod, Routes<T>> routesByMethod) {
+        this.routesByMethod = routesByMethod;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * @return 일치하는 경로의 값, 없으면 null
+     */
+    public T match(HttpMethod method, String path) {
+        Routes<T> routes = routesByMethod.get(method);
+        return routes != null ? routes.match(path) : null;
+    }
+
+    public boolean matches(HttpMethod method, String path) {
+        return match(method, path) != null;
+    }
+
+    private record Route<T>(PathPattern pattern, T value) {
+    }
+
+    private record Routes<T>(Map<String, T> literalPaths,
+                             Map<String, List<Route<T>>> routesByFirstSegment,
+                             List<Route<T>> rootRoutes) {
+
+        private T match(String path) {
+            T literal = literalPaths.get(path);
+            if (literal != null) {
+                return literal;
+            }
+            List<Route<T>> segmentRoutes = routesByFirstSegment.getOrDefault(firstSegment(path), List.of());
+            if (segmentRoutes.isEmpty() && rootRoutes.isEmpty()) {
+                return null;
+            }
+            PathContainer pathContainer = PathContainer.parsePath(path);
+            for (Route<T> route : segmentRoutes) {
+                if (route.pattern().matches(pathContainer)) {
+                    return route.value();
+                }
+            }
+            for (Route<T> route : rootRoutes) {
+                if (route.pattern().matches(pathContainer)) {
+                    return route.value();
+                }
+            }
+            return null;
+        }
+    }
+
+    public static final class Builder<T> {
+        private final Map<HttpMethod, RoutesBuilder<T>> builders = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder<T> add(HttpMethod method, String pathPattern, T value) {
+            builders.computeIfAbsent(method, m -> new RoutesBuilder<>()).add(pathPattern, value);
+            return this;
+        }
+
+        public RoutePatternMatcher<T> build() {
+            Map<HttpMethod, Routes<T>> routesByMethod = new HashMap<>();
+            builders.forEach((method, builder) -> routesByMethod.put(method, builder.build()));
+            return new RoutePatternMatcher<>(Map.copyOf(routesByMethod));
+        }
+    }
+
+    private static final class RoutesBuilder<T> {
+        private final Map<String, T> literalPaths = new HashMap<>();
+        private final Map<String, List<Route<T>>> routesByFirstSegment = new HashMap<>();
+        private final List<Route<T>> rootRoutes = new ArrayList<>();
+
+        private void add(String pathPattern, T value) {
+            Route<T> route = new Route<>(PARSER.parse(pathPattern), value);
+            if (isLiteral(pathPattern)) {
+                literalPaths.putIfAbsent(pathPattern, value);
+            }
+            String firstSegment = firstSegment(pathPattern);
+            if (isLiteral(firstSegment)) {
+                routesByFirstSegment.computeIfAbsent(firstSegment, segment -> new ArrayList<>()).add(route);
+            } else {
+                rootRoutes.add(route);
+            }
+        }
+
+        private Routes<T> build() {
+            Map<String, List<Route<T>>> bySegment = new HashMap<>();
+            routesByFirstSegment.forEach((segment, routes) -> bySegment.put(segment, sorted(routes)));
+            return new Routes<>(Map.copyOf(literalPaths), Map.copyOf(bySegment), sorted(rootRoutes));
+        }
+
+        // 구체적인 패턴부터 비교 (정렬은 안정적이므로 같은 수준이면 선언 순서)
+        private static <T> List<Route<T>> sorted(List<Route<T>> routes) {
+            List<Route<T>> copy = new ArrayList<>(routes);
+            copy.sort((a, b) -> PathPattern.SPECIFICITY_COMPARATOR.compare(a.pattern(), b.pattern()));
+            return List.copyOf(copy);
+        }
+    }
+
+    private static boolean isLiteral(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '*' || c == '?' || c == '{') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // "/api/auth/login" -> "api"
+    private static String firstSegment(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.indexOf('/', start);
+        return end < 0 ? path.substring(start) : path.substring(start, end);
+    }
+}
@@ -0,0 +1,21 @@
+package com.PetFit.backend.global.security;
+
+/**
+ * 경로별 인증 정책
+ */
+public enum RoutePolicy {
+    // 인증 없이 접근 (JWT 필터, 블랙리스트 검사 모두 생략)
+    PUBLIC,
+    // 인증 필요 + 블랙리스트 검사
+    AUTHENTICATED,
+    // 인증은 필요하지만 블랙리스트 검사는 생략
+    BLACKLIST_EXEMPT;
+
+    public boolean requiresAuthentication() {
+        return this != PUBLIC;
+    }
+
+    public boolean checksBlacklist() {
+        return this == AUTHENTICATED;
+    }
+}
@@ -6,20 +6,21 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.util.List;
 
+/**
+ * 경로별 인증 정책 목록
+ * 목록에 없는 경로는 AUTHENTICATED 로 처리한다.
+ */
 @Getter
 @AllArgsConstructor
-@ConfigurationProperties("exclude-auth-path-patterns")
-public class ExcludeAuthPathProperties {
-    private List<AuthPath> paths;
-
-    public List<String> getExcludeAuthPaths() {
-        return paths.stream().map(AuthPath::getPathPattern).toList();
-    }
+@ConfigurationProperties("route-policy")
+public class RoutePolicyProperties {
+    private List<Route> routes;
 
     @Getter
     @AllArgsConstructor
-    public static class AuthPath {
+    public static class Route {
         private String pathPattern;
         private String method;
+        private RoutePolicy policy;
     }
-}
\ No newline at end of file
+}
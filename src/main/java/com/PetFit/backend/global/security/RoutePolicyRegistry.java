@@ -0,0 +1,55 @@
+package com.PetFit.backend.global.security;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 경로별 인증 정책 조회
+ * SecurityConfig, JwtAuthenticationFilter, JwtBlacklistInterceptor 가 모두 이 분류를 사용한다.
+ * 요청마다 한 번만 분류하고 결과는 request attribute 로 공유한다.
+ * 경로 목록은 기동 시 한 번 컴파일하며, 바꾸려면 재기동해야 한다.
+ */
+@Slf4j
+@Component
+public class RoutePolicyRegistry {
+
+    public static final String ATTRIBUTE = RoutePolicy.class.getName();
+
+    private final RoutePatternMatcher<RoutePolicy> matcher;
+
+    public RoutePolicyRegistry(RoutePolicyProperties routePolicyProperties) {
+        this.matcher = compile(routePolicyProperties);
+        log.info("[RoutePolicy] routes loaded: {}", routePolicyProperties.getRoutes().size());
+    }
+
+    public RoutePolicy classify(HttpServletRequest request) {
+        // forward/error 디스패치는 경로가 달라지므로 다시 분류
+        boolean cacheable = request.getDispatcherType() == DispatcherType.REQUEST;
+        if (cacheable && request.getAttribute(ATTRIBUTE) instanceof RoutePolicy policy) {
+            return policy;
+        }
+        RoutePolicy policy = matcher.match(HttpMethod.valueOf(request.getMethod()), request.getRequestURI());
+        if (policy == null) {
+            policy = RoutePolicy.AUTHENTICATED;
+        }
+        if (cacheable) {
+            request.setAttribute(ATTRIBUTE, policy);
+        }
+        return policy;
+    }
+
+    public boolean isPublic(HttpServletRequest request) {
+        return classify(request) == RoutePolicy.PUBLIC;
+    }
+
+    private static RoutePatternMatcher<RoutePolicy> compile(RoutePolicyProperties properties) {
+        RoutePatternMatcher.Builder<RoutePolicy> builder = RoutePatternMatcher.builder();
+        properties.getRoutes().forEach(route ->
+                builder.add(HttpMethod.valueOf(route.getMethod()), route.getPathPattern(), route.getPolicy()));
+        return builder.build();
+    }
+}
@@ -1,81 +1,211 @@
 package com.PetFit.backend.global.security;
 
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.security.Key;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
+import com.PetFit.backend.global.config.properties.JwtSigningProperties;
 import com.PetFit.backend.global.exception.RestApiException;
 import static com.PetFit.backend.global.exception.code.status.AuthErrorStatus.UNSUPPORTED_JWT;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 
 @Service
-@RequiredArgsConstructor
 public class TokenProvider {
 
     private final JwtProperties jwtProperties;
 
-    private static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
-    private static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
+    // 키 링과 파서는 불변이므로 한 번만 만들고, 키 교체 시 통째로 바꾼다
+    private volatile SigningMaterial signingMaterial;
+    private volatile JwtSigningProperties signingProperties;
+    private volatile String unkeyedSecret;
+    // 모르는 kid 를 만났을 때 키 링을 다시 읽을 기회 (JwtKeyRingRefresher)
+    private volatile Consumer<String> unknownKidHandler = kid -> { };
+
+    static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
+    static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
     private static final String EMAIL_VERIFICATION_SUBJECT = "EmailVerification";
     private static final String TOKEN_HEADER = "Authorization";
     private static final String BEARER = "Bearer ";
     private static final String ID_CLAIM = "id";
     private static final String TYPE_CLAIM = "type";
+    private static final String FAMILY_CLAIM = "fam";
+    private static final Base64.Encoder TOKEN_ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
 
+    public TokenProvider(JwtProperties jwtProperties) {
+        this(jwtProperties, new JwtSigningProperties());
+    }
+
+    @Autowired
+    public TokenProvider(JwtProperties jwtProperties, JwtSigningProperties signingProperties) {
+        this.jwtProperties = jwtProperties;
+        install(signingProperties, jwtProperties.getKey());
+    }
+
+    /**
+     * 공유 비밀 키 교체
+     * 새 키 링과 파서를 미리 만들어 두고 원자적으로 교체한다.
+     * @param secret HMAC 비밀 키 (키 링을 쓰면 kid 없는 이전 토큰 검증용)
+     */
+    public synchronized void rotateKey(String secret) {
+        install(signingProperties, secret);
+    }
+
+    /**
+     * 키 링 교체 (재기동 없이)
+     * 잘못된 설정이면 예외를 던지고 기존 키 링을 그대로 쓴다.
+     * @throws IllegalStateException 키 설정이 잘못된 경우
+     */
+    public synchronized void rotateKeys(JwtSigningProperties properties) {
+        install(properties, unkeyedSecret);
+    }
+
+    public void setUnknownKidHandler(Consumer<String> unknownKidHandler) {
+        this.unknownKidHandler = unknownKidHandler;
+    }
+
+    private void install(JwtSigningProperties properties, String secret) {
+        JwtKeyRing keyRing = JwtKeyRing.of(properties, secret, maxTokenLifetime(), Instant.now());
+        this.signingMaterial = SigningMaterial.of(keyRing, this::resolveUnknownKid);
+        this.signingProperties = properties;
+        this.unkeyedSecret = secret;
+    }
+
+    // 다른 노드가 먼저 교체한 키일 수 있으므로 한 번 다시 읽고 새 키 링에서 찾는다
+    private Key resolveUnknownKid(String kid) {
+        if (kid == null) {
+            return null;
+        }
+        unknownKidHandler.accept(kid);
+        return signingMaterial.keyRing().resolve(kid);
+    }
+
+    /**
+     * 다른 서비스가 토큰을 직접 검증할 수 있도록 공개하는 키 목록 (HS256 모드에서는 빈 목록)
+     */
+    public JwtKeyRing.JwkSet getJwkSet() {
+        return signingMaterial.keyRing().jwkSet(Instant.now());
+    }
 
     public String createAccessToken(String id) {
         Date now = new Date();
-        return Jwts.builder()
-                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+        return signedBuilder()
                 .setIssuedAt(now)
                 .setExpiration(new Date(System.currentTimeMillis() + jwtProperties.getAccessTokenExpirationMs()))
                 .setSubject(ACCESS_TOKEN_SUBJECT)
+                .setId(newTokenId())
                 .claim(ID_CLAIM, id)
-                .signWith(Keys.hmacShaKeyFor(jwtProperties.getKey().getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * 새 계보의 리프레시 토큰 생성 (로그인)
+     */
     public String createRefreshToken(String id) {
+        return createRefreshToken(id, newFamilyId());
+    }
+
+    /**
+     * 리프레시 토큰 생성
+     * @param family 계보 ID, 재발급 시 이전 토큰의 계보를 이어받는다
+     */
+    public String createRefreshToken(String id, String family) {
         Date now = new Date();
-        return Jwts.builder()
-                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+        return signedBuilder()
                 .setIssuedAt(now)
                 .setExpiration(new Date(System.currentTimeMillis() + jwtProperties.getRefreshTokenExpirationMs()))
                 .setSubject(REFRESH_TOKEN_SUBJECT)
+                .setId(newTokenId())
                 .claim(ID_CLAIM, id)
-                .signWith(Keys.hmacShaKeyFor(jwtProperties.getKey().getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .claim(FAMILY_CLAIM, family)
                 .compact();
     }
 
+    /**
+     * 리프레시 토큰 계보 ID (128bit 랜덤)
+     */
+    public String newFamilyId() {
+        return newTokenId();
+    }
+
+    /**
+     * 새로 만든 리프레시 토큰의 유효기간 (발급 직후 다시 파싱하지 않고 저장 TTL 로 사용)
+     */
+    public Duration getRefreshTokenLifetime() {
+        return Duration.ofMillis(jwtProperties.getRefreshTokenExpirationMs());
+    }
+
     public Boolean validateToken(String jwtToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(jwtProperties.getKey().getBytes(StandardCharsets.UTF_8)))
-                    .build()
-                    .parseClaimsJws(jwtToken);  // Decode
+            signingMaterial.parser().parseClaimsJws(jwtToken);  // Decode
             return true;
         } catch (Exception e) {
             return false;
         }
     }
 
-    public Authentication getAuthentication(String token) {
-        Claims claims = getClaims(token);
+    /**
+     * 서명 검증과 클레임 파싱을 한 번에 수행
+     * @param jwtToken 검증할 토큰
+     * @return 검증된 토큰, 유효하지 않으면 empty
+     */
+    public Optional<VerifiedToken> verify(String jwtToken) {
+        try {
+            Claims claims = getClaims(jwtToken);
+            return Optional.of(new VerifiedToken(
+                    jwtToken,
+                    claims.getId(),
+                    claims.getSubject(),
+                    claims.get(ID_CLAIM, String.class),
+                    claims.get(TYPE_CLAIM, String.class),
+                    claims.getExpiration(),
+                    claims.get(FAMILY_CLAIM, String.class)
+            ));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 요청에 담긴 검증된 토큰 조회
+     * 필터에서 이미 검증했다면 request attribute 를 그대로 사용하고, 없을 때만 파싱한다.
+     */
+    public Optional<VerifiedToken> getVerifiedToken(HttpServletRequest request) {
+        if (request.getAttribute(VerifiedToken.ATTRIBUTE) instanceof VerifiedToken verifiedToken) {
+            return Optional.of(verifiedToken);
+        }
+        Optional<VerifiedToken> verifiedToken = getToken(request).flatMap(this::verify);
+        verifiedToken.ifPresent(token -> request.setAttribute(VerifiedToken.ATTRIBUTE, token));
+        return verifiedToken;
+    }
+
+    public Authentication getAuthentication(VerifiedToken verifiedToken) {
         // 권한 없이 인증된 사용자로만 처리
-        return new UsernamePasswordAuthenticationToken(claims.get(ID_CLAIM, String.class), "", Collections.emptyList());
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(verifiedToken.id(), "", Collections.emptyList());
+        authentication.setDetails(verifiedToken);
+        return authentication;
     }
 
     public Optional<String> getId(String token) {
@@ -95,8 +225,7 @@ public class TokenProvider {
     }
 
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(jwtProperties.getKey().getBytes(StandardCharsets.UTF_8)))
-                .build()
+        return signingMaterial.parser()
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -131,14 +260,12 @@ public class TokenProvider {
      */
     public String createEmailVerificationToken(String email, String type) {
         Date now = new Date();
-        return Jwts.builder()
-                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+        return signedBuilder()
                 .setIssuedAt(now)
                 .setExpiration(new Date(System.currentTimeMillis() + jwtProperties.getVerificationExpirationMs()))
                 .setSubject(EMAIL_VERIFICATION_SUBJECT)
                 .claim(ID_CLAIM, email)  // 이메일을 ID 클레임에 저장
                 .claim(TYPE_CLAIM, type)  // 토큰 타입 저장
-                .signWith(Keys.hmacShaKeyFor(jwtProperties.getKey().getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -172,4 +299,53 @@ public class TokenProvider {
             return Optional.empty();
         }
     }
-}
\ No newline at end of file
+
+    // 현재 서명 키로 서명하고, 키 링이면 kid 헤더를 붙인다
+    private JwtBuilder signedBuilder() {
+        JwtKeyRing.SigningKey signingKey = signingMaterial.keyRing().signingKey();
+        JwtBuilder builder = Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .signWith(signingKey.key(), signingKey.algorithm());
+        if (signingKey.kid() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, signingKey.kid());
+        }
+        return builder;
+    }
+
+    private Duration maxTokenLifetime() {
+        return Duration.ofMillis(Math.max(
+                jwtProperties.getAccessTokenExpirationMs(), jwtProperties.getRefreshTokenExpirationMs()));
+    }
+
+    // 128bit 랜덤 jti (Base64url 22자)
+    private static String newTokenId() {
+        UUID uuid = UUID.randomUUID();
+        ByteBuffer buffer = ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits());
+        return TOKEN_ID_ENCODER.encodeToString(buffer.array());
+    }
+
+    private record SigningMaterial(JwtKeyRing keyRing, JwtParser parser) {
+
+        // kid 로 검증 키를 찾는 파서 (알고리즘과 키 종류가 맞지 않으면 jjwt 가 거절)
+        private static SigningMaterial of(JwtKeyRing keyRing, Function<String, Key> unknownKidResolver) {
+            JwtParser parser = Jwts.parserBuilder()
+                    .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                        @Override
+                        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                            Key key = keyRing.resolve(header.getKeyId());
+                            if (key == null) {
+                                key = unknownKidResolver.apply(header.getKeyId());
+                            }
+                            if (key == null) {
+                                throw new SignatureException("unknown kid: " + header.getKeyId());
+                            }
+                            return key;
+                        }
+                    })
+                    .build();
+            return new SigningMaterial(keyRing, parser);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.PetFit.backend.global.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import com.PetFit.backend.global.util.TokenDigest;
+
+/**
+ * 서명 검증과 클레임 파싱이 끝난 JWT
+ * 요청당 한 번만 만들어 request attribute 로 공유한다.
+ * @param token 원본 토큰 문자열
+ * @param jti 토큰 ID (jti 클레임 도입 전에 발급된 토큰은 null)
+ * @param subject 토큰 종류 (AccessToken, RefreshToken, EmailVerification)
+ * @param id 사용자 ID (이메일 인증 토큰은 이메일)
+ * @param type 이메일 인증 토큰 타입 ("signup", "reset" 등), 그 외 토큰은 null
+ * @param expiration 만료 시각
+ * @param family 리프레시 토큰 계보 ID (재발급해도 유지, 계보 도입 전 토큰과 그 외 토큰은 null)
+ */
+public record VerifiedToken(
+        String token,
+        String jti,
+        String subject,
+        String id,
+        String type,
+        Date expiration,
+        String family
+) {
+    public static final String ATTRIBUTE = VerifiedToken.class.getName();
+
+    /**
+     * 블랙리스트 등 저장소 키로 쓰는 토큰 식별자
+     * jti 가 없는 이전 토큰은 원문의 128bit 다이제스트를 사용한다.
+     */
+    public String tokenId() {
+        return jti != null ? jti : TokenDigest.of(token);
+    }
+
+    public boolean isAccessToken() {
+        return TokenProvider.ACCESS_TOKEN_SUBJECT.equals(subject);
+    }
+
+    public boolean isRefreshToken() {
+        return TokenProvider.REFRESH_TOKEN_SUBJECT.equals(subject);
+    }
+
+    public Duration getRemainingDuration() {
+        return Duration.between(Instant.now(), expiration.toInstant());
+    }
+}
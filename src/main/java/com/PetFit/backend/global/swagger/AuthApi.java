@@ -3,6 +3,7 @@ package com.PetFit.backend.global.swagger;
 import com.PetFit.backend.auth.domain.auth.application.dto.request.LoginRequest;
 import com.PetFit.backend.auth.domain.auth.application.dto.request.SignUpRequest;
 import com.PetFit.backend.auth.domain.auth.application.dto.request.TokenReissueRequest;
+import com.PetFit.backend.auth.domain.auth.application.dto.response.AvailabilityResponse;
 import com.PetFit.backend.auth.domain.auth.application.dto.response.LoginResponse;
 import com.PetFit.backend.auth.domain.auth.application.dto.response.TokenReissueResponse;
 import com.PetFit.backend.global.common.BaseResponse;
@@ -39,6 +40,24 @@ public interface AuthApi extends BaseApi {
     })
     BaseResponse<?> signup(SignUpRequest request);
 
+    @Operation(
+            summary = "아이디/이메일 사용 가능 여부",
+            description = "회원가입 전 userId 또는 email 이 사용 가능한지 확인합니다. 둘 중 하나 이상 필요합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "확인 성공 (요청하지 않은 항목은 null)",
+                    content = @Content(schema = @Schema(implementation = AvailabilityResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "userId, email 모두 없음",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            )
+    })
+    BaseResponse<AvailabilityResponse> checkAvailability(String userId, String email);
+
     @Operation(
             summary = "로그인",
             description = "userId와 password를 사용하여 로그인합니다. 성공 시 access token과 refresh token을 반환합니다."
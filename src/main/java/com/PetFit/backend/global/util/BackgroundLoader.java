@@ -0,0 +1,64 @@
+package com.PetFit.backend.global.util;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드별 인덱스(블랙리스트 필터, 사용자 존재 인덱스)를 Redis/DB 에서 적재하는 스레드 풀
+ * 인덱스마다 적재는 한 번에 하나뿐이라 스레드 몇 개와 작은 대기열로 충분하다.
+ * 종료 시 진행 중인 적재를 interrupt 하며, 풀 상태는 executor 지표(name=background.loader)로 노출한다.
+ */
+@Slf4j
+@Component
+public class BackgroundLoader implements DisposableBean {
+
+    private static final String NAME = "background.loader";
+    private static final int THREADS = 2;
+    private static final int QUEUE_CAPACITY = 8;
+
+    private final ThreadPoolExecutor executor;
+
+    public BackgroundLoader(MeterRegistry meterRegistry) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(THREADS, THREADS, 30L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "background-loader-" + sequence.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        // 적재는 기동 직후와 구독 재연결 후에만 있으므로 평소에는 스레드를 두지 않는다
+        this.executor.allowCoreThreadTimeOut(true);
+        new ExecutorServiceMetrics(executor, NAME, List.of()).bindTo(meterRegistry);
+    }
+
+    /**
+     * @param name 로그에 남길 적재 대상
+     * @return 제출했으면 true, 종료 중이거나 대기열이 가득 차 거절되면 false
+     */
+    public boolean submit(String name, Runnable loader) {
+        try {
+            executor.execute(loader);
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("[BackgroundLoader] {} rejected", name);
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
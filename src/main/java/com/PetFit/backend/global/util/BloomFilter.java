@@ -0,0 +1,84 @@
+package com.PetFit.backend.global.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 만료 없는 Bloom filter
+ * "없음" 은 확정이고 "있을 수 있음" 만 원본 확인이 필요하다. 원소 삭제는 지원하지 않는다.
+ * 넣기와 조회는 락 없이 동시에 수행할 수 있다.
+ */
+public class BloomFilter {
+
+    private final long expectedInsertions;
+    private final int bits;
+    private final int numHashFunctions;
+    private final AtomicLongArray words;
+    private final LongAdder insertions = new LongAdder();
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("invalid bloom filter sizing");
+        }
+        this.expectedInsertions = expectedInsertions;
+        this.bits = BloomHashing.optimalBits(expectedInsertions, falsePositiveRate);
+        this.numHashFunctions = BloomHashing.optimalHashFunctions(bits, expectedInsertions);
+        this.words = new AtomicLongArray((bits + 63) >>> 6);
+    }
+
+    public void put(CharSequence key) {
+        long hash1 = BloomHashing.hash(key, BloomHashing.SEED_1);
+        long hash2 = BloomHashing.hash(key, BloomHashing.SEED_2) | 1;
+        for (int i = 0; i < numHashFunctions; i++) {
+            set((int) Math.floorMod(hash1 + i * hash2, (long) bits));
+        }
+        insertions.increment();
+    }
+
+    public boolean mightContain(CharSequence key) {
+        long hash1 = BloomHashing.hash(key, BloomHashing.SEED_1);
+        long hash2 = BloomHashing.hash(key, BloomHashing.SEED_2) | 1;
+        for (int i = 0; i < numHashFunctions; i++) {
+            int index = (int) Math.floorMod(hash1 + i * hash2, (long) bits);
+            if ((words.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bits;
+    }
+
+    public long expectedInsertions() {
+        return expectedInsertions;
+    }
+
+    /**
+     * 넣은 횟수 (같은 원소를 여러 번 넣으면 중복 집계)
+     */
+    public long approximateElementCount() {
+        return insertions.sum();
+    }
+
+    /**
+     * 현재 채워진 정도로 계산한 오탐률
+     */
+    public double estimatedFalsePositiveRate() {
+        double fill = 1 - Math.exp(-(double) numHashFunctions * insertions.sum() / bits);
+        return Math.pow(fill, numHashFunctions);
+    }
+
+    private void set(int index) {
+        int word = index >>> 6;
+        long mask = 1L << index;
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(word, current, current | mask));
+    }
+}
@@ -0,0 +1,40 @@
+package com.PetFit.backend.global.util;
+
+/**
+ * Bloom filter 공용 해시
+ * 두 시드의 해시로 k 개의 위치를 만든다. (double hashing)
+ */
+final class BloomHashing {
+
+    static final long SEED_1 = 0xcbf29ce484222325L;
+    static final long SEED_2 = 0x84222325cbf29ce4L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private BloomHashing() {
+    }
+
+    // FNV-1a + murmur3 finalizer
+    static long hash(CharSequence key, long seed) {
+        long hash = seed;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    static int optimalBits(long expectedInsertions, double falsePositiveRate) {
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        return (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, bits));
+    }
+
+    static int optimalHashFunctions(int bits, long expectedInsertions) {
+        return Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+    }
+}
@@ -0,0 +1,172 @@
+package com.PetFit.backend.global.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 만료 시각 기준으로 버킷을 나눈 Bloom filter
+ * 원소는 만료 시각이 속한 버킷에 들어가고, 버킷 구간이 지나면 통째로 비워진다.
+ * 메모리는 버킷 수 x (버킷당 예상 원소 수, 오탐률)로 고정되며 조회는 할당 없이 수행된다.
+ */
+public class TimeBucketedBloomFilter {
+
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long bucketSpanMillis;
+    private final int bitsPerBucket;
+    private final int numHashFunctions;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    /**
+     * @param expectedInsertions 버킷당 예상 원소 수
+     * @param falsePositiveRate 버킷당 목표 오탐률
+     * @param maxLifetime 원소의 최대 유효 기간 (이보다 오래 유지되어야 하는 원소는 없어야 한다)
+     * @param bucketCount 버킷 수 (2 이상)
+     */
+    public TimeBucketedBloomFilter(long expectedInsertions, double falsePositiveRate, Duration maxLifetime, int bucketCount) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1 || bucketCount < 2) {
+            throw new IllegalArgumentException("invalid bloom filter sizing");
+        }
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        // 마지막 버킷이 최대 유효 기간을 덮도록 (bucketCount - 1) 로 나눈다
+        this.bucketSpanMillis = Math.max(1, maxLifetime.toMillis() / (bucketCount - 1));
+
+        this.bitsPerBucket = BloomHashing.optimalBits(expectedInsertions, falsePositiveRate);
+        this.numHashFunctions = BloomHashing.optimalHashFunctions(bitsPerBucket, expectedInsertions);
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    public void put(CharSequence key, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        if (expiresAtMillis <= now) {
+            return;
+        }
+        long currentWindow = now / bucketSpanMillis;
+        // 노드 간 시계 차이 등으로 범위를 넘으면 가장 늦게 비워지는 버킷에 넣는다
+        long window = Math.min(expiresAtMillis / bucketSpanMillis, currentWindow + buckets.length() - 1);
+        Bucket bucket = bucketFor(window);
+
+        long hash1 = BloomHashing.hash(key, BloomHashing.SEED_1);
+        long hash2 = BloomHashing.hash(key, BloomHashing.SEED_2) | 1;
+        for (int i = 0; i < numHashFunctions; i++) {
+            int index = (int) Math.floorMod(hash1 + i * hash2, (long) bitsPerBucket);
+            bucket.set(index);
+        }
+        bucket.insertions.increment();
+    }
+
+    public boolean mightContain(CharSequence key) {
+        long currentWindow = System.currentTimeMillis() / bucketSpanMillis;
+        long hash1 = BloomHashing.hash(key, BloomHashing.SEED_1);
+        long hash2 = BloomHashing.hash(key, BloomHashing.SEED_2) | 1;
+        for (int b = 0; b < buckets.length(); b++) {
+            Bucket bucket = buckets.get(b);
+            if (bucket == null || bucket.window < currentWindow) {
+                continue;
+            }
+            if (bucket.containsAll(hash1, hash2, numHashFunctions, bitsPerBucket)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long bitSize() {
+        return (long) bitsPerBucket * buckets.length();
+    }
+
+    public int hashFunctions() {
+        return numHashFunctions;
+    }
+
+    public long expectedInsertions() {
+        return expectedInsertions;
+    }
+
+    public double expectedFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    /**
+     * 살아 있는 버킷에 들어간 원소 수 (추정치)
+     */
+    public long approximateElementCount() {
+        long currentWindow = System.currentTimeMillis() / bucketSpanMillis;
+        long count = 0;
+        for (int b = 0; b < buckets.length(); b++) {
+            Bucket bucket = buckets.get(b);
+            if (bucket != null && bucket.window >= currentWindow) {
+                count += bucket.insertions.sum();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 현재 채워진 정도로 계산한 조회 1회당 오탐률 (살아 있는 모든 버킷 기준)
+     */
+    public double estimatedFalsePositiveRate() {
+        long currentWindow = System.currentTimeMillis() / bucketSpanMillis;
+        double negative = 1.0;
+        for (int b = 0; b < buckets.length(); b++) {
+            Bucket bucket = buckets.get(b);
+            if (bucket == null || bucket.window < currentWindow) {
+                continue;
+            }
+            double fill = 1 - Math.exp(-(double) numHashFunctions * bucket.insertions.sum() / bitsPerBucket);
+            negative *= 1 - Math.pow(fill, numHashFunctions);
+        }
+        return 1 - negative;
+    }
+
+    private Bucket bucketFor(long window) {
+        int slot = (int) Math.floorMod(window, (long) buckets.length());
+        while (true) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null && bucket.window == window) {
+                return bucket;
+            }
+            // 같은 슬롯의 이전 버킷은 이미 구간이 지났으므로 새 버킷으로 교체
+            Bucket fresh = new Bucket(window, bitsPerBucket);
+            if (buckets.compareAndSet(slot, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private static final class Bucket {
+        private final long window;
+        private final AtomicLongArray words;
+        private final LongAdder insertions = new LongAdder();
+
+        private Bucket(long window, int bits) {
+            this.window = window;
+            this.words = new AtomicLongArray((bits + 63) >>> 6);
+        }
+
+        private void set(int index) {
+            int word = index >>> 6;
+            long mask = 1L << index;
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) {
+                    return;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+        }
+
+        private boolean containsAll(long hash1, long hash2, int numHashFunctions, int bits) {
+            for (int i = 0; i < numHashFunctions; i++) {
+                int index = (int) Math.floorMod(hash1 + i * hash2, (long) bits);
+                if ((words.get(index >>> 6) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+-- 허용된 시도 한 번을 되돌린다 (허용 뒤 작업이 실패해 시도로 치지 않을 때)
+-- KEYS[1] 한도 카운터, KEYS[2] 쿨다운 (없으면 생략)
+-- 반환: 되돌렸으면 1, 카운터가 없으면 0
+local used = tonumber(redis.call('GET', KEYS[1]) or '0')
+if KEYS[2] then
+    redis.call('DEL', KEYS[2])
+end
+if used <= 0 then
+    return 0
+end
+-- DECR 은 남은 TTL 을 유지한다
+redis.call('DECR', KEYS[1])
+return 1
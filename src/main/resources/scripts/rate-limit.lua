@@ -0,0 +1,35 @@
+-- 쿨다운 + 기간 한도 확인과 시도 기록을 원자적으로 처리
+-- KEYS[1] 한도 카운터, KEYS[2] 쿨다운 (cooldown 이 0 이면 생략)
+-- ARGV[1] 한도, ARGV[2] 한도 기간(ms), ARGV[3] 쿨다운(ms)
+-- 반환: {허용 여부(1/0), 남은 횟수, 재시도까지 남은 시간(ms), 사유(0 허용, 1 쿨다운, 2 한도 초과)}
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local cooldown = tonumber(ARGV[3])
+
+local used = tonumber(redis.call('GET', KEYS[1]) or '0')
+
+if cooldown > 0 then
+    local wait = redis.call('PTTL', KEYS[2])
+    if wait > 0 then
+        return {0, math.max(limit - used, 0), wait, 1}
+    end
+end
+
+if used >= limit then
+    local wait = redis.call('PTTL', KEYS[1])
+    if wait < 0 then
+        -- TTL 없이 남은 카운터는 기간을 다시 건다
+        redis.call('PEXPIRE', KEYS[1], window)
+        wait = window
+    end
+    return {0, 0, wait, 2}
+end
+
+used = redis.call('INCR', KEYS[1])
+if used == 1 then
+    redis.call('PEXPIRE', KEYS[1], window)
+end
+if cooldown > 0 then
+    redis.call('SET', KEYS[2], '1', 'PX', cooldown)
+end
+return {1, limit - used, 0, 0}
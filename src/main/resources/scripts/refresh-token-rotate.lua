@@ -0,0 +1,45 @@
+-- 리프레시 토큰 교체 (compare-and-swap)
+-- KEYS[1] 계보 해시 (cur: 현재 토큰 다이제스트, fam: 계보 ID, prev: 직전 토큰 다이제스트, rot: 교체 시각 ms)
+-- KEYS[2] 계보 도입 전 원문 키
+-- ARGV[1] 제시한 토큰 다이제스트, ARGV[2] 제시한 토큰의 계보 ID (계보 도입 전 토큰은 '')
+-- ARGV[3] 새 토큰 다이제스트, ARGV[4] 새 토큰의 계보 ID, ARGV[5] 재사용 유예(ms), ARGV[6] TTL(ms)
+-- ARGV[7] 제시한 토큰 원문 (계보 도입 전 토큰만, 그 외 '')
+-- 반환: 0 교체, 1 이미 교체되었거나 저장되지 않은 토큰, 2 재사용 감지 (계보 폐기)
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local function rotate(prev)
+    redis.call('HSET', KEYS[1], 'cur', ARGV[3], 'fam', ARGV[4], 'prev', prev, 'rot', tostring(now))
+    redis.call('PEXPIRE', KEYS[1], ARGV[6])
+end
+
+local state = redis.call('HMGET', KEYS[1], 'cur', 'fam', 'prev', 'rot')
+if not state[1] then
+    -- 계보 도입 전 토큰은 원문 키와 같을 때 한 번만 계보로 옮긴다
+    if ARGV[7] ~= '' and redis.call('GET', KEYS[2]) == ARGV[7] then
+        redis.call('DEL', KEYS[2])
+        rotate(ARGV[1])
+        return 0
+    end
+    -- 로그아웃했거나 만료됨
+    return 1
+end
+
+-- 다시 로그인해 계보가 바뀐 뒤의 이전 토큰
+if state[2] ~= ARGV[2] then
+    return 1
+end
+
+if state[1] == ARGV[1] then
+    rotate(ARGV[1])
+    return 0
+end
+
+-- 동시에 보낸 재발급 중 늦게 도착한 요청
+if state[3] == ARGV[1] and now - tonumber(state[4]) <= tonumber(ARGV[5]) then
+    return 1
+end
+
+-- 이미 교체된 토큰을 다시 쓰면 탈취로 보고 계보 전체를 폐기한다
+redis.call('DEL', KEYS[1])
+return 2
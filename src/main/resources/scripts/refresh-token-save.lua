@@ -0,0 +1,7 @@
+-- 로그인 시 사용자의 리프레시 토큰 계보를 새로 시작
+-- KEYS[1] 계보 해시, KEYS[2] 계보 도입 전 원문 키
+-- ARGV[1] 토큰 다이제스트, ARGV[2] 계보 ID, ARGV[3] TTL(ms)
+redis.call('DEL', KEYS[1], KEYS[2])
+redis.call('HSET', KEYS[1], 'cur', ARGV[1], 'fam', ARGV[2])
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+return 1
@@ -0,0 +1,29 @@
+-- 전체 노드 공용 토큰 버킷
+-- KEYS[1] 버킷
+-- ARGV[1] 용량, ARGV[2] 충전 토큰 수, ARGV[3] 충전 주기(ms)
+-- 반환: 0 이면 허용, 아니면 토큰이 생길 때까지 남은 시간(ms)
+local capacity = tonumber(ARGV[1])
+local refillTokens = tonumber(ARGV[2])
+local period = tonumber(ARGV[3])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(state[1]) or capacity
+local ts = tonumber(state[2]) or now
+if now > ts then
+    tokens = math.min(capacity, tokens + (now - ts) * refillTokens / period)
+end
+
+local wait = 0
+if tokens >= 1 then
+    tokens = tokens - 1
+else
+    wait = math.ceil((1 - tokens) * period / refillTokens)
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+-- 가득 찰 때까지 걸리는 시간이 지나면 상태가 필요 없다
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * period / refillTokens))
+return wait
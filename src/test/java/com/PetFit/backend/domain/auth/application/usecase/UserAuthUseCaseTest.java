@@ -5,6 +5,7 @@ import java.time.Duration;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.PetFit.backend.auth.domain.auth.application.usecase.UserAuthUseCase;
@@ -19,6 +20,8 @@ import org.mockito.Mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -26,9 +29,11 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import com.PetFit.backend.auth.domain.auth.application.dto.request.LoginRequest;
 import com.PetFit.backend.auth.domain.auth.application.dto.request.SignUpRequest;
 import com.PetFit.backend.auth.domain.auth.application.dto.request.TokenReissueRequest;
+import com.PetFit.backend.auth.domain.auth.application.dto.response.AvailabilityResponse;
 import com.PetFit.backend.auth.domain.auth.application.dto.response.LoginResponse;
 import com.PetFit.backend.auth.domain.auth.application.dto.response.TokenReissueResponse;
 import com.PetFit.backend.auth.domain.auth.domain.entity.User;
+import com.PetFit.backend.auth.domain.auth.domain.service.PasswordRehashService;
 import com.PetFit.backend.auth.domain.auth.domain.service.RefreshTokenService;
 import com.PetFit.backend.auth.domain.auth.domain.service.TokenBlacklistService;
 import com.PetFit.backend.auth.domain.auth.domain.service.TokenWhitelistService;
@@ -37,6 +42,7 @@ import com.PetFit.backend.auth.domain.email.domain.service.EmailVerificationServ
 import com.PetFit.backend.global.exception.RestApiException;
 import com.PetFit.backend.global.exception.code.status.AuthErrorStatus;
 import com.PetFit.backend.global.security.TokenProvider;
+import com.PetFit.backend.global.security.VerifiedToken;
 
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -64,6 +70,9 @@ class UserAuthUseCaseTest {
     
     @Mock
     private EmailVerificationService emailVerificationService;
+
+    @Mock
+    private PasswordRehashService passwordRehashService;
     
     @Mock
     private HttpServletRequest httpServletRequest;
@@ -108,26 +117,24 @@ class UserAuthUseCaseTest {
     @DisplayName("회원가입 성공")
     void signUp_Success() {
         // given
-        when(emailVerificationService.isEmailVerified(validSignUpRequest.email())).thenReturn(true);
-        when(userService.isAlreadyRegistered(validSignUpRequest.email())).thenReturn(false);
-        when(userService.isUserIdAlreadyRegistered(validSignUpRequest.userId())).thenReturn(false);
+        when(emailVerificationService.consumeEmailVerification(validSignUpRequest.email())).thenReturn(true);
 
         // when
         assertDoesNotThrow(() -> userAuthUseCase.signUp(validSignUpRequest));
 
         // then
-        verify(emailVerificationService, times(1)).isEmailVerified(validSignUpRequest.email());
-        verify(userService, times(1)).isAlreadyRegistered(validSignUpRequest.email());
-        verify(userService, times(1)).isUserIdAlreadyRegistered(validSignUpRequest.userId());
+        verify(emailVerificationService, times(1)).consumeEmailVerification(validSignUpRequest.email());
         verify(userService, times(1)).save(validSignUpRequest);
-        verify(emailVerificationService, times(1)).removeEmailVerification(validSignUpRequest.email());
+        verify(userService, never()).isAlreadyRegistered(anyString());
+        verify(userService, never()).isUserIdAlreadyRegistered(anyString());
+        verify(emailVerificationService, never()).restoreEmailVerification(anyString());
     }
 
     @Test
     @DisplayName("회원가입 실패 - 이메일 인증되지 않음")
     void signUp_EmailNotVerified_ThrowsException() {
         // given
-        when(emailVerificationService.isEmailVerified(validSignUpRequest.email())).thenReturn(false);
+        when(emailVerificationService.consumeEmailVerification(validSignUpRequest.email())).thenReturn(false);
 
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
@@ -135,18 +142,17 @@ class UserAuthUseCaseTest {
         });
 
         assertEquals("EMAIL400", exception.getErrorCode().getCode());
-        verify(emailVerificationService, times(1)).isEmailVerified(validSignUpRequest.email());
-        verify(userService, never()).isAlreadyRegistered(anyString());
-        verify(userService, never()).isUserIdAlreadyRegistered(anyString());
+        verify(emailVerificationService, times(1)).consumeEmailVerification(validSignUpRequest.email());
         verify(userService, never()).save(any());
+        verify(emailVerificationService, never()).restoreEmailVerification(anyString());
     }
 
     @Test
-    @DisplayName("회원가입 실패 - 이미 등록된 이메일")
+    @DisplayName("회원가입 실패 - 이미 등록된 이메일이면 인증 상태 복구")
     void signUp_AlreadyRegisteredEmail_ThrowsException() {
         // given
-        when(emailVerificationService.isEmailVerified(validSignUpRequest.email())).thenReturn(true);
-        when(userService.isAlreadyRegistered(validSignUpRequest.email())).thenReturn(true);
+        when(emailVerificationService.consumeEmailVerification(validSignUpRequest.email())).thenReturn(true);
+        when(userService.save(validSignUpRequest)).thenThrow(new RestApiException(AuthErrorStatus.ALREADY_REGISTERED_EMAIL));
 
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
@@ -154,19 +160,16 @@ class UserAuthUseCaseTest {
         });
 
         assertEquals("AUTH009", exception.getErrorCode().getCode());
-        verify(emailVerificationService, times(1)).isEmailVerified(validSignUpRequest.email());
-        verify(userService, times(1)).isAlreadyRegistered(validSignUpRequest.email());
-        verify(userService, never()).isUserIdAlreadyRegistered(anyString());
-        verify(userService, never()).save(any());
+        verify(userService, times(1)).save(validSignUpRequest);
+        verify(emailVerificationService, times(1)).restoreEmailVerification(validSignUpRequest.email());
     }
 
     @Test
-    @DisplayName("회원가입 실패 - 이미 등록된 사용자 ID")
+    @DisplayName("회원가입 실패 - 이미 등록된 사용자 ID면 인증 상태 복구")
     void signUp_AlreadyRegisteredUserId_ThrowsException() {
         // given
-        when(emailVerificationService.isEmailVerified(validSignUpRequest.email())).thenReturn(true);
-        when(userService.isAlreadyRegistered(validSignUpRequest.email())).thenReturn(false);
-        when(userService.isUserIdAlreadyRegistered(validSignUpRequest.userId())).thenReturn(true);
+        when(emailVerificationService.consumeEmailVerification(validSignUpRequest.email())).thenReturn(true);
+        when(userService.save(validSignUpRequest)).thenThrow(new RestApiException(AuthErrorStatus.ALREADY_REGISTERED_USER_ID));
 
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
@@ -174,21 +177,46 @@ class UserAuthUseCaseTest {
         });
 
         assertEquals("AUTH010", exception.getErrorCode().getCode());
-        verify(emailVerificationService, times(1)).isEmailVerified(validSignUpRequest.email());
-        verify(userService, times(1)).isAlreadyRegistered(validSignUpRequest.email());
-        verify(userService, times(1)).isUserIdAlreadyRegistered(validSignUpRequest.userId());
-        verify(userService, never()).save(any());
+        verify(userService, times(1)).save(validSignUpRequest);
+        verify(emailVerificationService, times(1)).restoreEmailVerification(validSignUpRequest.email());
+    }
+
+    @Test
+    @DisplayName("가입 가능 여부 - 요청한 항목만 확인")
+    void checkAvailability_OnlyRequestedFields() {
+        // given
+        when(userService.isUserIdAlreadyRegistered("newUser")).thenReturn(false);
+
+        // when
+        AvailabilityResponse response = userAuthUseCase.checkAvailability("newUser", null);
+
+        // then
+        assertEquals(Boolean.TRUE, response.userIdAvailable());
+        assertNull(response.emailAvailable());
+        verify(userService, never()).isAlreadyRegistered(anyString());
+    }
+
+    @Test
+    @DisplayName("가입 가능 여부 실패 - 확인할 항목 없음")
+    void checkAvailability_NoField_ThrowsException() {
+        // when & then
+        RestApiException exception = assertThrows(RestApiException.class, () -> {
+            userAuthUseCase.checkAvailability(" ", null);
+        });
+
+        assertEquals("COMMON400", exception.getErrorCode().getCode());
     }
 
     @Test
     @DisplayName("로그인 성공")
     void login_Success() {
         // given
-        when(userService.findByUserId(validLoginRequest.userId())).thenReturn(testUser);
+        when(userService.findUserEntity(validLoginRequest.userId())).thenReturn(testUser);
         when(passwordEncoder.matches(validLoginRequest.password(), testUser.getPassword())).thenReturn(true);
         when(tokenProvider.createAccessToken(testUser.getUserId())).thenReturn("access.token");
-        when(tokenProvider.createRefreshToken(testUser.getUserId())).thenReturn("refresh.token");
-        when(tokenProvider.getRemainingDuration("refresh.token")).thenReturn(java.util.Optional.of(Duration.ofDays(14)));
+        when(tokenProvider.newFamilyId()).thenReturn("family");
+        when(tokenProvider.createRefreshToken(testUser.getUserId(), "family")).thenReturn("refresh.token");
+        when(tokenProvider.getRefreshTokenLifetime()).thenReturn(Duration.ofDays(14));
 
         // when
         LoginResponse response = userAuthUseCase.login(validLoginRequest);
@@ -197,18 +225,21 @@ class UserAuthUseCaseTest {
         assertNotNull(response);
         assertEquals("access.token", response.accessToken());
         assertEquals("refresh.token", response.refreshToken());
-        verify(userService, times(1)).findByUserId(validLoginRequest.userId());
+        verify(userService, times(1)).findUserEntity(validLoginRequest.userId());
         verify(passwordEncoder, times(1)).matches(validLoginRequest.password(), testUser.getPassword());
         verify(tokenProvider, times(1)).createAccessToken(testUser.getUserId());
-        verify(tokenProvider, times(1)).createRefreshToken(testUser.getUserId());
-        verify(refreshTokenService, times(1)).saveRefreshToken(testUser.getUserId(), "refresh.token", Duration.ofDays(14));
+        verify(tokenProvider, times(1)).createRefreshToken(testUser.getUserId(), "family");
+        verify(tokenProvider, never()).getRemainingDuration(anyString());
+        verify(refreshTokenService, times(1)).saveRefreshToken(testUser.getUserId(), "refresh.token", "family", Duration.ofDays(14));
+        verify(passwordRehashService, times(1))
+                .rehashIfNeeded(testUser.getUserId(), testUser.getPassword(), validLoginRequest.password());
     }
 
     @Test
     @DisplayName("로그인 실패 - 잘못된 비밀번호")
     void login_InvalidPassword_ThrowsException() {
         // given
-        when(userService.findByUserId(validLoginRequest.userId())).thenReturn(testUser);
+        when(userService.findUserEntity(validLoginRequest.userId())).thenReturn(testUser);
         when(passwordEncoder.matches(validLoginRequest.password(), testUser.getPassword())).thenReturn(false);
 
         // when & then
@@ -217,31 +248,31 @@ class UserAuthUseCaseTest {
         });
 
         assertEquals("AUTH008", exception.getErrorCode().getCode());
-        verify(userService, times(1)).findByUserId(validLoginRequest.userId());
+        verify(userService, times(1)).findUserEntity(validLoginRequest.userId());
         verify(passwordEncoder, times(1)).matches(validLoginRequest.password(), testUser.getPassword());
         verify(tokenProvider, never()).createAccessToken(anyString());
-        verify(tokenProvider, never()).createRefreshToken(anyString());
-        verify(refreshTokenService, never()).saveRefreshToken(anyString(), anyString(), any());
+        verify(tokenProvider, never()).createRefreshToken(anyString(), anyString());
+        verify(refreshTokenService, never()).saveRefreshToken(anyString(), anyString(), anyString(), any());
+        verify(passwordRehashService, never()).rehashIfNeeded(anyString(), anyString(), anyString());
     }
 
     @Test
     @DisplayName("로그아웃 성공 - HttpServletRequest 사용")
     void logout_Success() {
         // given
+        VerifiedToken accessToken = verifiedToken("access.token", "AccessToken", "testuser");
         when(tokenProvider.getToken(httpServletRequest)).thenReturn(java.util.Optional.of("access.token"));
-        when(tokenProvider.getId("access.token")).thenReturn(java.util.Optional.of("testuser"));
-        when(tokenProvider.getRemainingDuration("access.token")).thenReturn(java.util.Optional.of(Duration.ofHours(1)));
+        when(tokenProvider.getVerifiedToken(httpServletRequest)).thenReturn(java.util.Optional.of(accessToken));
 
         // when
         assertDoesNotThrow(() -> userAuthUseCase.logout(httpServletRequest));
 
         // then
         verify(tokenProvider, times(1)).getToken(httpServletRequest);
-        verify(tokenProvider, times(1)).getId("access.token");
-        verify(tokenProvider, times(1)).getRemainingDuration("access.token");
+        verify(tokenProvider, times(1)).getVerifiedToken(httpServletRequest);
         verify(refreshTokenService, times(1)).deleteRefreshToken("testuser");
         verify(tokenWhitelistService, times(1)).deleteWhitelistToken("access.token");
-        verify(tokenBlacklistService, times(1)).blacklist("access.token", Duration.ofHours(1));
+        verify(tokenBlacklistService, times(1)).blacklist(accessToken);
     }
 
     @Test
@@ -257,7 +288,7 @@ class UserAuthUseCaseTest {
 
         assertEquals("AUTH001", exception.getErrorCode().getCode());
         verify(tokenProvider, times(1)).getToken(httpServletRequest);
-        verify(tokenProvider, never()).getId(anyString());
+        verify(tokenProvider, never()).getVerifiedToken(any());
         verify(refreshTokenService, never()).deleteRefreshToken(anyString());
     }
 
@@ -272,16 +303,16 @@ class UserAuthUseCaseTest {
     }
 
     @Test
-    @DisplayName("토큰 재발급 성공")
+    @DisplayName("토큰 재발급 성공 - JWT 파싱 1회, 교체 1회, 블랙리스트 없음")
     void reissueToken_Success() {
         // given
-        when(tokenProvider.validateToken(validTokenReissueRequest.refreshToken())).thenReturn(true);
-        when(tokenProvider.getId(validTokenReissueRequest.refreshToken())).thenReturn(java.util.Optional.of("testuser"));
-        when(refreshTokenService.findByUserId("testuser")).thenReturn(validTokenReissueRequest.refreshToken());
-        when(tokenProvider.getRemainingDuration(validTokenReissueRequest.refreshToken())).thenReturn(java.util.Optional.of(Duration.ofDays(7)));
+        VerifiedToken refreshToken = verifiedToken(validTokenReissueRequest.refreshToken(), "RefreshToken", "testuser", "family");
+        when(tokenProvider.verify(validTokenReissueRequest.refreshToken())).thenReturn(java.util.Optional.of(refreshToken));
         when(tokenProvider.createAccessToken("testuser")).thenReturn("new.access.token");
-        when(tokenProvider.createRefreshToken("testuser")).thenReturn("new.refresh.token");
-        when(tokenProvider.getRemainingDuration("new.refresh.token")).thenReturn(java.util.Optional.of(Duration.ofDays(14)));
+        when(tokenProvider.createRefreshToken("testuser", "family")).thenReturn("new.refresh.token");
+        when(tokenProvider.getRefreshTokenLifetime()).thenReturn(Duration.ofDays(14));
+        when(refreshTokenService.rotate(refreshToken, "new.refresh.token", "family", Duration.ofDays(14)))
+                .thenReturn(RefreshTokenService.Rotation.SUCCESS);
 
         // when
         TokenReissueResponse response = userAuthUseCase.reissueToken(validTokenReissueRequest);
@@ -290,22 +321,40 @@ class UserAuthUseCaseTest {
         assertNotNull(response);
         assertEquals("new.access.token", response.accessToken());
         assertEquals("new.refresh.token", response.refreshToken());
-        verify(tokenProvider, times(1)).validateToken(validTokenReissueRequest.refreshToken());
-        verify(tokenProvider, times(1)).getId(validTokenReissueRequest.refreshToken());
-        verify(refreshTokenService, times(1)).findByUserId("testuser");
-        verify(tokenProvider, times(1)).getRemainingDuration(validTokenReissueRequest.refreshToken());
-        verify(tokenProvider, times(1)).createAccessToken("testuser");
-        verify(tokenProvider, times(1)).createRefreshToken("testuser");
-        verify(refreshTokenService, times(1)).deleteRefreshToken("testuser");
-        verify(refreshTokenService, times(1)).saveRefreshToken("testuser", "new.refresh.token", Duration.ofDays(14));
-        verify(tokenBlacklistService, times(1)).blacklist(validTokenReissueRequest.refreshToken(), Duration.ofDays(7));
+        verify(tokenProvider, times(1)).verify(anyString());
+        verify(tokenProvider, never()).getRemainingDuration(anyString());
+        verify(tokenProvider, never()).newFamilyId();
+        verify(refreshTokenService, times(1)).rotate(refreshToken, "new.refresh.token", "family", Duration.ofDays(14));
+        verifyNoMoreInteractions(refreshTokenService);
+        verifyNoInteractions(tokenBlacklistService);
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 성공 - 계보 도입 전 토큰은 새 계보로 옮긴다")
+    void reissueToken_LegacyToken_StartsFamily() {
+        // given
+        VerifiedToken refreshToken = verifiedToken(validTokenReissueRequest.refreshToken(), "RefreshToken", "testuser", null);
+        when(tokenProvider.verify(validTokenReissueRequest.refreshToken())).thenReturn(java.util.Optional.of(refreshToken));
+        when(tokenProvider.newFamilyId()).thenReturn("new-family");
+        when(tokenProvider.createAccessToken("testuser")).thenReturn("new.access.token");
+        when(tokenProvider.createRefreshToken("testuser", "new-family")).thenReturn("new.refresh.token");
+        when(tokenProvider.getRefreshTokenLifetime()).thenReturn(Duration.ofDays(14));
+        when(refreshTokenService.rotate(refreshToken, "new.refresh.token", "new-family", Duration.ofDays(14)))
+                .thenReturn(RefreshTokenService.Rotation.SUCCESS);
+
+        // when
+        TokenReissueResponse response = userAuthUseCase.reissueToken(validTokenReissueRequest);
+
+        // then
+        assertEquals("new.refresh.token", response.refreshToken());
+        verify(refreshTokenService, times(1)).rotate(refreshToken, "new.refresh.token", "new-family", Duration.ofDays(14));
     }
 
     @Test
     @DisplayName("토큰 재발급 실패 - 유효하지 않은 리프레시 토큰")
     void reissueToken_InvalidRefreshToken_ThrowsException() {
         // given
-        when(tokenProvider.validateToken(validTokenReissueRequest.refreshToken())).thenReturn(false);
+        when(tokenProvider.verify(validTokenReissueRequest.refreshToken())).thenReturn(java.util.Optional.empty());
 
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
@@ -313,18 +362,16 @@ class UserAuthUseCaseTest {
         });
 
         assertEquals("AUTH007", exception.getErrorCode().getCode());
-        verify(tokenProvider, times(1)).validateToken(validTokenReissueRequest.refreshToken());
-        verify(tokenProvider, never()).getId(anyString());
-        verify(refreshTokenService, never()).findByUserId(anyString());
+        verify(tokenProvider, times(1)).verify(validTokenReissueRequest.refreshToken());
+        verifyNoInteractions(refreshTokenService);
     }
 
     @Test
-    @DisplayName("토큰 재발급 실패 - 저장된 리프레시 토큰과 불일치")
-    void reissueToken_MismatchedRefreshToken_ThrowsException() {
+    @DisplayName("토큰 재발급 실패 - 액세스 토큰으로 재발급 요청")
+    void reissueToken_AccessToken_ThrowsException() {
         // given
-        when(tokenProvider.validateToken(validTokenReissueRequest.refreshToken())).thenReturn(true);
-        when(tokenProvider.getId(validTokenReissueRequest.refreshToken())).thenReturn(java.util.Optional.of("testuser"));
-        when(refreshTokenService.findByUserId("testuser")).thenReturn("different.refresh.token");
+        VerifiedToken accessToken = verifiedToken(validTokenReissueRequest.refreshToken(), "AccessToken", "testuser", null);
+        when(tokenProvider.verify(validTokenReissueRequest.refreshToken())).thenReturn(java.util.Optional.of(accessToken));
 
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
@@ -332,19 +379,21 @@ class UserAuthUseCaseTest {
         });
 
         assertEquals("AUTH007", exception.getErrorCode().getCode());
-        verify(tokenProvider, times(1)).validateToken(validTokenReissueRequest.refreshToken());
-        verify(tokenProvider, times(1)).getId(validTokenReissueRequest.refreshToken());
-        verify(refreshTokenService, times(1)).findByUserId("testuser");
         verify(tokenProvider, never()).createAccessToken(anyString());
+        verifyNoInteractions(refreshTokenService);
     }
 
     @Test
-    @DisplayName("토큰 재발급 실패 - 리프레시 토큰이 저장되지 않음")
-    void reissueToken_NoStoredRefreshToken_ThrowsException() {
+    @DisplayName("토큰 재발급 실패 - 이미 교체되었거나 저장되지 않은 리프레시 토큰")
+    void reissueToken_StaleRefreshToken_ThrowsException() {
         // given
-        when(tokenProvider.validateToken(validTokenReissueRequest.refreshToken())).thenReturn(true);
-        when(tokenProvider.getId(validTokenReissueRequest.refreshToken())).thenReturn(java.util.Optional.of("testuser"));
-        when(refreshTokenService.findByUserId("testuser")).thenReturn(null);
+        VerifiedToken refreshToken = verifiedToken(validTokenReissueRequest.refreshToken(), "RefreshToken", "testuser", "family");
+        when(tokenProvider.verify(validTokenReissueRequest.refreshToken())).thenReturn(java.util.Optional.of(refreshToken));
+        when(tokenProvider.createAccessToken("testuser")).thenReturn("new.access.token");
+        when(tokenProvider.createRefreshToken("testuser", "family")).thenReturn("new.refresh.token");
+        when(tokenProvider.getRefreshTokenLifetime()).thenReturn(Duration.ofDays(14));
+        when(refreshTokenService.rotate(refreshToken, "new.refresh.token", "family", Duration.ofDays(14)))
+                .thenReturn(RefreshTokenService.Rotation.STALE);
 
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
@@ -352,10 +401,27 @@ class UserAuthUseCaseTest {
         });
 
         assertEquals("AUTH007", exception.getErrorCode().getCode());
-        verify(tokenProvider, times(1)).validateToken(validTokenReissueRequest.refreshToken());
-        verify(tokenProvider, times(1)).getId(validTokenReissueRequest.refreshToken());
-        verify(refreshTokenService, times(1)).findByUserId("testuser");
-        verify(tokenProvider, never()).createAccessToken(anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 교체된 리프레시 토큰 재사용")
+    void reissueToken_ReusedRefreshToken_ThrowsException() {
+        // given
+        VerifiedToken refreshToken = verifiedToken(validTokenReissueRequest.refreshToken(), "RefreshToken", "testuser", "family");
+        when(tokenProvider.verify(validTokenReissueRequest.refreshToken())).thenReturn(java.util.Optional.of(refreshToken));
+        when(tokenProvider.createAccessToken("testuser")).thenReturn("new.access.token");
+        when(tokenProvider.createRefreshToken("testuser", "family")).thenReturn("new.refresh.token");
+        when(tokenProvider.getRefreshTokenLifetime()).thenReturn(Duration.ofDays(14));
+        when(refreshTokenService.rotate(refreshToken, "new.refresh.token", "family", Duration.ofDays(14)))
+                .thenReturn(RefreshTokenService.Rotation.REUSE_DETECTED);
+
+        // when & then
+        RestApiException exception = assertThrows(RestApiException.class, () -> {
+            userAuthUseCase.reissueToken(validTokenReissueRequest);
+        });
+
+        assertEquals("AUTH007", exception.getErrorCode().getCode());
+        verifyNoInteractions(tokenBlacklistService);
     }
 
     // ========== Nginx Verify Token 테스트 ==========
@@ -364,15 +430,14 @@ class UserAuthUseCaseTest {
     @DisplayName("토큰 검증 성공 - 유효한 액세스 토큰")
     void verifyToken_Success() {
         // given
-        String validAccessToken = "valid.access.token";
         String userId = "testuser";
-        
-        when(tokenProvider.getToken(httpServletRequest)).thenReturn(java.util.Optional.of(validAccessToken));
-        when(tokenProvider.validateToken(validAccessToken)).thenReturn(true);
-        when(tokenProvider.isAccessToken(validAccessToken)).thenReturn(true);
-        when(tokenBlacklistService.isBlacklistToken(validAccessToken)).thenReturn(false);
-        when(tokenProvider.getId(validAccessToken)).thenReturn(java.util.Optional.of(userId));
-        when(userService.findByUserId(userId)).thenReturn(testUser);
+        VerifiedToken accessToken = verifiedToken("valid.access.token", "AccessToken", userId);
+
+        when(tokenProvider.getToken(httpServletRequest)).thenReturn(java.util.Optional.of("valid.access.token"));
+        when(tokenProvider.getVerifiedToken(httpServletRequest)).thenReturn(java.util.Optional.of(accessToken));
+        when(tokenBlacklistService.isBlacklistToken(accessToken)).thenReturn(false);
+        when(userService.findByUserId(userId))
+                .thenReturn(new UserService.CachedUser(userId, "홍길동", "test@example.com", testUser.getBirth()));
 
         // when
         String result = userAuthUseCase.verifyToken(httpServletRequest);
@@ -380,10 +445,8 @@ class UserAuthUseCaseTest {
         // then
         assertEquals(userId, result);
         verify(tokenProvider, times(1)).getToken(httpServletRequest);
-        verify(tokenProvider, times(1)).validateToken(validAccessToken);
-        verify(tokenProvider, times(1)).isAccessToken(validAccessToken);
-        verify(tokenBlacklistService, times(1)).isBlacklistToken(validAccessToken);
-        verify(tokenProvider, times(1)).getId(validAccessToken);
+        verify(tokenProvider, times(1)).getVerifiedToken(httpServletRequest);
+        verify(tokenBlacklistService, times(1)).isBlacklistToken(accessToken);
         verify(userService, times(1)).findByUserId(userId);
     }
 
@@ -400,10 +463,8 @@ class UserAuthUseCaseTest {
 
         assertEquals("AUTH001", exception.getErrorCode().getCode());
         verify(tokenProvider, times(1)).getToken(httpServletRequest);
-        verify(tokenProvider, never()).validateToken(anyString());
-        verify(tokenProvider, never()).isAccessToken(anyString());
-        verify(tokenBlacklistService, never()).isBlacklistToken(anyString());
-        verify(tokenProvider, never()).getId(anyString());
+        verify(tokenProvider, never()).getVerifiedToken(any());
+        verify(tokenBlacklistService, never()).isBlacklistToken(any());
         verify(userService, never()).findByUserId(anyString());
     }
 
@@ -411,10 +472,8 @@ class UserAuthUseCaseTest {
     @DisplayName("토큰 검증 실패 - 유효하지 않은 토큰")
     void verifyToken_InvalidToken_ThrowsException() {
         // given
-        String invalidToken = "invalid.token";
-        
-        when(tokenProvider.getToken(httpServletRequest)).thenReturn(java.util.Optional.of(invalidToken));
-        when(tokenProvider.validateToken(invalidToken)).thenReturn(false);
+        when(tokenProvider.getToken(httpServletRequest)).thenReturn(java.util.Optional.of("invalid.token"));
+        when(tokenProvider.getVerifiedToken(httpServletRequest)).thenReturn(java.util.Optional.empty());
 
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
@@ -423,10 +482,8 @@ class UserAuthUseCaseTest {
 
         assertEquals("AUTH006", exception.getErrorCode().getCode());
         verify(tokenProvider, times(1)).getToken(httpServletRequest);
-        verify(tokenProvider, times(1)).validateToken(invalidToken);
-        verify(tokenProvider, never()).isAccessToken(anyString());
-        verify(tokenBlacklistService, never()).isBlacklistToken(anyString());
-        verify(tokenProvider, never()).getId(anyString());
+        verify(tokenProvider, times(1)).getVerifiedToken(httpServletRequest);
+        verify(tokenBlacklistService, never()).isBlacklistToken(any());
         verify(userService, never()).findByUserId(anyString());
     }
 
@@ -434,11 +491,10 @@ class UserAuthUseCaseTest {
     @DisplayName("토큰 검증 실패 - 액세스 토큰이 아님 (리프레시 토큰)")
     void verifyToken_NotAccessToken_ThrowsException() {
         // given
-        String refreshToken = "refresh.token";
-        
-        when(tokenProvider.getToken(httpServletRequest)).thenReturn(java.util.Optional.of(refreshToken));
-        when(tokenProvider.validateToken(refreshToken)).thenReturn(true);
-        when(tokenProvider.isAccessToken(refreshToken)).thenReturn(false);
+        VerifiedToken refreshToken = verifiedToken("refresh.token", "RefreshToken", "testuser");
+
+        when(tokenProvider.getToken(httpServletRequest)).thenReturn(java.util.Optional.of("refresh.token"));
+        when(tokenProvider.getVerifiedToken(httpServletRequest)).thenReturn(java.util.Optional.of(refreshToken));
 
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
@@ -446,11 +502,8 @@ class UserAuthUseCaseTest {
         });
 
         assertEquals("AUTH006", exception.getErrorCode().getCode());
-        verify(tokenProvider, times(1)).getToken(httpServletRequest);
-        verify(tokenProvider, times(1)).validateToken(refreshToken);
-        verify(tokenProvider, times(1)).isAccessToken(refreshToken);
-        verify(tokenBlacklistService, never()).isBlacklistToken(anyString());
-        verify(tokenProvider, never()).getId(anyString());
+        verify(tokenProvider, times(1)).getVerifiedToken(httpServletRequest);
+        verify(tokenBlacklistService, never()).isBlacklistToken(any());
         verify(userService, never()).findByUserId(anyString());
     }
 
@@ -458,11 +511,10 @@ class UserAuthUseCaseTest {
     @DisplayName("토큰 검증 실패 - 블랙리스트에 등록된 토큰")
     void verifyToken_BlacklistedToken_ThrowsException() {
         // given
-        String blacklistedToken = "blacklisted.token";
-        
-        when(tokenProvider.getToken(httpServletRequest)).thenReturn(java.util.Optional.of(blacklistedToken));
-        when(tokenProvider.validateToken(blacklistedToken)).thenReturn(true);
-        when(tokenProvider.isAccessToken(blacklistedToken)).thenReturn(true);
+        VerifiedToken blacklistedToken = verifiedToken("blacklisted.token", "AccessToken", "testuser");
+
+        when(tokenProvider.getToken(httpServletRequest)).thenReturn(java.util.Optional.of("blacklisted.token"));
+        when(tokenProvider.getVerifiedToken(httpServletRequest)).thenReturn(java.util.Optional.of(blacklistedToken));
         when(tokenBlacklistService.isBlacklistToken(blacklistedToken)).thenReturn(true);
 
         // when & then
@@ -471,11 +523,7 @@ class UserAuthUseCaseTest {
         });
 
         assertEquals("AUTH006", exception.getErrorCode().getCode());
-        verify(tokenProvider, times(1)).getToken(httpServletRequest);
-        verify(tokenProvider, times(1)).validateToken(blacklistedToken);
-        verify(tokenProvider, times(1)).isAccessToken(blacklistedToken);
         verify(tokenBlacklistService, times(1)).isBlacklistToken(blacklistedToken);
-        verify(tokenProvider, never()).getId(anyString());
         verify(userService, never()).findByUserId(anyString());
     }
 
@@ -483,13 +531,11 @@ class UserAuthUseCaseTest {
     @DisplayName("토큰 검증 실패 - 토큰에서 사용자 ID 추출 불가")
     void verifyToken_CannotExtractUserId_ThrowsException() {
         // given
-        String tokenWithoutUserId = "token.without.userid";
-        
-        when(tokenProvider.getToken(httpServletRequest)).thenReturn(java.util.Optional.of(tokenWithoutUserId));
-        when(tokenProvider.validateToken(tokenWithoutUserId)).thenReturn(true);
-        when(tokenProvider.isAccessToken(tokenWithoutUserId)).thenReturn(true);
+        VerifiedToken tokenWithoutUserId = verifiedToken("token.without.userid", "AccessToken", null);
+
+        when(tokenProvider.getToken(httpServletRequest)).thenReturn(java.util.Optional.of("token.without.userid"));
+        when(tokenProvider.getVerifiedToken(httpServletRequest)).thenReturn(java.util.Optional.of(tokenWithoutUserId));
         when(tokenBlacklistService.isBlacklistToken(tokenWithoutUserId)).thenReturn(false);
-        when(tokenProvider.getId(tokenWithoutUserId)).thenReturn(java.util.Optional.empty());
 
         // when & then
         RestApiException exception = assertThrows(RestApiException.class, () -> {
@@ -497,11 +543,7 @@ class UserAuthUseCaseTest {
         });
 
         assertEquals("AUTH006", exception.getErrorCode().getCode());
-        verify(tokenProvider, times(1)).getToken(httpServletRequest);
-        verify(tokenProvider, times(1)).validateToken(tokenWithoutUserId);
-        verify(tokenProvider, times(1)).isAccessToken(tokenWithoutUserId);
         verify(tokenBlacklistService, times(1)).isBlacklistToken(tokenWithoutUserId);
-        verify(tokenProvider, times(1)).getId(tokenWithoutUserId);
         verify(userService, never()).findByUserId(anyString());
     }
 
@@ -509,14 +551,12 @@ class UserAuthUseCaseTest {
     @DisplayName("토큰 검증 실패 - 존재하지 않는 사용자")
     void verifyToken_UserNotFound_ThrowsException() {
         // given
-        String validToken = "valid.token";
         String nonExistentUserId = "nonexistent";
-        
-        when(tokenProvider.getToken(httpServletRequest)).thenReturn(java.util.Optional.of(validToken));
-        when(tokenProvider.validateToken(validToken)).thenReturn(true);
-        when(tokenProvider.isAccessToken(validToken)).thenReturn(true);
+        VerifiedToken validToken = verifiedToken("valid.token", "AccessToken", nonExistentUserId);
+
+        when(tokenProvider.getToken(httpServletRequest)).thenReturn(java.util.Optional.of("valid.token"));
+        when(tokenProvider.getVerifiedToken(httpServletRequest)).thenReturn(java.util.Optional.of(validToken));
         when(tokenBlacklistService.isBlacklistToken(validToken)).thenReturn(false);
-        when(tokenProvider.getId(validToken)).thenReturn(java.util.Optional.of(nonExistentUserId));
         when(userService.findByUserId(nonExistentUserId)).thenThrow(new RestApiException(AuthErrorStatus.INVALID_ACCESS_TOKEN));
 
         // when & then
@@ -525,11 +565,16 @@ class UserAuthUseCaseTest {
         });
 
         assertEquals("AUTH006", exception.getErrorCode().getCode());
-        verify(tokenProvider, times(1)).getToken(httpServletRequest);
-        verify(tokenProvider, times(1)).validateToken(validToken);
-        verify(tokenProvider, times(1)).isAccessToken(validToken);
         verify(tokenBlacklistService, times(1)).isBlacklistToken(validToken);
-        verify(tokenProvider, times(1)).getId(validToken);
         verify(userService, times(1)).findByUserId(nonExistentUserId);
     }
+
+    private VerifiedToken verifiedToken(String token, String subject, String userId) {
+        return verifiedToken(token, subject, userId, null);
+    }
+
+    private VerifiedToken verifiedToken(String token, String subject, String userId, String family) {
+        return new VerifiedToken(token, "jti-" + token, subject, userId, null,
+                new java.util.Date(System.currentTimeMillis() + 3_600_000), family);
+    }
 }
@@ -0,0 +1,106 @@
+package com.PetFit.backend.domain.auth.domain.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.PetFit.backend.auth.domain.auth.application.dto.request.SignUpRequest;
+import com.PetFit.backend.auth.domain.auth.domain.entity.User;
+import com.PetFit.backend.auth.domain.auth.domain.repository.UserRepository;
+import com.PetFit.backend.auth.domain.auth.domain.service.UserExistenceIndex;
+import com.PetFit.backend.auth.domain.auth.domain.service.UserService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("User 저장 쿼리 수 테스트")
+class UserPersistenceStatisticsTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        userService = new UserService(userRepository, new BCryptPasswordEncoder(4),
+                mock(UserExistenceIndex.class), new ConcurrentMapCacheManager());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("가입 1회는 INSERT 한 번만 실행 (저장 전 SELECT 없음)")
+    void signUp_SingleInsert() {
+        // given
+        statistics.clear();
+
+        // when
+        userService.save(new SignUpRequest("petfit@example.com", "petfit", "password123", "홍길동", "1990-01-01"));
+
+        // then
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("새로 만든 엔티티만 새 엔티티로 판단하고, 읽어 온 엔티티는 UPDATE")
+    void loadedEntity_IsNotNew() {
+        // given
+        User user = User.builder()
+                .userId("petfit")
+                .email("petfit@example.com")
+                .password("encoded")
+                .name("홍길동")
+                .birth("1990-01-01")
+                .build();
+        assertTrue(user.isNew());
+        userRepository.save(user);
+        assertFalse(user.isNew());
+        statistics.clear();
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User loaded = userRepository.findByUserId("petfit").orElseThrow();
+            assertFalse(loaded.isNew());
+            loaded.updateProfile("김철수", "1991-02-02", null);
+            userRepository.save(loaded);
+        });
+
+        // then
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,113 @@
+package com.PetFit.backend.domain.auth.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.PetFit.backend.auth.domain.auth.domain.repository.UserRepository;
+import com.PetFit.backend.auth.domain.auth.domain.service.PasswordRehashService;
+import com.PetFit.backend.auth.domain.auth.domain.service.UserService;
+import com.PetFit.backend.global.config.properties.PasswordHashingProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("PasswordRehashService 테스트")
+class PasswordRehashServiceTest {
+
+    private PasswordEncoder passwordEncoder;
+    private UserRepository userRepository;
+    private UserService userService;
+    private PasswordHashingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordRehashService passwordRehashService;
+
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = mock(PasswordEncoder.class);
+        userRepository = mock(UserRepository.class);
+        userService = mock(UserService.class);
+        properties = new PasswordHashingProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        passwordRehashService = new PasswordRehashService(passwordEncoder, userRepository, userService, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordRehashService.destroy();
+    }
+
+    @Test
+    @DisplayName("약한 해시는 백그라운드에서 다시 해시해 조건부 저장")
+    void rehashIfNeeded_UpgradesWeakHash() {
+        // given
+        when(passwordEncoder.upgradeEncoding("old-hash")).thenReturn(true);
+        when(passwordEncoder.encode("password")).thenReturn("new-hash");
+        when(userRepository.updatePasswordIfUnchanged("user", "old-hash", "new-hash")).thenReturn(1);
+
+        // when
+        passwordRehashService.rehashIfNeeded("user", "old-hash", "password");
+
+        // then
+        verify(userRepository, timeout(1000)).updatePasswordIfUnchanged("user", "old-hash", "new-hash");
+        verify(userService, timeout(1000)).evictUser("user");
+    }
+
+    @Test
+    @DisplayName("현재 강도의 해시는 재해시하지 않음")
+    void rehashIfNeeded_SkipsCurrentHash() {
+        // given
+        when(passwordEncoder.upgradeEncoding("current-hash")).thenReturn(false);
+
+        // when
+        passwordRehashService.rehashIfNeeded("user", "current-hash", "password");
+
+        // then
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(userRepository, never()).updatePasswordIfUnchanged(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("재해시를 끄면 해시를 확인하지 않음")
+    void rehashIfNeeded_Disabled() {
+        // given
+        properties.setRehashOnLogin(false);
+
+        // when
+        passwordRehashService.rehashIfNeeded("user", "old-hash", "password");
+
+        // then
+        verify(passwordEncoder, never()).upgradeEncoding(anyString());
+    }
+
+    @Test
+    @DisplayName("그 사이 비밀번호가 바뀌었으면 건너뜀으로 기록")
+    void rehashIfNeeded_ConcurrentChange_Skipped() throws Exception {
+        // given
+        when(passwordEncoder.upgradeEncoding("old-hash")).thenReturn(true);
+        when(passwordEncoder.encode("password")).thenReturn("new-hash");
+        when(userRepository.updatePasswordIfUnchanged("user", "old-hash", "new-hash")).thenReturn(0);
+
+        // when
+        passwordRehashService.rehashIfNeeded("user", "old-hash", "password");
+
+        // then
+        verify(userRepository, timeout(1000)).updatePasswordIfUnchanged("user", "old-hash", "new-hash");
+        long deadline = System.currentTimeMillis() + 1000;
+        while (meterRegistry.get("password.rehash").tag("outcome", "skipped").counter().count() < 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1.0, meterRegistry.get("password.rehash").tag("outcome", "skipped").counter().count());
+        assertEquals(0.0, meterRegistry.get("password.rehash").tag("outcome", "rehashed").counter().count());
+    }
+}
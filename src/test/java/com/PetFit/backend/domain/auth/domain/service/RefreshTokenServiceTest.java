@@ -0,0 +1,274 @@
+package com.PetFit.backend.domain.auth.domain.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.spy;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.PetFit.backend.auth.domain.auth.domain.service.RefreshTokenService;
+import com.PetFit.backend.auth.domain.auth.domain.service.RefreshTokenService.Rotation;
+import com.PetFit.backend.global.config.RedisConfig;
+import com.PetFit.backend.global.config.properties.RefreshTokenProperties;
+import com.PetFit.backend.global.security.JwtProperties;
+import com.PetFit.backend.global.security.TokenProvider;
+import com.PetFit.backend.global.security.VerifiedToken;
+import com.PetFit.backend.global.util.TokenDigest;
+
+import io.lettuce.core.cluster.SlotHash;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RefreshTokenService 테스트")
+class RefreshTokenServiceTest {
+
+    private static final String USER_ID = "testuser";
+    private static final String FAMILY_KEY = "REFRESH_TOKEN_FAMILY:{REFRESH_TOKEN:" + USER_ID + "}";
+    private static final String LEGACY_KEY = "REFRESH_TOKEN:" + USER_ID;
+    private static final Duration TTL = Duration.ofDays(14);
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static TokenProvider tokenProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setKey("test-secret-key-for-testing-purposes-only-very-long-key");
+        jwtProperties.setAccessTokenExpirationMs(900000L);
+        jwtProperties.setRefreshTokenExpirationMs(1209600000L);
+        jwtProperties.setVerificationExpirationMs(900000L);
+        tokenProvider = new TokenProvider(jwtProperties);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        meterRegistry = new SimpleMeterRegistry();
+        refreshTokenService = newService(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("현재 토큰으로 교체하면 새 토큰만 남고 원문은 저장하지 않는다")
+    void rotate_Success() {
+        // given
+        VerifiedToken first = login();
+        String second = tokenProvider.createRefreshToken(USER_ID, first.family());
+
+        // when
+        Rotation rotation = refreshTokenService.rotate(first, second, first.family(), TTL);
+
+        // then
+        assertEquals(Rotation.SUCCESS, rotation);
+        assertTrue(isCurrent(second));
+        assertFalse(isCurrent(first.token()));
+        assertFalse(redisTemplate.opsForHash().values(FAMILY_KEY).contains(second));
+        assertTrue(redisTemplate.getExpire(FAMILY_KEY) > Duration.ofDays(13).toSeconds());
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 동시에 재발급하면 하나만 성공하고 나머지는 재사용으로 보지 않는다")
+    void rotate_Concurrent_SingleWinner() throws Exception {
+        // given
+        int threads = 32;
+        VerifiedToken presented = login();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<String>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    String next = tokenProvider.createRefreshToken(USER_ID, presented.family());
+                    start.await();
+                    Rotation rotation = refreshTokenService.rotate(presented, next, presented.family(), TTL);
+                    return rotation == Rotation.SUCCESS ? next : rotation.name();
+                }));
+            }
+            start.countDown();
+
+            // then
+            List<String> winners = new ArrayList<>();
+            for (Future<String> future : futures) {
+                String result = future.get();
+                if (!result.equals(Rotation.STALE.name())) {
+                    winners.add(result);
+                }
+            }
+            assertEquals(1, winners.size());
+            assertTrue(isCurrent(winners.get(0)));
+            assertEquals(threads - 1, meterRegistry.get("refresh.token.rotations").tag("result", "stale").counter().count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("이미 교체된 토큰을 다시 쓰면 계보를 폐기한다")
+    void rotate_Reuse_RevokesFamily() {
+        // given
+        VerifiedToken first = login();
+        VerifiedToken second = tokenProvider.verify(tokenProvider.createRefreshToken(USER_ID, first.family())).orElseThrow();
+        String third = tokenProvider.createRefreshToken(USER_ID, first.family());
+        refreshTokenService.rotate(first, second.token(), first.family(), TTL);
+        refreshTokenService.rotate(second, third, first.family(), TTL);
+
+        // when
+        Rotation reused = refreshTokenService.rotate(first, tokenProvider.createRefreshToken(USER_ID, first.family()),
+                first.family(), TTL);
+        Rotation afterRevoke = refreshTokenService.rotate(tokenProvider.verify(third).orElseThrow(),
+                tokenProvider.createRefreshToken(USER_ID, first.family()), first.family(), TTL);
+
+        // then
+        assertEquals(Rotation.REUSE_DETECTED, reused);
+        assertEquals(Rotation.STALE, afterRevoke);
+        assertFalse(redisTemplate.hasKey(FAMILY_KEY));
+        assertEquals(1, meterRegistry.get("refresh.token.rotations").tag("result", "reuse_detected").counter().count());
+    }
+
+    @Test
+    @DisplayName("다시 로그인하면 이전 계보의 토큰은 재발급할 수 없다")
+    void rotate_AfterRelogin_Stale() {
+        // given
+        VerifiedToken oldSession = login();
+        login();
+
+        // when
+        Rotation rotation = refreshTokenService.rotate(oldSession,
+                tokenProvider.createRefreshToken(USER_ID, oldSession.family()), oldSession.family(), TTL);
+
+        // then
+        assertEquals(Rotation.STALE, rotation);
+        assertTrue(redisTemplate.hasKey(FAMILY_KEY));
+    }
+
+    @Test
+    @DisplayName("계보 도입 전 원문으로 저장된 토큰은 첫 재발급 때 계보로 옮긴다")
+    void rotate_LegacyToken_Migrates() {
+        // given
+        String legacyToken = tokenProvider.createRefreshToken(USER_ID);
+        redisTemplate.opsForValue().set(LEGACY_KEY, legacyToken, TTL);
+        VerifiedToken presented = new VerifiedToken(legacyToken, null, "RefreshToken", USER_ID, null,
+                new Date(System.currentTimeMillis() + TTL.toMillis()), null);
+        String family = tokenProvider.newFamilyId();
+        String next = tokenProvider.createRefreshToken(USER_ID, family);
+
+        // when
+        Rotation migrated = refreshTokenService.rotate(presented, next, family, TTL);
+        Rotation replayed = refreshTokenService.rotate(presented, tokenProvider.createRefreshToken(USER_ID, family), family, TTL);
+
+        // then
+        assertEquals(Rotation.SUCCESS, migrated);
+        assertEquals(Rotation.STALE, replayed);
+        assertFalse(redisTemplate.hasKey(LEGACY_KEY));
+        assertTrue(isCurrent(next));
+    }
+
+    @Test
+    @DisplayName("계보 키와 계보 도입 전 키는 Redis Cluster 에서 같은 슬롯")
+    void keys_ShareClusterSlot() {
+        // when
+        login();
+
+        // then
+        assertTrue(redisTemplate.hasKey(FAMILY_KEY));
+        assertEquals(SlotHash.getSlot(LEGACY_KEY), SlotHash.getSlot(FAMILY_KEY));
+    }
+
+    @Test
+    @DisplayName("재발급은 Redis 왕복 1회 (스크립트 한 번, GET/SET/DEL/PUBLISH 없음)")
+    void rotate_SingleRoundTrip() {
+        // given
+        StringRedisTemplate countingTemplate = spy(redisTemplate);
+        RefreshTokenService service = newService(countingTemplate);
+        VerifiedToken first = login();
+        VerifiedToken second = tokenProvider.verify(tokenProvider.createRefreshToken(USER_ID, first.family())).orElseThrow();
+        // 스크립트 캐시 적재 (첫 실행은 NOSCRIPT 후 EVAL)
+        service.rotate(first, second.token(), first.family(), TTL);
+        clearInvocations(countingTemplate);
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().resetConfigStats();
+
+        // when
+        Rotation rotation = service.rotate(second, tokenProvider.createRefreshToken(USER_ID, first.family()),
+                first.family(), TTL);
+
+        // then
+        assertEquals(Rotation.SUCCESS, rotation);
+        assertEquals(List.of("execute"), mockingDetails(countingTemplate).getInvocations().stream()
+                .map(invocation -> invocation.getMethod().getName())
+                .toList());
+        Properties stats = redisTemplate.getConnectionFactory().getConnection().serverCommands().info("commandstats");
+        assertEquals(1, calls(stats, "evalsha"));
+        assertEquals(0, calls(stats, "eval"));
+        assertEquals(0, calls(stats, "get"));
+        assertEquals(0, calls(stats, "set"));
+        assertEquals(0, calls(stats, "del"));
+        assertEquals(0, calls(stats, "publish"));
+    }
+
+    private VerifiedToken login() {
+        String family = tokenProvider.newFamilyId();
+        String token = tokenProvider.createRefreshToken(USER_ID, family);
+        refreshTokenService.saveRefreshToken(USER_ID, token, family, TTL);
+        return tokenProvider.verify(token).orElseThrow();
+    }
+
+    private boolean isCurrent(String token) {
+        return TokenDigest.of(token).equals(redisTemplate.opsForHash().get(FAMILY_KEY, "cur"));
+    }
+
+    private RefreshTokenService newService(StringRedisTemplate template) {
+        RedisConfig redisConfig = new RedisConfig();
+        return new RefreshTokenService(template, new RefreshTokenProperties(), meterRegistry,
+                redisConfig.refreshTokenSaveScript(), redisConfig.refreshTokenRotateScript());
+    }
+
+    // cmdstat_<command>:calls=N,usec=...
+    private static long calls(Properties stats, String command) {
+        String value = stats.getProperty("cmdstat_" + command);
+        if (value == null) {
+            return 0;
+        }
+        return Long.parseLong(value.substring("calls=".length(), value.indexOf(',')));
+    }
+}
@@ -0,0 +1,278 @@
+package com.PetFit.backend.domain.auth.domain.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.PetFit.backend.auth.domain.auth.domain.service.TokenBlacklistService;
+import com.PetFit.backend.global.config.properties.TokenBlacklistProperties;
+import com.PetFit.backend.global.security.JwtProperties;
+import com.PetFit.backend.global.security.VerifiedToken;
+import com.PetFit.backend.global.util.BackgroundLoader;
+import com.PetFit.backend.global.util.TokenDigest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenBlacklistService 테스트")
+class TokenBlacklistServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private Cursor<String> cursor;
+
+    private TokenBlacklistProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private BackgroundLoader backgroundLoader;
+    private TokenBlacklistService tokenBlacklistService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(redisTemplate.scan(any())).thenReturn(cursor);
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setAccessTokenExpirationMs(900000L);
+        jwtProperties.setRefreshTokenExpirationMs(1209600000L);
+        meterRegistry = new SimpleMeterRegistry();
+        backgroundLoader = new BackgroundLoader(meterRegistry);
+        tokenBlacklistService = new TokenBlacklistService(redisTemplate, listenerContainer,
+                properties = new TokenBlacklistProperties(), jwtProperties, backgroundLoader, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        backgroundLoader.destroy();
+    }
+
+    @Test
+    @DisplayName("구독 중이면 블랙리스트에 없는 토큰은 Redis 조회 없이 판단")
+    void listening_AnswersLocally() throws Exception {
+        // given
+        when(listenerContainer.isListening()).thenReturn(true);
+        when(cursor.hasNext()).thenReturn(true, true, false);
+        when(cursor.next()).thenReturn("BLACKLIST:jti-2", "BLACKLIST:legacy.access.token");
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.<Object>of(60_000L, 60_000L));
+        when(valueOperations.multiGet(List.of("BLACKLIST:jti-2"))).thenReturn(Arrays.asList("1"));
+        awaitLoaded();
+        VerifiedToken accessToken = accessToken("jti-1");
+
+        // when
+        boolean first = tokenBlacklistService.isBlacklistToken(accessToken);
+        boolean second = tokenBlacklistService.isBlacklistToken(accessToken);
+
+        // then
+        assertFalse(first);
+        assertFalse(second);
+        assertTrue(tokenBlacklistService.isBlacklistToken(accessToken("jti-2")));
+        verify(redisTemplate, times(1)).scan(any());
+        // 키마다 PTTL 을 따로 보내지 않고 파이프라인 한 번으로 적재
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(redisTemplate, never()).getExpire(anyString(), any(TimeUnit.class));
+        verify(valueOperations, never()).multiGet(List.of("BLACKLIST:jti-1"));
+    }
+
+    @Test
+    @DisplayName("적재는 요청 스레드를 막지 않고, 끝나기 전에는 Redis 로 확인")
+    void beforeLoad_FallsBackToRedisWithoutBlocking() {
+        // given
+        when(listenerContainer.isListening()).thenReturn(true);
+        when(valueOperations.multiGet(List.of("BLACKLIST:jti-1"))).thenReturn(Arrays.asList((String) null));
+
+        // when
+        boolean blacklisted = tokenBlacklistService.isBlacklistToken(accessToken("jti-1"));
+
+        // then
+        assertFalse(blacklisted);
+        verify(valueOperations, times(1)).multiGet(List.of("BLACKLIST:jti-1"));
+    }
+
+    @Test
+    @DisplayName("적재 스레드 풀이 종료되면 적재하지 않고 Redis 로 확인")
+    void loaderShutDown_FallsBackToRedis() {
+        // given
+        backgroundLoader.destroy();
+        when(listenerContainer.isListening()).thenReturn(true);
+        when(valueOperations.multiGet(List.of("BLACKLIST:jti-1"))).thenReturn(Arrays.asList((String) null));
+
+        // when
+        boolean first = tokenBlacklistService.isBlacklistToken(accessToken("jti-1"));
+        boolean second = tokenBlacklistService.isBlacklistToken(accessToken("jti-1"));
+
+        // then
+        assertFalse(first);
+        assertFalse(second);
+        verify(redisTemplate, never()).scan(any());
+        verify(valueOperations, times(2)).multiGet(List.of("BLACKLIST:jti-1"));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 블랙리스트 이벤트가 로컬에 반영됨")
+    void onMessage_AddsToNearCache() {
+        // given
+        String body = (System.currentTimeMillis() + 60_000) + ":jti-1";
+        when(valueOperations.multiGet(List.of("BLACKLIST:jti-1"))).thenReturn(Arrays.asList("1"));
+
+        // when
+        tokenBlacklistService.onMessage(new DefaultMessage("token-blacklist".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertTrue(tokenBlacklistService.isBlacklistToken(accessToken("jti-1")));
+        verify(listenerContainer, never()).isListening();
+    }
+
+    @Test
+    @DisplayName("블랙리스트 추가 시 토큰 ID 키에 표시값만 저장하고 이벤트 발행")
+    void blacklist_StoresTokenIdAndPublishesEvent() {
+        // given
+        VerifiedToken accessToken = accessToken("jti-1");
+        when(valueOperations.multiGet(List.of("BLACKLIST:jti-1"))).thenReturn(Arrays.asList("1"));
+
+        // when
+        tokenBlacklistService.blacklist(accessToken);
+
+        // then
+        verify(valueOperations, times(1)).set(eq("BLACKLIST:jti-1"), eq("1"), any(Duration.class));
+        verify(redisTemplate, times(1)).convertAndSend(eq("token-blacklist"), endsWith(":jti-1"));
+        assertTrue(tokenBlacklistService.isBlacklistToken(accessToken));
+    }
+
+    @Test
+    @DisplayName("구독이 끊기면 Redis 직접 조회로 대체")
+    void notListening_FallsBackToRedis() {
+        // given
+        when(listenerContainer.isListening()).thenReturn(false);
+        when(valueOperations.multiGet(List.of("BLACKLIST:jti-1"))).thenReturn(Arrays.asList("1"));
+
+        // when & then
+        assertTrue(tokenBlacklistService.isBlacklistToken(accessToken("jti-1")));
+        verify(valueOperations, times(1)).multiGet(List.of("BLACKLIST:jti-1"));
+    }
+
+    @Test
+    @DisplayName("jti 가 없는 이전 토큰은 원문 키도 한 번에 확인")
+    void legacyToken_ChecksRawKeyInSingleRoundTrip() {
+        // given
+        when(listenerContainer.isListening()).thenReturn(false);
+        VerifiedToken legacyToken = accessToken(null);
+        List<String> keys = List.of("BLACKLIST:" + TokenDigest.of("legacy.access.token"), "BLACKLIST:legacy.access.token");
+        when(valueOperations.multiGet(keys)).thenReturn(Arrays.asList(null, "legacy.access.token"));
+
+        // when & then
+        assertTrue(tokenBlacklistService.isBlacklistToken(legacyToken));
+        verify(valueOperations, times(1)).multiGet(keys);
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("이전 블랙리스트 키를 남은 TTL 그대로 토큰 ID 키로 이전")
+    void migrateLegacyKeys_RewritesKeys() {
+        // given
+        properties.setMigrateLegacyKeys(true);
+        when(valueOperations.setIfAbsent("BLACKLIST_MIGRATION:token-id", "1")).thenReturn(true);
+        when(cursor.hasNext()).thenReturn(true, true, false);
+        when(cursor.next()).thenReturn("BLACKLIST:legacy.access.token", "BLACKLIST:jti-1");
+        when(redisTemplate.getExpire("BLACKLIST:legacy.access.token", TimeUnit.MILLISECONDS)).thenReturn(60_000L);
+
+        // when
+        tokenBlacklistService.migrateLegacyKeys();
+
+        // then
+        verify(valueOperations, times(1)).set(
+                "BLACKLIST:" + TokenDigest.of("legacy.access.token"), "1", Duration.ofMillis(60_000L));
+        verify(redisTemplate, times(1)).delete("BLACKLIST:legacy.access.token");
+        verify(redisTemplate, never()).delete("BLACKLIST:jti-1");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 이미 마이그레이션했으면 스캔하지 않음")
+    void migrateLegacyKeys_SkipsWhenMarkerExists() {
+        // given
+        properties.setMigrateLegacyKeys(true);
+        when(valueOperations.setIfAbsent("BLACKLIST_MIGRATION:token-id", "1")).thenReturn(false);
+
+        // when
+        tokenBlacklistService.migrateLegacyKeys();
+
+        // then
+        verify(redisTemplate, never()).scan(any());
+    }
+
+    @Test
+    @DisplayName("마이그레이션이 실패하면 완료 표시를 지워 다음 기동에서 다시 시도")
+    void migrateLegacyKeys_ReleasesMarkerOnFailure() {
+        // given
+        properties.setMigrateLegacyKeys(true);
+        when(valueOperations.setIfAbsent("BLACKLIST_MIGRATION:token-id", "1")).thenReturn(true);
+        when(cursor.hasNext()).thenThrow(new IllegalStateException("connection lost"));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> tokenBlacklistService.migrateLegacyKeys());
+        verify(redisTemplate, times(1)).delete("BLACKLIST_MIGRATION:token-id");
+    }
+
+    @Test
+    @DisplayName("마이그레이션이 꺼져 있으면 아무것도 하지 않음")
+    void migrateLegacyKeys_DisabledByDefault() {
+        // when
+        tokenBlacklistService.migrateLegacyKeys();
+
+        // then
+        verify(redisTemplate, never()).scan(any());
+    }
+
+    // 기동 시 백그라운드 적재가 끝날 때까지 대기
+    private void awaitLoaded() throws InterruptedException {
+        tokenBlacklistService.warmUp();
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (meterRegistry.get("token.blacklist.filter.synced").gauge().value() == 0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private VerifiedToken accessToken(String jti) {
+        String token = jti == null ? "legacy.access.token" : "access.token." + jti;
+        return new VerifiedToken(token, jti, "AccessToken", "testuser", null,
+                new Date(System.currentTimeMillis() + 600_000), null);
+    }
+}
@@ -0,0 +1,87 @@
+package com.PetFit.backend.domain.auth.domain.service;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.PetFit.backend.auth.domain.auth.domain.service.TokenWhitelistService;
+import com.PetFit.backend.global.config.properties.TokenWhitelistProperties;
+import com.PetFit.backend.global.security.VerifiedToken;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("TokenWhitelistService 테스트")
+class TokenWhitelistServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenWhitelistService tokenWhitelistService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenWhitelistService = new TokenWhitelistService(new TokenWhitelistProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("캐시한 토큰 조회 성공")
+    void whitelist_ThenFind() {
+        // given
+        VerifiedToken verifiedToken = accessToken("access.token", 60_000);
+
+        // when
+        tokenWhitelistService.whitelist(verifiedToken);
+
+        // then
+        assertEquals(verifiedToken, tokenWhitelistService.find("access.token").orElseThrow());
+        assertFalse(tokenWhitelistService.isWhitelistToken("other.token"));
+    }
+
+    @Test
+    @DisplayName("로그아웃 시 캐시에서 제거")
+    void deleteWhitelistToken_Invalidates() {
+        // given
+        tokenWhitelistService.whitelist(accessToken("access.token", 60_000));
+
+        // when
+        tokenWhitelistService.deleteWhitelistToken("access.token");
+
+        // then
+        assertFalse(tokenWhitelistService.isWhitelistToken("access.token"));
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 캐시되지 않음")
+    void expiredToken_NotCached() {
+        // given
+        tokenWhitelistService.whitelist(accessToken("expired.token", -1_000));
+
+        // when & then
+        assertFalse(tokenWhitelistService.isWhitelistToken("expired.token"));
+    }
+
+    @Test
+    @DisplayName("hit/miss 지표가 레지스트리에 노출됨")
+    void metrics_Registered() {
+        // given
+        tokenWhitelistService.whitelist(accessToken("access.token", 60_000));
+
+        // when
+        tokenWhitelistService.find("access.token");
+        tokenWhitelistService.find("missing.token");
+
+        // then
+        assertTrue(meterRegistry.find("cache.gets").tag("cache", "token.whitelist").tag("result", "hit").functionCounter().count() >= 1);
+        assertTrue(meterRegistry.find("cache.gets").tag("cache", "token.whitelist").tag("result", "miss").functionCounter().count() >= 1);
+    }
+
+    private VerifiedToken accessToken(String token, long expiresInMs) {
+        return new VerifiedToken(token, "jti-" + token, "AccessToken", "testuser", null,
+                new Date(System.currentTimeMillis() + expiresInMs), null);
+    }
+}
@@ -0,0 +1,208 @@
+package com.PetFit.backend.domain.auth.domain.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.PetFit.backend.auth.domain.auth.domain.repository.UserRepository;
+import com.PetFit.backend.auth.domain.auth.domain.repository.UserRepository.UserIdentity;
+import com.PetFit.backend.auth.domain.auth.domain.service.UserExistenceIndex;
+import com.PetFit.backend.global.config.properties.UserExistenceIndexProperties;
+import com.PetFit.backend.global.util.BackgroundLoader;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("UserExistenceIndex 테스트")
+class UserExistenceIndexTest {
+
+    private UserRepository userRepository;
+    private RedisMessageListenerContainer listenerContainer;
+    private SimpleMeterRegistry meterRegistry;
+    private BackgroundLoader backgroundLoader;
+    private UserExistenceIndex index;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        listenerContainer = mock(RedisMessageListenerContainer.class);
+        meterRegistry = new SimpleMeterRegistry();
+        backgroundLoader = new BackgroundLoader(meterRegistry);
+        UserExistenceIndexProperties properties = new UserExistenceIndexProperties();
+        properties.setExpectedInsertions(1_000);
+        index = new UserExistenceIndex(userRepository, mock(RedisTemplate.class), listenerContainer, properties,
+                backgroundLoader, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        backgroundLoader.destroy();
+    }
+
+    @Test
+    @DisplayName("적재 전에는 DB 로 확인")
+    void beforeLoad_FallsBackToDatabase() {
+        // given
+        when(listenerContainer.isListening()).thenReturn(false);
+        when(userRepository.existsByUserId("user1")).thenReturn(false);
+
+        // when
+        boolean exists = index.existsByUserId("user1");
+
+        // then
+        assertFalse(exists);
+        verify(userRepository).existsByUserId("user1");
+    }
+
+    @Test
+    @DisplayName("적재 스레드 풀이 종료되면 적재하지 않고 DB 로 확인")
+    void loaderShutDown_FallsBackToDatabase() {
+        // given
+        backgroundLoader.destroy();
+        when(listenerContainer.isListening()).thenReturn(true);
+        when(userRepository.existsByUserId("user1")).thenReturn(false);
+
+        // when
+        boolean exists = index.existsByUserId("user1");
+
+        // then
+        assertFalse(exists);
+        verify(userRepository).existsByUserId("user1");
+        verify(userRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("적재 후 없는 아이디는 DB 조회 없이 없음으로 응답")
+    void afterLoad_NegativeWithoutDatabase() throws Exception {
+        // given
+        when(listenerContainer.isListening()).thenReturn(true);
+        when(userRepository.count()).thenReturn(1L);
+        when(userRepository.findIdentitiesAfter(eq(""), any(Pageable.class)))
+                .thenReturn(List.of(identity("user1", "user1@petfit.com")));
+        when(userRepository.existsByUserId("user1")).thenReturn(true);
+        awaitLoaded();
+
+        // when & then
+        assertFalse(index.existsByUserId("newUser"));
+        assertFalse(index.existsByEmail("new@petfit.com"));
+        assertTrue(index.existsByUserId("user1"));
+        verify(userRepository, never()).existsByUserId("newUser");
+        verify(userRepository, never()).existsByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("가입한 사용자는 바로 있음 후보가 됨")
+    void add_ThenChecksDatabase() throws Exception {
+        // given
+        when(listenerContainer.isListening()).thenReturn(true);
+        when(userRepository.count()).thenReturn(0L);
+        when(userRepository.findIdentitiesAfter(eq(""), any(Pageable.class))).thenReturn(List.of());
+        when(userRepository.existsByEmail("new@petfit.com")).thenReturn(true);
+        awaitLoaded();
+
+        // when
+        index.add("newUser", "new@petfit.com");
+
+        // then
+        assertTrue(index.existsByEmail("new@petfit.com"));
+        verify(userRepository).existsByEmail("new@petfit.com");
+    }
+
+    @Test
+    @DisplayName("다시 적재하는 중에 가입한 사용자도 새 필터에 남음")
+    void add_DuringReload_NotLost() throws Exception {
+        // given
+        int users = 2_000;
+        AtomicBoolean listening = new AtomicBoolean(true);
+        List<UserIdentity> committed = new CopyOnWriteArrayList<>();
+        when(listenerContainer.isListening()).thenAnswer(invocation -> listening.get());
+        when(userRepository.count()).thenAnswer(invocation -> (long) committed.size());
+        when(userRepository.findIdentitiesAfter(anyString(), any(Pageable.class)))
+                .thenAnswer(invocation -> "".equals(invocation.getArgument(0)) ? new ArrayList<>(committed) : List.of());
+        awaitLoaded();
+
+        // when
+        // 가입(커밋 후 add)과 재연결로 인한 재적재를 겹쳐 실행
+        Thread adder = new Thread(() -> {
+            for (int i = 0; i < users; i++) {
+                committed.add(identity("user" + i, "user" + i + "@petfit.com"));
+                index.add("user" + i, "user" + i + "@petfit.com");
+            }
+        });
+        adder.start();
+        while (adder.isAlive()) {
+            listening.set(false);
+            index.existsByUserId("__probe__");
+            listening.set(true);
+            index.existsByUserId("__probe__");
+        }
+        adder.join();
+        awaitReloaded();
+
+        // then
+        double negatives = negativeChecks();
+        for (int i = 0; i < users; i++) {
+            index.existsByUserId("user" + i);
+        }
+        assertEquals(negatives, negativeChecks());
+    }
+
+    // 첫 조회가 백그라운드 적재를 시작하고, 적재가 끝나면 DB 조회 없이 응답한다
+    private void awaitLoaded() throws InterruptedException {
+        index.warmUp();
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (meterRegistry.get("user.existence.index.checks").tag("result", "negative").counter().count() == 0
+                && System.currentTimeMillis() < deadline) {
+            index.existsByUserId("__probe__");
+            Thread.sleep(10);
+        }
+    }
+
+    // 진행 중인 적재가 끝나 필터로 "없음" 을 답할 때까지 대기
+    private void awaitReloaded() throws InterruptedException {
+        double before = negativeChecks();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (negativeChecks() == before && System.currentTimeMillis() < deadline) {
+            index.existsByUserId("__probe__");
+            Thread.sleep(10);
+        }
+    }
+
+    private double negativeChecks() {
+        return meterRegistry.get("user.existence.index.checks").tag("result", "negative").counter().count();
+    }
+
+    private static UserIdentity identity(String userId, String email) {
+        return new UserIdentity() {
+            @Override
+            public String getUserId() {
+                return userId;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+}
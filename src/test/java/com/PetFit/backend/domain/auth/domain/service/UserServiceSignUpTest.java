@@ -0,0 +1,77 @@
+package com.PetFit.backend.domain.auth.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.PetFit.backend.auth.domain.auth.application.dto.request.SignUpRequest;
+import com.PetFit.backend.auth.domain.auth.domain.repository.UserRepository;
+import com.PetFit.backend.auth.domain.auth.domain.service.UserExistenceIndex;
+import com.PetFit.backend.auth.domain.auth.domain.service.UserService;
+import com.PetFit.backend.global.exception.RestApiException;
+
+/**
+ * 가입은 바깥 트랜잭션 없이 실행되므로 테스트도 트랜잭션 없이 실제 커밋으로 확인한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("UserService 회원가입 테스트")
+class UserServiceSignUpTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userService = new UserService(userRepository, new BCryptPasswordEncoder(4),
+                mock(UserExistenceIndex.class), new ConcurrentMapCacheManager());
+        userService.save(request("petfit", "petfit@example.com"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("중복 이메일은 유니크 제약 위반으로 AUTH009")
+    void save_DuplicateEmail_MapsConstraint() {
+        // when & then
+        RestApiException exception = assertThrows(RestApiException.class,
+                () -> userService.save(request("other", "petfit@example.com")));
+
+        assertEquals("AUTH009", exception.getErrorCode().getCode());
+    }
+
+    @Test
+    @DisplayName("중복 아이디는 기본 키 위반으로 AUTH010 (기존 행을 덮어쓰지 않음)")
+    void save_DuplicateUserId_MapsConstraint() {
+        // when & then
+        RestApiException exception = assertThrows(RestApiException.class,
+                () -> userService.save(request("petfit", "other@example.com")));
+
+        assertEquals("AUTH010", exception.getErrorCode().getCode());
+        assertTrue(userRepository.existsByEmail("petfit@example.com"));
+        assertEquals(1, userRepository.count());
+    }
+
+    private static SignUpRequest request(String userId, String email) {
+        return new SignUpRequest(email, userId, "password123", "홍길동", "1990-01-01");
+    }
+}
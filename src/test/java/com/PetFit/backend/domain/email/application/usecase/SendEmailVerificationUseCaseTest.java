@@ -1,5 +1,7 @@
 package com.PetFit.backend.domain.email.application.usecase;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -20,8 +22,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.PetFit.backend.auth.domain.email.application.dto.request.SendVerificationRequest;
 import com.PetFit.backend.auth.domain.email.domain.service.EmailService;
+import com.PetFit.backend.global.exception.RateLimitedApiException;
 import com.PetFit.backend.global.exception.RestApiException;
 import com.PetFit.backend.global.exception.code.status.EmailErrorStatus;
+import com.PetFit.backend.global.ratelimit.RateLimitExceededException;
+import com.PetFit.backend.global.ratelimit.RateLimitResult;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("SendEmailVerificationUseCase 테스트")
@@ -55,10 +60,10 @@ class SendEmailVerificationUseCaseTest {
     }
 
     @Test
-    @DisplayName("쿨다운 중일 때 EMAIL_COOLDOWN_ACTIVE 예외 발생")
-    void sendVerification_CooldownActive_ThrowsException() {
+    @DisplayName("메시지가 없는 예외도 EMAIL_SEND_FAILED 예외 발생")
+    void sendVerification_ExceptionWithoutMessage_ThrowsSendFailed() {
         // given
-        doThrow(new RuntimeException("이메일 발송 쿨다운 중입니다. 잠시 후 다시 시도해주세요."))
+        doThrow(new RuntimeException())
                 .when(emailService).sendVerificationCode(anyString());
 
         // when & then
@@ -66,23 +71,58 @@ class SendEmailVerificationUseCaseTest {
             sendEmailVerificationUseCase.sendVerification(validRequest);
         });
 
-        assertEquals(EmailErrorStatus.EMAIL_COOLDOWN_ACTIVE.getCode(), exception.getErrorCode());
+        assertEquals(EmailErrorStatus.EMAIL_SEND_FAILED.getCode(), exception.getErrorCode());
         verify(emailService, times(1)).sendVerificationCode("test@example.com");
     }
 
+    @Test
+    @DisplayName("발송 제한에 걸리면 재시도 시간을 담은 예외 발생")
+    void sendVerification_RateLimited_ThrowsWithRetryAfter() {
+        // given
+        RateLimitResult result = new RateLimitResult(RateLimitResult.Outcome.COOLDOWN, 4, Duration.ofSeconds(42));
+        doThrow(new RateLimitExceededException("이메일 발송 쿨다운 중입니다. 잠시 후 다시 시도해주세요.", result))
+                .when(emailService).sendVerificationCode(anyString());
+
+        // when & then
+        RateLimitedApiException exception = assertThrows(RateLimitedApiException.class, () -> {
+            sendEmailVerificationUseCase.sendVerification(validRequest);
+        });
+
+        assertEquals(EmailErrorStatus.EMAIL_COOLDOWN_ACTIVE.getCode(), exception.getErrorCode());
+        assertEquals(Duration.ofSeconds(42), exception.getRetryAfter());
+    }
+
     @Test
     @DisplayName("일일 발송 횟수 초과 시 EMAIL_DAILY_LIMIT_EXCEEDED 예외 발생")
     void sendVerification_DailyLimitExceeded_ThrowsException() {
         // given
-        doThrow(new RuntimeException("일일 이메일 발송 횟수를 초과했습니다."))
+        RateLimitResult result = new RateLimitResult(RateLimitResult.Outcome.LIMIT_EXCEEDED, 0, Duration.ofHours(3));
+        doThrow(new RateLimitExceededException("일일 이메일 발송 횟수를 초과했습니다.", result))
                 .when(emailService).sendVerificationCode(anyString());
 
         // when & then
-        RestApiException exception = assertThrows(RestApiException.class, () -> {
+        RateLimitedApiException exception = assertThrows(RateLimitedApiException.class, () -> {
             sendEmailVerificationUseCase.sendVerification(validRequest);
         });
 
         assertEquals(EmailErrorStatus.EMAIL_DAILY_LIMIT_EXCEEDED.getCode(), exception.getErrorCode());
+        assertEquals(Duration.ofHours(3), exception.getRetryAfter());
+        verify(emailService, times(1)).sendVerificationCode("test@example.com");
+    }
+
+    @Test
+    @DisplayName("발송 대기열이 가득 차면 EMAIL_OUTBOX_FULL 예외 발생")
+    void sendVerification_OutboxFull_ThrowsException() {
+        // given
+        doThrow(new RestApiException(EmailErrorStatus.EMAIL_OUTBOX_FULL))
+                .when(emailService).sendVerificationCode(anyString());
+
+        // when & then
+        RestApiException exception = assertThrows(RestApiException.class, () -> {
+            sendEmailVerificationUseCase.sendVerification(validRequest);
+        });
+
+        assertEquals(EmailErrorStatus.EMAIL_OUTBOX_FULL.getCode(), exception.getErrorCode());
         verify(emailService, times(1)).sendVerificationCode("test@example.com");
     }
 
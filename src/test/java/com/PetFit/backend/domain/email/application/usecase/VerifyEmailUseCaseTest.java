@@ -1,5 +1,7 @@
 package com.PetFit.backend.domain.email.application.usecase;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -26,8 +28,11 @@ import com.PetFit.backend.auth.domain.email.application.dto.request.VerifyEmailR
 import com.PetFit.backend.auth.domain.email.application.dto.response.EmailVerificationResponse;
 import com.PetFit.backend.auth.domain.email.domain.service.EmailService;
 import com.PetFit.backend.auth.domain.email.domain.service.EmailVerificationService;
+import com.PetFit.backend.global.exception.RateLimitedApiException;
 import com.PetFit.backend.global.exception.RestApiException;
 import com.PetFit.backend.global.exception.code.status.EmailErrorStatus;
+import com.PetFit.backend.global.ratelimit.RateLimitExceededException;
+import com.PetFit.backend.global.ratelimit.RateLimitResult;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("VerifyEmailUseCase 테스트")
@@ -104,6 +109,24 @@ class VerifyEmailUseCaseTest {
         verify(emailVerificationService, never()).markEmailAsVerified(anyString(), anyLong());
     }
 
+    @Test
+    @DisplayName("인증 시도 횟수 초과 시 재시도 시간을 담은 예외 발생")
+    void verifyEmail_AttemptsExceeded_ThrowsWithRetryAfter() {
+        // given
+        RateLimitResult result = new RateLimitResult(RateLimitResult.Outcome.LIMIT_EXCEEDED, 0, Duration.ofMinutes(7));
+        when(emailService.verifySignupCode(VALID_EMAIL, VALID_CODE))
+                .thenThrow(new RateLimitExceededException("인증 시도 횟수를 초과했습니다.", result));
+
+        // when & then
+        RateLimitedApiException exception = assertThrows(RateLimitedApiException.class, () -> {
+            verifyEmailUseCase.verifyEmail(validRequest);
+        });
+
+        assertEquals(EmailErrorStatus.EMAIL_VERIFY_ATTEMPTS_EXCEEDED.getCode(), exception.getErrorCode());
+        assertEquals(Duration.ofMinutes(7), exception.getRetryAfter());
+        verify(emailVerificationService, never()).markEmailAsVerified(anyString(), anyLong());
+    }
+
     @Test
     @DisplayName("이메일 인증 상태 저장 실패 시 EMAIL_VERIFICATION_FAILED 예외 발생")
     void verifyEmail_VerificationServiceFailed_ThrowsException() {
@@ -0,0 +1,138 @@
+package com.PetFit.backend.domain.email.domain.service;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import com.PetFit.backend.auth.domain.email.domain.service.EmailOutbox;
+import com.PetFit.backend.auth.domain.email.domain.template.RenderedEmail;
+import com.PetFit.backend.global.config.properties.EmailOutboxProperties;
+import com.PetFit.backend.global.exception.RestApiException;
+import com.PetFit.backend.global.exception.code.status.EmailErrorStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailOutbox 테스트")
+class EmailOutboxTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EmailOutbox emailOutbox;
+
+    @AfterEach
+    void tearDown() {
+        if (emailOutbox != null) {
+            emailOutbox.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("대기열에 넣은 메일은 백그라운드에서 SMTP 로 발송")
+    void enqueue_SendsInBackground() throws Exception {
+        // given
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        emailOutbox = outbox(mailSender, properties(10));
+        emailOutbox.start();
+
+        // when
+        emailOutbox.enqueue("user@example.com", RenderedEmail.of("[PetFit] 회원가입 이메일 인증", "<p>123456</p>"));
+
+        // then
+        assertTrue(greenMail.waitForIncomingEmail(5000, 1));
+        MimeMessage received = greenMail.getReceivedMessages()[0];
+        assertEquals("[PetFit] 회원가입 이메일 인증", received.getSubject());
+        assertTrue(received.getContentType().startsWith("text/html"));
+        assertEquals("<p>123456</p>", received.getContent().toString().trim());
+        assertEquals(1.0, meterRegistry.get("email.outbox.sent").counter().count());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 dead letter 로 보관")
+    void sendFailure_RetriesThenDeadLetters() {
+        // given
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        doThrow(new MailSendException("smtp down")).when(mailSender).send(any(MimeMessage[].class));
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        emailOutbox = outbox(mailSender, properties(10));
+        emailOutbox.start();
+
+        // when
+        emailOutbox.enqueue("user@example.com", RenderedEmail.of("subject", "<p>123456</p>"));
+
+        // then
+        verify(listOperations, timeout(5000)).leftPush(eq("EMAIL_DEAD_LETTER"), contains("user@example.com"));
+        verify(mailSender, times(3)).send(any(MimeMessage[].class));
+        assertEquals(2.0, meterRegistry.get("email.outbox.failures").tag("outcome", "retry").counter().count());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 거절")
+    void enqueue_QueueFull_Rejects() {
+        // given
+        emailOutbox = outbox(mock(JavaMailSender.class), properties(1));
+        emailOutbox.enqueue("first@example.com", RenderedEmail.of("subject", "<p>1</p>"));
+
+        // when & then
+        RestApiException exception = assertThrows(RestApiException.class,
+                () -> emailOutbox.enqueue("second@example.com", RenderedEmail.of("subject", "<p>2</p>")));
+        assertEquals(EmailErrorStatus.EMAIL_OUTBOX_FULL.getCode(), exception.getErrorCode());
+        assertEquals(1.0, meterRegistry.get("email.outbox.queue.depth").gauge().value());
+    }
+
+    private EmailOutbox outbox(JavaMailSender mailSender, EmailOutboxProperties properties) {
+        return new EmailOutbox(mailSender, redisTemplate, new ObjectMapper(), properties, meterRegistry,
+                "noreply@petfit.com");
+    }
+
+    private EmailOutboxProperties properties(int queueCapacity) {
+        EmailOutboxProperties properties = new EmailOutboxProperties();
+        properties.setQueueCapacity(queueCapacity);
+        properties.setWorkers(1);
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(Duration.ofMillis(10));
+        properties.setMaxBackoff(Duration.ofMillis(50));
+        properties.setShutdownTimeout(Duration.ofMillis(100));
+        return properties;
+    }
+}
@@ -0,0 +1,90 @@
+package com.PetFit.backend.domain.email.domain.template;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.PetFit.backend.auth.domain.email.domain.template.EmailTemplate;
+import com.PetFit.backend.auth.domain.email.domain.template.EmailTemplateRegistry;
+import com.PetFit.backend.auth.domain.email.domain.template.EmailTemplateType;
+import com.PetFit.backend.auth.domain.email.domain.template.RenderedEmail;
+
+@DisplayName("EmailTemplate 테스트")
+class EmailTemplateTest {
+
+    private final EmailTemplateRegistry registry = new EmailTemplateRegistry();
+
+    @Test
+    @DisplayName("슬롯에 값을 채워 렌더링")
+    void render_FillsSlots() {
+        // given
+        EmailTemplate template = EmailTemplate.compile(EmailTemplateType.SIGNUP,
+                "Subject: 제목\n\n<p>코드 {{code}} / {{ code }}</p>\n");
+
+        // when
+        RenderedEmail mail = template.render("123456");
+
+        // then
+        assertEquals("제목", mail.subject());
+        assertEquals("<p>코드 123456 / 123456</p>", new String(mail.body(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("슬롯 값은 HTML 이스케이프")
+    void render_EscapesValues() {
+        // given
+        EmailTemplate template = EmailTemplate.compile(EmailTemplateType.SIGNUP, "Subject: s\n<b>{{code}}</b>");
+
+        // when
+        RenderedEmail mail = template.render("<script>");
+
+        // then
+        assertEquals("<b>&lt;script&gt;</b>", new String(mail.body(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("정의되지 않은 슬롯이나 제목 없는 템플릿은 컴파일 실패")
+    void compile_Invalid_Throws() {
+        assertThrows(IllegalStateException.class,
+                () -> EmailTemplate.compile(EmailTemplateType.SIGNUP, "Subject: s\n{{name}}"));
+        assertThrows(IllegalStateException.class,
+                () -> EmailTemplate.compile(EmailTemplateType.SIGNUP, "<p>{{code}}</p>"));
+        assertThrows(IllegalStateException.class,
+                () -> EmailTemplate.compile(EmailTemplateType.SIGNUP, "Subject: s\n{{code"));
+    }
+
+    @Test
+    @DisplayName("리소스의 템플릿을 언어별로 선택하고 없으면 기본 템플릿 사용")
+    void registry_ResolvesLocaleVariants() {
+        // when
+        EmailTemplate korean = registry.get(EmailTemplateType.SIGNUP, Locale.KOREA);
+        EmailTemplate english = registry.get(EmailTemplateType.SIGNUP, Locale.US);
+        EmailTemplate french = registry.get(EmailTemplateType.SIGNUP, Locale.FRANCE);
+
+        // then
+        assertEquals("[PetFit] 회원가입 이메일 인증", korean.getSubject());
+        assertEquals("[PetFit] Verify your email address", english.getSubject());
+        assertEquals(korean, french);
+        assertEquals(korean, registry.get(EmailTemplateType.SIGNUP, null));
+    }
+
+    @Test
+    @DisplayName("모든 템플릿 종류가 기본 템플릿을 가진다")
+    void registry_LoadsAllTypes() {
+        for (EmailTemplateType type : EmailTemplateType.values()) {
+            // when
+            String body = new String(registry.get(type, Locale.KOREA).render("654321").body(), StandardCharsets.UTF_8);
+
+            // then
+            assertTrue(body.contains("654321"));
+            assertFalse(body.contains("{{"));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.PetFit.backend.global.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("TwoLevelCache 테스트")
+class TwoLevelCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CaffeineCache local;
+    private ConcurrentMapCache remote;
+    private List<Object> invalidations;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        local = new CaffeineCache("user", Caffeine.newBuilder().build(), false);
+        remote = new ConcurrentMapCache("user", false);
+        invalidations = new ArrayList<>();
+        cache = new TwoLevelCache("user", local, remote, invalidations::add, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Redis 에서 찾은 값은 로컬에 채우고 이후 로컬에서 응답")
+    void get_RemoteHit_FillsLocal() {
+        // given
+        remote.put("user1", "value");
+
+        // when
+        String first = cache.get("user1", String.class);
+        remote.evict("user1");
+        String second = cache.get("user1", String.class);
+
+        // then
+        assertEquals("value", first);
+        assertEquals("value", second);
+        assertEquals(1.0, meterRegistry.get("cache.redis.gets").tag("result", "hit").counter().count());
+        assertEquals(0.0, meterRegistry.get("cache.redis.gets").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("evict 는 두 단계에 삭제 표시를 남기고 다른 노드에 전파")
+    void evict_ClearsBothLevelsAndBroadcasts() {
+        // given
+        cache.put("user1", "value");
+
+        // when
+        cache.evict("user1");
+
+        // then
+        assertInstanceOf(TwoLevelCache.Tombstone.class, local.get("user1").get());
+        assertInstanceOf(TwoLevelCache.Tombstone.class, remote.get("user1").get());
+        assertNull(cache.get("user1"));
+        assertEquals(List.of("user1"), invalidations);
+        assertEquals(1.0, meterRegistry.get("cache.redis.gets").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("변경 전에 읽은 값은 evict 뒤에 채우지 못한다")
+    void putIfAbsent_AfterEvict_KeepsTombstone() {
+        // given
+        cache.putIfAbsent("user1", "old");
+        cache.evict("user1");
+
+        // when
+        cache.putIfAbsent("user1", "old");
+        String stale = cache.get("user1", String.class);
+        // 삭제 표시 만료
+        remote.evict("user1");
+        cache.putIfAbsent("user1", "new");
+
+        // then
+        assertNull(stale);
+        assertEquals("new", cache.get("user1", String.class));
+        assertEquals("new", remote.get("user1").get());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지는 로컬만 비움")
+    void evictLocal_KeepsRemote() {
+        // given
+        cache.put("user1", "value");
+
+        // when
+        cache.evictLocal("user1");
+
+        // then
+        assertNull(local.get("user1"));
+        assertEquals("value", remote.get("user1").get());
+        assertEquals(List.of(), invalidations);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 미스로 처리하고 로더로 조회")
+    void get_RemoteFailure_FallsBackToLoader() {
+        // given
+        Cache failingRemote = mock(Cache.class);
+        when(failingRemote.get(any())).thenThrow(new RedisConnectionFailureException("down"));
+        cache = new TwoLevelCache("user", local, failingRemote, invalidations::add, meterRegistry);
+
+        // when
+        String value = cache.get("user1", () -> "loaded");
+
+        // then
+        assertEquals("loaded", value);
+        assertEquals("loaded", local.get("user1").get());
+        assertEquals(1.0, meterRegistry.get("cache.redis.errors").counter().count());
+    }
+}
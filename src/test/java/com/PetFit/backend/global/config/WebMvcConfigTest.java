@@ -0,0 +1,47 @@
+package com.PetFit.backend.global.config;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.LocaleResolver;
+
+@DisplayName("WebMvcConfig 테스트")
+class WebMvcConfigTest {
+
+    private final LocaleResolver localeResolver = new WebMvcConfig(null, null).localeResolver();
+
+    @Test
+    @DisplayName("Accept-Language 가 없으면 JVM 기본 언어와 관계없이 한국어")
+    void noAcceptLanguage_DefaultsToKorean() {
+        // given
+        Locale jvmDefault = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+        try {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+
+            // when
+            Locale locale = localeResolver.resolveLocale(request);
+
+            // then
+            assertEquals(Locale.KOREAN, locale);
+        } finally {
+            Locale.setDefault(jvmDefault);
+        }
+    }
+
+    @Test
+    @DisplayName("Accept-Language 가 있으면 그 언어")
+    void acceptLanguage_UsesHeader() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Accept-Language", "en-US,en;q=0.9");
+        request.addPreferredLocale(Locale.US);
+
+        // when & then
+        assertEquals("en", localeResolver.resolveLocale(request).getLanguage());
+    }
+}
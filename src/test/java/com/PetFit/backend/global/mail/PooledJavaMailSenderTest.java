@@ -0,0 +1,93 @@
+package com.PetFit.backend.global.mail;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import com.PetFit.backend.global.config.properties.EmailPoolProperties;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+
+@DisplayName("PooledJavaMailSender 테스트")
+class PooledJavaMailSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PooledJavaMailSender mailSender;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = sender(Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailSender.destroy();
+    }
+
+    @Test
+    @DisplayName("한 번에 보낸 메일과 이후 발송이 같은 SMTP 연결을 재사용")
+    void send_ReusesConnection() throws Exception {
+        // when
+        mailSender.send(message("a@example.com"), message("b@example.com"), message("c@example.com"));
+        mailSender.send(message("d@example.com"));
+
+        // then
+        assertTrue(greenMail.waitForIncomingEmail(5000, 4));
+        assertEquals(1.0, meterRegistry.get("email.smtp.handshakes").counter().count());
+        assertEquals(4, meterRegistry.get("email.smtp.send").timer().count());
+        assertEquals(1.0, meterRegistry.get("email.smtp.pool.idle").gauge().value());
+        assertEquals(0.0, meterRegistry.get("email.smtp.pool.active").gauge().value());
+    }
+
+    @Test
+    @DisplayName("유휴 시간이 지난 연결은 버리고 새로 연결")
+    void send_ExpiredConnection_Reconnects() throws Exception {
+        // given
+        mailSender.destroy();
+        mailSender = sender(Duration.ofMillis(1));
+        mailSender.send(message("a@example.com"));
+        Thread.sleep(20);
+
+        // when
+        mailSender.send(message("b@example.com"));
+
+        // then
+        assertTrue(greenMail.waitForIncomingEmail(5000, 2));
+        assertEquals(2.0, meterRegistry.get("email.smtp.handshakes").counter().count());
+    }
+
+    private PooledJavaMailSender sender(Duration maxIdle) {
+        EmailPoolProperties properties = new EmailPoolProperties();
+        properties.setMaxSize(2);
+        properties.setMaxIdle(maxIdle);
+        meterRegistry.clear();
+        PooledJavaMailSender sender = new PooledJavaMailSender(properties, meterRegistry);
+        sender.setHost("localhost");
+        sender.setPort(ServerSetupTest.SMTP.getPort());
+        return sender;
+    }
+
+    private MimeMessage message(String to) throws Exception {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "utf-8");
+        helper.setFrom("noreply@petfit.com");
+        helper.setTo(to);
+        helper.setSubject("subject");
+        helper.setText("<p>body</p>", true);
+        return message;
+    }
+}
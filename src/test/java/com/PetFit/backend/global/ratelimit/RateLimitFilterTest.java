@@ -0,0 +1,249 @@
+package com.PetFit.backend.global.ratelimit;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.apache.catalina.filters.RemoteIpFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import com.PetFit.backend.global.config.properties.RateLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("RateLimitFilter 테스트")
+class RateLimitFilterTest {
+
+    private RedisRateLimiter redisRateLimiter;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        redisRateLimiter = mock(RedisRateLimiter.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("IP 버킷을 다 쓰면 429 와 Retry-After 로 거절")
+    void ipBucketExhausted_Rejects() throws Exception {
+        // given
+        RateLimitFilter filter = filter(route(RateLimitKeyType.IP, 2, false));
+
+        // when
+        MockHttpServletResponse first = send(filter, login("10.0.0.1", "user1"));
+        MockHttpServletResponse second = send(filter, login("10.0.0.1", "user2"));
+        MockHttpServletResponse third = send(filter, login("10.0.0.1", "user3"));
+        MockHttpServletResponse otherIp = send(filter, login("10.0.0.2", "user1"));
+
+        // then
+        assertEquals(200, first.getStatus());
+        assertEquals(200, second.getStatus());
+        assertEquals(429, third.getStatus());
+        assertNotNull(third.getHeader("Retry-After"));
+        assertEquals(200, otherIp.getStatus());
+        assertEquals(1.0, meterRegistry.get("rate.limit.rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("인그레스 뒤의 클라이언트는 X-Forwarded-For 주소별로 버킷을 나눈다")
+    void forwardedClients_SeparateIpBuckets() throws Exception {
+        // given
+        RateLimitFilter filter = filter(route(RateLimitKeyType.IP, 1, false));
+
+        // when
+        MockHttpServletResponse first = sendViaProxy(filter, forwarded("10.0.0.100", "203.0.113.1", "user1"));
+        MockHttpServletResponse otherClient = sendViaProxy(filter, forwarded("10.0.0.100", "203.0.113.2", "user1"));
+        MockHttpServletResponse sameClient = sendViaProxy(filter, forwarded("10.0.0.100", "203.0.113.1", "user2"));
+        // 신뢰하지 않는 주소에서 보낸 X-Forwarded-For 는 무시
+        MockHttpServletResponse spoofed = sendViaProxy(filter, forwarded("198.51.100.7", "203.0.113.3", "user1"));
+        MockHttpServletResponse spoofedAgain = sendViaProxy(filter, forwarded("198.51.100.7", "203.0.113.4", "user1"));
+
+        // then
+        assertEquals(200, first.getStatus());
+        assertEquals(200, otherClient.getStatus());
+        assertEquals(429, sameClient.getStatus());
+        assertEquals(200, spoofed.getStatus());
+        assertEquals(429, spoofedAgain.getStatus());
+    }
+
+    @Test
+    @DisplayName("사용자 ID 버킷은 본문의 userId 로 구분하고 본문은 그대로 전달")
+    void userIdBucket_KeysByBodyAndKeepsBody() throws Exception {
+        // given
+        RateLimitFilter filter = filter(route(RateLimitKeyType.USER_ID, 1, false));
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(login("10.0.0.1", "user1"), first, chain);
+        MockHttpServletResponse sameUser = send(filter, login("10.0.0.2", "user1"));
+        MockHttpServletResponse otherUser = send(filter, login("10.0.0.1", "user2"));
+
+        // then
+        assertEquals(200, first.getStatus());
+        assertEquals(429, sameUser.getStatus());
+        assertEquals(200, otherUser.getStatus());
+        String forwarded = StreamUtils.copyToString(chain.getRequest().getInputStream(), StandardCharsets.UTF_8);
+        assertEquals(body("user1"), forwarded);
+    }
+
+    @Test
+    @DisplayName("global 규칙은 로컬 버킷 통과 후 Redis 버킷으로 판정")
+    void globalRule_ConsultsRedis() throws Exception {
+        // given
+        when(redisRateLimiter.tryConsume(anyString(), anyInt(), anyInt(), any(Duration.class)))
+                .thenReturn(Duration.ofSeconds(7));
+        RateLimitFilter filter = filter(route(RateLimitKeyType.USER_ID, 5, true));
+
+        // when
+        MockHttpServletResponse response = send(filter, login("10.0.0.1", "user1"));
+
+        // then
+        assertEquals(429, response.getStatus());
+        assertEquals("7", response.getHeader("Retry-After"));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 로컬 버킷만으로 판정")
+    void globalRule_RedisDown_FallsBackToLocal() throws Exception {
+        // given
+        when(redisRateLimiter.tryConsume(anyString(), anyInt(), anyInt(), any(Duration.class)))
+                .thenThrow(new IllegalStateException("redis down"));
+        RateLimitFilter filter = filter(route(RateLimitKeyType.USER_ID, 5, true));
+
+        // when
+        MockHttpServletResponse response = send(filter, login("10.0.0.1", "user1"));
+
+        // then
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("규칙이 없는 경로는 그대로 통과")
+    void unmatchedPath_PassesThrough() throws Exception {
+        // given
+        RateLimitFilter filter = filter(route(RateLimitKeyType.IP, 1, true));
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auth/profile");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertEquals(request, chain.getRequest());
+        verify(redisRateLimiter, never()).tryConsume(anyString(), anyInt(), anyInt(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("userId 가 없으면 사용자 ID 규칙은 건너뜀")
+    void missingUserId_SkipsRule() throws Exception {
+        // given
+        RateLimitFilter filter = filter(route(RateLimitKeyType.USER_ID, 1, false));
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setContent("not json".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        MockHttpServletResponse first = send(filter, request);
+        MockHttpServletRequest again = new MockHttpServletRequest("POST", "/api/auth/login");
+        again.setContent("not json".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse second = send(filter, again);
+
+        // then
+        assertEquals(200, first.getStatus());
+        assertEquals(200, second.getStatus());
+        assertNull(second.getHeader("Retry-After"));
+    }
+
+    @Test
+    @DisplayName("본문을 부풀려 userId 를 읽지 못하게 하면 413 으로 거절")
+    void paddedBody_RejectsInsteadOfSkippingUserIdRule() throws Exception {
+        // given
+        RateLimitFilter filter = filter(route(RateLimitKeyType.USER_ID, 1, false));
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletRequest padded = new MockHttpServletRequest("POST", "/api/auth/login");
+        padded.setContentType("application/json");
+        padded.setContent(("{\"password\":\"password\",\"padding\":\"" + "x".repeat(5000)
+                + "\",\"userId\":\"user1\"}").getBytes(StandardCharsets.UTF_8));
+
+        // when
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(padded, response, chain);
+
+        // then
+        assertEquals(413, response.getStatus());
+        assertNull(chain.getRequest());
+        assertEquals(1.0, meterRegistry.get("rate.limit.oversized").counter().count());
+    }
+
+    private RateLimitFilter filter(RateLimitProperties.Route... routes) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(List.of(routes));
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return new RateLimitFilter(properties, redisRateLimiter, objectMapper, meterRegistry);
+    }
+
+    private static RateLimitProperties.Route route(RateLimitKeyType key, int capacity, boolean global) {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setPathPattern("/api/auth/login");
+        route.setMethod("POST");
+        route.setKey(key);
+        route.setCapacity(capacity);
+        route.setRefillTokens(capacity);
+        route.setRefillPeriod(Duration.ofMinutes(1));
+        route.setGlobal(global);
+        return route;
+    }
+
+    private static MockHttpServletRequest login(String ip, String userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(body(userId).getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static MockHttpServletRequest forwarded(String proxyIp, String clientIp, String userId) {
+        MockHttpServletRequest request = login(proxyIp, userId);
+        request.addHeader("X-Forwarded-For", clientIp);
+        return request;
+    }
+
+    // server.forward-headers-strategy=native 의 RemoteIpValve 와 같은 규칙(기본 신뢰 프록시)으로 주소를 바꾼 뒤 필터 실행
+    private static MockHttpServletResponse sendViaProxy(RateLimitFilter filter, MockHttpServletRequest request)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new RemoteIpFilter().doFilter(request, response,
+                (forwarded, res) -> filter.doFilter(forwarded, res, new MockFilterChain()));
+        return response;
+    }
+
+    private static String body(String userId) {
+        return "{\"userId\":\"" + userId + "\",\"password\":\"password\"}";
+    }
+
+    private static MockHttpServletResponse send(RateLimitFilter filter, MockHttpServletRequest request)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
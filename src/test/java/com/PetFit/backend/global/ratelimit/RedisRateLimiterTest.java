@@ -0,0 +1,158 @@
+package com.PetFit.backend.global.ratelimit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RedisRateLimiter 테스트")
+class RedisRateLimiterTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static RedisRateLimiter rateLimiter;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        rateLimiter = new RedisRateLimiter(redisTemplate);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("한도까지 허용하고 남은 횟수와 재시도 시간을 반환")
+    void tryAcquire_LimitThenReject() {
+        // given
+        RateLimitRule rule = RateLimitRule.of(3, Duration.ofMinutes(10));
+
+        // when
+        RateLimitResult first = rateLimiter.tryAcquire("limit:user", rule);
+        rateLimiter.tryAcquire("limit:user", rule);
+        RateLimitResult third = rateLimiter.tryAcquire("limit:user", rule);
+        RateLimitResult rejected = rateLimiter.tryAcquire("limit:user", rule);
+
+        // then
+        assertEquals(2, first.remaining());
+        assertEquals(0, third.remaining());
+        assertTrue(third.isAllowed());
+        assertEquals(RateLimitResult.Outcome.LIMIT_EXCEEDED, rejected.outcome());
+        assertTrue(rejected.retryAfter().compareTo(Duration.ofMinutes(9)) > 0);
+        assertEquals("3", redisTemplate.opsForValue().get("limit:user"));
+    }
+
+    @Test
+    @DisplayName("쿨다운 중에는 거절하고 시도를 기록하지 않음")
+    void tryAcquire_Cooldown() {
+        // given
+        RateLimitRule rule = new RateLimitRule(Duration.ofSeconds(60), 5, Duration.ofDays(1));
+
+        // when
+        RateLimitResult allowed = rateLimiter.tryAcquire("limit:mail", "cooldown:mail", rule);
+        RateLimitResult cooldown = rateLimiter.tryAcquire("limit:mail", "cooldown:mail", rule);
+
+        // then
+        assertTrue(allowed.isAllowed());
+        assertEquals(4, allowed.remaining());
+        assertEquals(RateLimitResult.Outcome.COOLDOWN, cooldown.outcome());
+        assertEquals(4, cooldown.remaining());
+        assertFalse(cooldown.retryAfter().isZero());
+        assertEquals("1", redisTemplate.opsForValue().get("limit:mail"));
+    }
+
+    @Test
+    @DisplayName("되돌린 시도는 한도에서 빠지고 쿨다운도 풀림")
+    void refund_RestoresAttemptAndClearsCooldown() {
+        // given
+        RateLimitRule rule = new RateLimitRule(Duration.ofSeconds(60), 5, Duration.ofDays(1));
+        rateLimiter.tryAcquire("limit:mail", "cooldown:mail", rule);
+
+        // when
+        rateLimiter.refund("limit:mail", "cooldown:mail");
+        RateLimitResult retried = rateLimiter.tryAcquire("limit:mail", "cooldown:mail", rule);
+
+        // then
+        assertTrue(retried.isAllowed());
+        assertEquals(4, retried.remaining());
+        assertEquals("1", redisTemplate.opsForValue().get("limit:mail"));
+        assertTrue(redisTemplate.getExpire("limit:mail") > 0);
+    }
+
+    @Test
+    @DisplayName("동시 요청에서도 한도를 넘겨 허용하지 않음")
+    void tryAcquire_Concurrent_NoOverAdmission() throws Exception {
+        // given
+        int threads = 64;
+        RateLimitRule quota = RateLimitRule.of(5, Duration.ofMinutes(10));
+        RateLimitRule cooldown = new RateLimitRule(Duration.ofSeconds(60), 5, Duration.ofMinutes(10));
+
+        // when
+        int quotaAllowed = runConcurrently(threads, () -> rateLimiter.tryAcquire("limit:quota", quota));
+        int cooldownAllowed = runConcurrently(threads,
+                () -> rateLimiter.tryAcquire("limit:cooldown", "cooldown:cooldown", cooldown));
+
+        // then
+        assertEquals(5, quotaAllowed);
+        assertEquals(1, cooldownAllowed);
+        assertEquals("5", redisTemplate.opsForValue().get("limit:quota"));
+    }
+
+    private static int runConcurrently(int threads, Callable<RateLimitResult> attempt) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<RateLimitResult>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return attempt.call();
+                }));
+            }
+            start.countDown();
+            int allowed = 0;
+            for (Future<RateLimitResult> future : futures) {
+                if (future.get().isAllowed()) {
+                    allowed++;
+                }
+            }
+            return allowed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.PetFit.backend.global.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.PetFit.backend.global.annotation.RefreshToken;
+import com.PetFit.backend.global.exception.RestApiException;
+import com.PetFit.backend.global.exception.code.status.AuthErrorStatus;
+import com.PetFit.backend.global.exception.code.status.GlobalErrorStatus;
+import com.PetFit.backend.global.security.JwtProperties;
+import com.PetFit.backend.global.security.TokenProvider;
+
+@DisplayName("RefreshTokenArgumentResolver 테스트")
+class RefreshTokenArgumentResolverTest {
+
+    private TokenProvider tokenProvider;
+    private RefreshTokenArgumentResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setKey("test-secret-key-for-testing-purposes-only-very-long-key");
+        jwtProperties.setAccessTokenExpirationMs(900000L);
+        jwtProperties.setRefreshTokenExpirationMs(1209600000L);
+        jwtProperties.setVerificationExpirationMs(900000L);
+
+        tokenProvider = new TokenProvider(jwtProperties);
+        resolver = new RefreshTokenArgumentResolver(tokenProvider);
+    }
+
+    @Test
+    @DisplayName("Authorization 헤더가 없으면 _UNAUTHORIZED")
+    void resolveArgument_MissingHeader_ThrowsUnauthorized() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/reissue");
+
+        // when & then
+        RestApiException exception = assertThrows(RestApiException.class, () ->
+                resolver.resolveArgument(refreshTokenParameter(), null, new ServletWebRequest(request), null));
+
+        assertEquals(GlobalErrorStatus._UNAUTHORIZED.getCode(), exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("검증할 수 없는 토큰이면 UNSUPPORTED_JWT")
+    void resolveArgument_MalformedToken_ThrowsUnsupportedJwt() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/reissue");
+        request.addHeader("Authorization", "Bearer not-a-jwt");
+
+        // when & then
+        RestApiException exception = assertThrows(RestApiException.class, () ->
+                resolver.resolveArgument(refreshTokenParameter(), null, new ServletWebRequest(request), null));
+
+        assertEquals(AuthErrorStatus.UNSUPPORTED_JWT.getCode(), exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰이면 원문을 반환")
+    void resolveArgument_RefreshToken_ReturnsToken() throws Exception {
+        // given
+        String refreshToken = tokenProvider.createRefreshToken("testuser");
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/reissue");
+        request.addHeader("Authorization", "Bearer " + refreshToken);
+
+        // when
+        String resolved = resolver.resolveArgument(
+                refreshTokenParameter(), null, new ServletWebRequest(request), null);
+
+        // then
+        assertEquals(refreshToken, resolved);
+    }
+
+    private MethodParameter refreshTokenParameter() throws NoSuchMethodException {
+        return new MethodParameter(
+                RefreshTokenTarget.class.getDeclaredMethod("handle", String.class), 0);
+    }
+
+    static class RefreshTokenTarget {
+        @SuppressWarnings("unused")
+        void handle(@RefreshToken String refreshToken) {
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.PetFit.backend.global.security;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.PetFit.backend.auth.domain.auth.domain.service.TokenBlacklistService;
+import com.PetFit.backend.auth.domain.auth.domain.service.TokenWhitelistService;
+import com.PetFit.backend.auth.domain.auth.domain.service.UserService;
+import com.PetFit.backend.global.config.properties.AuthVerifyProperties;
+import com.PetFit.backend.global.config.properties.TokenWhitelistProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("AuthVerifyFilter 테스트")
+class AuthVerifyFilterTest {
+
+    private TokenProvider tokenProvider;
+    private TokenBlacklistService tokenBlacklistService;
+    private UserService userService;
+    private AuthVerifyProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AuthVerifyFilter authVerifyFilter;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setKey("test-secret-key-for-testing-purposes-only-very-long-key");
+        jwtProperties.setAccessTokenExpirationMs(900000L);
+        jwtProperties.setRefreshTokenExpirationMs(1209600000L);
+        jwtProperties.setVerificationExpirationMs(900000L);
+
+        tokenProvider = spy(new TokenProvider(jwtProperties));
+        tokenBlacklistService = mock(TokenBlacklistService.class);
+        userService = mock(UserService.class);
+        properties = new AuthVerifyProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        authVerifyFilter = new AuthVerifyFilter(
+                tokenProvider,
+                new TokenWhitelistService(new TokenWhitelistProperties(), meterRegistry),
+                tokenBlacklistService,
+                userService,
+                properties,
+                meterRegistry
+        );
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 본문 없이 204 와 X-User-Id, 캐시 힌트로 응답")
+    void validToken_NoContent() throws Exception {
+        // given
+        String accessToken = tokenProvider.createAccessToken("testuser");
+        when(userService.isActiveUser("testuser")).thenReturn(true);
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        MockHttpServletResponse response = verifyRequest(accessToken, chain);
+
+        // then
+        assertEquals(204, response.getStatus());
+        assertEquals("testuser", response.getHeader(AuthVerifyFilter.USER_ID_HEADER));
+        assertEquals("private, max-age=5", response.getHeader("Cache-Control"));
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertNull(chain.getRequest());
+        assertEquals(1, meterRegistry.get("auth.verify.requests").tag("result", "allowed").counter().count());
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 두 번째 요청은 서명 검증 없이 로컬 캐시로 응답")
+    void repeatedToken_ParsedOnce() throws Exception {
+        // given
+        String accessToken = tokenProvider.createAccessToken("testuser");
+        when(userService.isActiveUser("testuser")).thenReturn(true);
+
+        // when
+        verifyRequest(accessToken, new MockFilterChain());
+        MockHttpServletResponse response = verifyRequest(accessToken, new MockFilterChain());
+
+        // then
+        assertEquals(204, response.getStatus());
+        verify(tokenProvider, times(1)).verify(accessToken);
+    }
+
+    @Test
+    @DisplayName("토큰이 없거나 위조되면 401, 캐시 금지")
+    void missingOrInvalidToken_Unauthorized() throws Exception {
+        // when
+        MockHttpServletResponse missing = verifyRequest(null, new MockFilterChain());
+        MockHttpServletResponse invalid = verifyRequest("invalid.token.value", new MockFilterChain());
+
+        // then
+        assertEquals(401, missing.getStatus());
+        assertEquals("no-store", missing.getHeader("Cache-Control"));
+        assertEquals(401, invalid.getStatus());
+        assertNull(invalid.getHeader(AuthVerifyFilter.USER_ID_HEADER));
+        assertEquals(2, meterRegistry.get("auth.verify.requests").tag("result", "denied").counter().count());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰은 401")
+    void refreshToken_Unauthorized() throws Exception {
+        // given
+        String refreshToken = tokenProvider.createRefreshToken("testuser");
+
+        // when
+        MockHttpServletResponse response = verifyRequest(refreshToken, new MockFilterChain());
+
+        // then
+        assertEquals(401, response.getStatus());
+        verify(tokenBlacklistService, never()).isBlacklistToken(any());
+    }
+
+    @Test
+    @DisplayName("블랙리스트 토큰은 사용자 조회 없이 401")
+    void blacklistedToken_Unauthorized() throws Exception {
+        // given
+        String accessToken = tokenProvider.createAccessToken("testuser");
+        when(tokenBlacklistService.isBlacklistToken(any())).thenReturn(true);
+
+        // when
+        MockHttpServletResponse response = verifyRequest(accessToken, new MockFilterChain());
+
+        // then
+        assertEquals(401, response.getStatus());
+        verify(userService, never()).isActiveUser(anyString());
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자의 토큰은 401")
+    void unknownUser_Unauthorized() throws Exception {
+        // given
+        String accessToken = tokenProvider.createAccessToken("testuser");
+        when(userService.isActiveUser("testuser")).thenReturn(false);
+
+        // when
+        MockHttpServletResponse response = verifyRequest(accessToken, new MockFilterChain());
+
+        // then
+        assertEquals(401, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("다른 경로와 메서드는 다음 필터로 넘긴다")
+    void otherRequests_PassThrough() throws Exception {
+        // given
+        MockFilterChain profileChain = new MockFilterChain();
+        MockFilterChain getChain = new MockFilterChain();
+
+        // when
+        authVerifyFilter.doFilter(new MockHttpServletRequest("GET", "/api/auth/profile"),
+                new MockHttpServletResponse(), profileChain);
+        authVerifyFilter.doFilter(new MockHttpServletRequest("GET", "/api/auth/verify"),
+                new MockHttpServletResponse(), getChain);
+
+        // then
+        assertNotNull(profileChain.getRequest());
+        assertNotNull(getChain.getRequest());
+    }
+
+    @Test
+    @DisplayName("캐시 시간은 토큰 남은 유효시간을 넘지 않는다")
+    void cacheControl_BoundedByExpiration() {
+        assertEquals("private, max-age=5", authVerifyFilter.cacheControl(Duration.ofMinutes(10)));
+        assertEquals("private, max-age=2", authVerifyFilter.cacheControl(Duration.ofMillis(2500)));
+        assertEquals("no-store", authVerifyFilter.cacheControl(Duration.ofMillis(500)));
+    }
+
+    private MockHttpServletResponse verifyRequest(String token, MockFilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/verify");
+        if (token != null) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        authVerifyFilter.doFilter(request, response, chain);
+        return response;
+    }
+}
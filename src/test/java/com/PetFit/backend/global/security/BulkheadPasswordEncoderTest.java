@@ -0,0 +1,123 @@
+package com.PetFit.backend.global.security;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.PetFit.backend.global.config.properties.PasswordHashingProperties;
+import com.PetFit.backend.global.exception.RateLimitedApiException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("BulkheadPasswordEncoder 테스트")
+class BulkheadPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BulkheadPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.destroy();
+    }
+
+    @Test
+    @DisplayName("전용 스레드에서 해시하고 대기, 해시 시간을 따로 기록")
+    void encodeAndMatches_RecordsTimers() {
+        // given
+        encoder = new BulkheadPasswordEncoder(new BCryptPasswordEncoder(4), properties(2, 4, Duration.ofSeconds(5)),
+                meterRegistry);
+
+        // when
+        String encoded = encoder.encode("password");
+
+        // then
+        assertTrue(encoder.matches("password", encoded));
+        assertFalse(encoder.matches("wrong", encoded));
+        assertEquals(3, meterRegistry.get("password.hash.queue.wait").timer().count());
+        assertEquals(1, meterRegistry.get("password.hash.duration").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("password.hash.duration").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 가득 차면 즉시 429 로 거절")
+    void saturated_RejectsFast() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BulkheadPasswordEncoder(blockingEncoder(started, release), properties(1, 1, Duration.ofSeconds(5)),
+                meterRegistry);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "b"));
+        waitForQueueDepth(1);
+
+        // when & then
+        assertThrows(RateLimitedApiException.class, () -> encoder.matches("c", "c"));
+        assertEquals(1.0, meterRegistry.get("password.hash.rejected").counter().count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간을 넘기면 거절")
+    void slowHash_TimesOut() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BulkheadPasswordEncoder(blockingEncoder(new CountDownLatch(1), release),
+                properties(1, 1, Duration.ofMillis(50)), meterRegistry);
+
+        // when & then
+        assertThrows(RateLimitedApiException.class, () -> encoder.matches("a", "a"));
+        release.countDown();
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hash.queue.depth").gauge().value() < depth
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static PasswordHashingProperties properties(int threads, int queueCapacity, Duration maxWait) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setMaxWait(maxWait);
+        return properties;
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+}
@@ -0,0 +1,140 @@
+package com.PetFit.backend.global.security;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.PetFit.backend.auth.domain.auth.domain.service.RefreshTokenService;
+import com.PetFit.backend.auth.domain.auth.domain.service.TokenBlacklistService;
+import com.PetFit.backend.auth.domain.auth.domain.service.TokenWhitelistService;
+import com.PetFit.backend.global.annotation.CurrentUser;
+import com.PetFit.backend.global.interceptor.JwtBlacklistInterceptor;
+import com.PetFit.backend.global.resolver.CurrentUserArgumentResolver;
+
+@DisplayName("JwtAuthenticationFilter 테스트")
+class JwtAuthenticationFilterTest {
+
+    private TokenProvider tokenProvider;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private JwtBlacklistInterceptor jwtBlacklistInterceptor;
+    private CurrentUserArgumentResolver currentUserArgumentResolver;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setKey("test-secret-key-for-testing-purposes-only-very-long-key");
+        jwtProperties.setAccessTokenExpirationMs(900000L);
+        jwtProperties.setRefreshTokenExpirationMs(1209600000L);
+        jwtProperties.setVerificationExpirationMs(900000L);
+
+        tokenProvider = spy(new TokenProvider(jwtProperties));
+        RoutePolicyRegistry routePolicyRegistry = new RoutePolicyRegistry(new RoutePolicyProperties(List.of(
+                new RoutePolicyProperties.Route("/api/auth/login", "POST", RoutePolicy.PUBLIC)
+        )));
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(
+                tokenProvider,
+                routePolicyRegistry,
+                mock(RefreshTokenService.class),
+                mock(TokenWhitelistService.class)
+        );
+        jwtBlacklistInterceptor = new JwtBlacklistInterceptor(
+                tokenProvider, mock(TokenBlacklistService.class), routePolicyRegistry);
+        currentUserArgumentResolver = new CurrentUserArgumentResolver(tokenProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("필터, 인터셉터, 리졸버를 거쳐도 토큰은 한 번만 파싱된다")
+    void authenticatedRequest_ParsesTokenOnce() throws Exception {
+        // given
+        String accessToken = tokenProvider.createAccessToken("testuser");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auth/profile");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        jwtAuthenticationFilter.doFilter(request, response, new MockFilterChain());
+        jwtBlacklistInterceptor.preHandle(request, response, new Object());
+        String userId = currentUserArgumentResolver.resolveArgument(
+                currentUserParameter(), null, new ServletWebRequest(request), null);
+
+        // then
+        assertEquals("testuser", userId);
+        VerifiedToken verifiedToken = (VerifiedToken) request.getAttribute(VerifiedToken.ATTRIBUTE);
+        assertNotNull(verifiedToken);
+        assertSame(verifiedToken, SecurityContextHolder.getContext().getAuthentication().getDetails());
+        verify(tokenProvider, times(1)).verify(accessToken);
+        verify(tokenProvider, never()).validateToken(anyString());
+        verify(tokenProvider, never()).isAccessToken(anyString());
+        verify(tokenProvider, never()).getId(anyString());
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰은 401 응답")
+    void invalidToken_Returns401() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auth/profile");
+        request.addHeader("Authorization", "Bearer invalid.token.value");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        jwtAuthenticationFilter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        assertEquals(401, response.getStatus());
+        assertNull(request.getAttribute(VerifiedToken.ATTRIBUTE));
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰으로는 API 를 호출할 수 없다")
+    void refreshToken_Returns401() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auth/profile");
+        request.addHeader("Authorization", "Bearer " + tokenProvider.createRefreshToken("testuser"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        jwtAuthenticationFilter.doFilter(request, response, filterChain);
+
+        // then
+        assertEquals(401, response.getStatus());
+        assertNull(filterChain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private MethodParameter currentUserParameter() throws NoSuchMethodException {
+        return new MethodParameter(
+                CurrentUserTarget.class.getDeclaredMethod("handle", String.class), 0);
+    }
+
+    static class CurrentUserTarget {
+        @SuppressWarnings("unused")
+        void handle(@CurrentUser String userId) {
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.PetFit.backend.global.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import com.PetFit.backend.global.config.properties.JwtSigningProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtKeyRingRefresher 테스트")
+class JwtKeyRingRefresherTest {
+
+    private static final String REDIS_KEY = "JWT:SIGNING_KEYS";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private JwtProperties jwtProperties;
+    private TokenProvider tokenProvider;
+    private SimpleMeterRegistry meterRegistry;
+    private JwtKeyRingRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setKey("test-secret-key-for-testing-purposes-only-very-long-key");
+        jwtProperties.setAccessTokenExpirationMs(900000L);
+        jwtProperties.setRefreshTokenExpirationMs(1209600000L);
+        jwtProperties.setVerificationExpirationMs(900000L);
+
+        JwtSigningProperties signingProperties = new JwtSigningProperties();
+        signingProperties.getRedis().setEnabled(true);
+        signingProperties.getRedis().setMinReloadInterval(Duration.ofMinutes(1));
+        tokenProvider = new TokenProvider(jwtProperties, signingProperties);
+        meterRegistry = new SimpleMeterRegistry();
+        refresher = new JwtKeyRingRefresher(tokenProvider, signingProperties, redisTemplate, listenerContainer,
+                objectMapper, meterRegistry);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("Redis 의 키 설정으로 교체하고, 같은 설정은 다시 적용하지 않는다")
+    void reload_AppliesOnce() throws Exception {
+        // given
+        String legacyToken = tokenProvider.createAccessToken("testuser");
+        when(valueOperations.get(REDIS_KEY)).thenReturn(keyConfig("k1"));
+
+        // when
+        boolean applied = refresher.reload();
+        boolean appliedAgain = refresher.reload();
+
+        // then
+        assertTrue(applied);
+        assertFalse(appliedAgain);
+        assertTrue(tokenProvider.validateToken(legacyToken));
+        assertTrue(tokenProvider.validateToken(tokenProvider.createAccessToken("testuser")));
+        assertEquals(1, meterRegistry.get("jwt.keyring.reloads").tag("result", "applied").counter().count());
+        assertEquals(1, meterRegistry.get("jwt.keyring.reloads").tag("result", "unchanged").counter().count());
+    }
+
+    @Test
+    @DisplayName("잘못된 키 설정은 무시하고 기존 키 링을 유지한다")
+    void reload_InvalidConfig_KeepsCurrentRing() throws Exception {
+        // given
+        String token = tokenProvider.createAccessToken("testuser");
+        when(valueOperations.get(REDIS_KEY)).thenReturn(keyConfig("k1").replace("\"activeKid\":\"k1\"", "\"activeKid\":\"missing\""));
+
+        // when
+        boolean applied = refresher.reload();
+
+        // then
+        assertFalse(applied);
+        assertTrue(tokenProvider.validateToken(token));
+        assertEquals(1, meterRegistry.get("jwt.keyring.reloads").tag("result", "failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("채널 알림을 받으면 다시 읽는다")
+    void onMessage_Reloads() throws Exception {
+        // given
+        when(valueOperations.get(REDIS_KEY)).thenReturn(keyConfig("k1"));
+
+        // when
+        refresher.onMessage(new DefaultMessage("jwt-signing-keys".getBytes(), "reload".getBytes()), null);
+
+        // then
+        verify(listenerContainer).addMessageListener(any(), any(Topic.class));
+        assertEquals(1, meterRegistry.get("jwt.keyring.reloads").tag("result", "applied").counter().count());
+    }
+
+    @Test
+    @DisplayName("알림을 놓친 노드는 모르는 kid 로 다시 읽되, 최소 간격 안에서는 한 번만 읽는다")
+    void unknownKid_ReloadsThrottled() throws Exception {
+        // given
+        String token = new TokenProvider(jwtProperties, objectMapper.readValue(keyConfig("k1"), JwtSigningProperties.class))
+                .createAccessToken("testuser");
+        String forged = new TokenProvider(jwtProperties, objectMapper.readValue(keyConfig("k9"), JwtSigningProperties.class))
+                .createAccessToken("testuser");
+        when(valueOperations.get(REDIS_KEY)).thenReturn(keyConfig("k1"));
+
+        // when
+        boolean forgedValid = tokenProvider.validateToken(forged);
+        boolean forgedValidAgain = tokenProvider.validateToken(forged);
+        boolean valid = tokenProvider.validateToken(token);
+
+        // then
+        assertFalse(forgedValid);
+        assertFalse(forgedValidAgain);
+        assertTrue(valid);
+        verify(valueOperations, times(1)).get(REDIS_KEY);
+    }
+
+    private String keyConfig(String activeKid) throws Exception {
+        return objectMapper.writeValueAsString(Map.of(
+                "algorithm", "HS256",
+                "activeKid", activeKid,
+                "acceptUnkeyedUntil", Instant.now().plus(Duration.ofDays(14)).toString(),
+                "keys", List.of(Map.of(
+                        "kid", activeKid,
+                        "secret", activeKid + "-secret-key-for-testing-purposes-only-very-long-key"
+                ))
+        ));
+    }
+}
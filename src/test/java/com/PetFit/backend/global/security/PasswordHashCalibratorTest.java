@@ -0,0 +1,60 @@
+package com.PetFit.backend.global.security;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.PetFit.backend.global.config.properties.PasswordHashingProperties;
+
+@DisplayName("PasswordHashCalibrator 테스트")
+class PasswordHashCalibratorTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    @DisplayName("목표 시간 안에 드는 가장 높은 강도 선택")
+    void strengthFor_DoublesPerStep() {
+        // given
+        Duration target = Duration.ofMillis(250);
+
+        // when & then
+        assertEquals(10, PasswordHashCalibrator.strengthFor(target, 200 * MILLIS, 10, 14));
+        assertEquals(12, PasswordHashCalibrator.strengthFor(target, 60 * MILLIS, 10, 14));
+        assertEquals(14, PasswordHashCalibrator.strengthFor(target, MILLIS, 10, 14));
+        // 최소 강도만으로 목표를 넘어도 최소 강도는 지킨다
+        assertEquals(10, PasswordHashCalibrator.strengthFor(target, 900 * MILLIS, 10, 14));
+    }
+
+    @Test
+    @DisplayName("접두사 없는 기존 해시와 낮은 강도 해시는 검증되고 재해시 대상")
+    void createEncoder_UpgradesLegacyAndWeakHashes() {
+        // given
+        PasswordEncoder encoder = PasswordHashCalibrator.createEncoder(properties(5));
+        String legacy = new BCryptPasswordEncoder(4).encode("password");
+        String weak = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("password");
+
+        // when
+        String current = encoder.encode("password");
+
+        // then
+        assertTrue(current.startsWith("{bcrypt}$2a$05$"));
+        assertTrue(encoder.matches("password", legacy));
+        assertTrue(encoder.matches("password", weak));
+        assertTrue(encoder.upgradeEncoding(legacy));
+        assertTrue(encoder.upgradeEncoding(weak));
+        assertFalse(encoder.upgradeEncoding(current));
+    }
+
+    private static PasswordHashingProperties properties(int strength) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setStrength(strength);
+        return properties;
+    }
+}
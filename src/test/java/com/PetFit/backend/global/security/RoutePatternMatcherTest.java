@@ -0,0 +1,55 @@
+package com.PetFit.backend.global.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+@DisplayName("RoutePatternMatcher 테스트")
+class RoutePatternMatcherTest {
+
+    private final RoutePatternMatcher<String> matcher = RoutePatternMatcher.<String>builder()
+            .add(HttpMethod.POST, "/api/auth/login", "login")
+            .add(HttpMethod.POST, "/api/email/**", "email")
+            .add(HttpMethod.GET, "/swagger-ui/**", "swagger")
+            .add(HttpMethod.GET, "/api/users/**", "users")
+            .add(HttpMethod.GET, "/api/users/me", "me")
+            .add(HttpMethod.OPTIONS, "/**", "preflight")
+            .build();
+
+    @Test
+    @DisplayName("고정 경로는 메서드까지 일치해야 제외")
+    void literalPath() {
+        assertTrue(matcher.matches(HttpMethod.POST, "/api/auth/login"));
+        assertFalse(matcher.matches(HttpMethod.GET, "/api/auth/login"));
+        assertFalse(matcher.matches(HttpMethod.POST, "/api/auth/logout"));
+    }
+
+    @Test
+    @DisplayName("와일드카드 패턴 일치")
+    void wildcardPath() {
+        assertTrue(matcher.matches(HttpMethod.POST, "/api/email/send"));
+        assertTrue(matcher.matches(HttpMethod.GET, "/swagger-ui/index.html"));
+        assertFalse(matcher.matches(HttpMethod.GET, "/api/email/send"));
+        assertFalse(matcher.matches(HttpMethod.POST, "/api/users/me"));
+    }
+
+    @Test
+    @DisplayName("여러 패턴이 일치하면 더 구체적인 경로의 값")
+    void mostSpecificWins() {
+        assertEquals("me", matcher.match(HttpMethod.GET, "/api/users/me"));
+        assertEquals("users", matcher.match(HttpMethod.GET, "/api/users/other"));
+        assertNull(matcher.match(HttpMethod.DELETE, "/api/users/me"));
+    }
+
+    @Test
+    @DisplayName("루트 와일드카드는 모든 경로에 적용")
+    void rootWildcard() {
+        assertTrue(matcher.matches(HttpMethod.OPTIONS, "/api/users/me"));
+        assertTrue(matcher.matches(HttpMethod.OPTIONS, "/"));
+    }
+}
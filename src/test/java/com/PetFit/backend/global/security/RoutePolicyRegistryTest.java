@@ -0,0 +1,52 @@
+package com.PetFit.backend.global.security;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@DisplayName("RoutePolicyRegistry 테스트")
+class RoutePolicyRegistryTest {
+
+    private final RoutePolicyRegistry routePolicyRegistry = new RoutePolicyRegistry(new RoutePolicyProperties(List.of(
+            new RoutePolicyProperties.Route("/api/auth/login", "POST", RoutePolicy.PUBLIC),
+            new RoutePolicyProperties.Route("/api/auth/logout", "POST", RoutePolicy.BLACKLIST_EXEMPT)
+    )));
+
+    @Test
+    @DisplayName("설정된 경로는 해당 정책, 그 외는 AUTHENTICATED")
+    void classify() {
+        assertEquals(RoutePolicy.PUBLIC, routePolicyRegistry.classify(new MockHttpServletRequest("POST", "/api/auth/login")));
+        assertEquals(RoutePolicy.BLACKLIST_EXEMPT, routePolicyRegistry.classify(new MockHttpServletRequest("POST", "/api/auth/logout")));
+        assertEquals(RoutePolicy.AUTHENTICATED, routePolicyRegistry.classify(new MockHttpServletRequest("GET", "/api/auth/login")));
+    }
+
+    @Test
+    @DisplayName("요청당 한 번만 분류하고 이후에는 request attribute 를 사용")
+    void classify_CachedOnRequest() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        routePolicyRegistry.classify(request);
+
+        // when
+        request.setRequestURI("/api/users/me");
+
+        // then
+        assertTrue(routePolicyRegistry.isPublic(request));
+        assertEquals(RoutePolicy.PUBLIC, request.getAttribute(RoutePolicyRegistry.ATTRIBUTE));
+    }
+
+    @Test
+    @DisplayName("블랙리스트 검사는 AUTHENTICATED 에만 적용")
+    void checksBlacklist() {
+        assertTrue(RoutePolicy.AUTHENTICATED.checksBlacklist());
+        assertFalse(RoutePolicy.BLACKLIST_EXEMPT.checksBlacklist());
+        assertTrue(RoutePolicy.BLACKLIST_EXEMPT.requiresAuthentication());
+        assertFalse(RoutePolicy.PUBLIC.requiresAuthentication());
+    }
+}
@@ -0,0 +1,328 @@
+package com.PetFit.backend.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.PetFit.backend.global.config.properties.JwtSigningProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+@DisplayName("TokenProvider 테스트")
+class TokenProviderTest {
+
+    private JwtProperties jwtProperties;
+    private TokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setKey("test-secret-key-for-testing-purposes-only-very-long-key");
+        jwtProperties.setAccessTokenExpirationMs(900000L);
+        jwtProperties.setRefreshTokenExpirationMs(1209600000L);
+        jwtProperties.setVerificationExpirationMs(900000L);
+
+        tokenProvider = new TokenProvider(jwtProperties);
+    }
+
+    @Test
+    @DisplayName("발급한 액세스 토큰 검증 성공")
+    void verify_AccessToken_Success() {
+        // given
+        String accessToken = tokenProvider.createAccessToken("testuser");
+
+        // when
+        VerifiedToken verifiedToken = tokenProvider.verify(accessToken).orElseThrow();
+
+        // then
+        assertEquals("testuser", verifiedToken.id());
+        assertEquals(accessToken, verifiedToken.token());
+        assertTrue(verifiedToken.isAccessToken());
+        assertFalse(verifiedToken.isRefreshToken());
+    }
+
+    @Test
+    @DisplayName("발급한 토큰마다 22자 jti 가 부여된다")
+    void createToken_HasUniqueJti() {
+        // given
+        VerifiedToken first = tokenProvider.verify(tokenProvider.createAccessToken("testuser")).orElseThrow();
+        VerifiedToken second = tokenProvider.verify(tokenProvider.createRefreshToken("testuser")).orElseThrow();
+
+        // then
+        assertEquals(22, first.jti().length());
+        assertEquals(first.jti(), first.tokenId());
+        assertNotEquals(first.jti(), second.jti());
+    }
+
+    @Test
+    @DisplayName("재발급한 리프레시 토큰은 계보 ID 를 이어받는다")
+    void createRefreshToken_KeepsFamily() {
+        // given
+        VerifiedToken first = tokenProvider.verify(tokenProvider.createRefreshToken("testuser")).orElseThrow();
+
+        // when
+        VerifiedToken reissued = tokenProvider.verify(tokenProvider.createRefreshToken("testuser", first.family()))
+                .orElseThrow();
+
+        // then
+        assertEquals(22, first.family().length());
+        assertEquals(first.family(), reissued.family());
+        assertNotEquals(first.jti(), reissued.jti());
+        assertNull(tokenProvider.verify(tokenProvider.createAccessToken("testuser")).orElseThrow().family());
+    }
+
+    @Test
+    @DisplayName("키 교체 후에는 새 키로 서명된 토큰만 검증된다")
+    void rotateKey_OldTokenRejected() {
+        // given
+        String oldToken = tokenProvider.createAccessToken("testuser");
+
+        // when
+        tokenProvider.rotateKey("rotated-secret-key-for-testing-purposes-only-very-long-key");
+        String newToken = tokenProvider.createAccessToken("testuser");
+
+        // then
+        assertFalse(tokenProvider.validateToken(oldToken));
+        assertTrue(tokenProvider.validateToken(newToken));
+    }
+
+    @Test
+    @DisplayName("ES256 모드는 kid 를 붙여 서명하고 공개 키로 검증된다")
+    void es256_SignsWithKid() throws Exception {
+        // given
+        KeyPair keyPair = ecKeyPair();
+        TokenProvider es256Provider = new TokenProvider(jwtProperties, es256Properties("k1", keyPair));
+
+        // when
+        String accessToken = es256Provider.createAccessToken("testuser");
+
+        // then
+        assertEquals("k1", Jwts.parserBuilder().setSigningKey(keyPair.getPublic()).build()
+                .parseClaimsJws(accessToken).getHeader().getKeyId());
+        assertEquals("testuser", es256Provider.verify(accessToken).orElseThrow().id());
+        assertFalse(tokenProvider.validateToken(accessToken));
+    }
+
+    @Test
+    @DisplayName("ES256 전환 전 발급된 kid 없는 HS256 토큰은 accept-unkeyed-until 까지 검증된다")
+    void es256_AcceptsUnkeyedHmacTokenUntilCutoff() throws Exception {
+        // given
+        String legacyToken = tokenProvider.createAccessToken("testuser");
+        JwtSigningProperties properties = es256Properties("k1", ecKeyPair());
+
+        // when
+        TokenProvider defaultProvider = new TokenProvider(jwtProperties, properties);
+        properties.setAcceptUnkeyedUntil(Instant.now().plus(14, ChronoUnit.DAYS));
+        TokenProvider transitionProvider = new TokenProvider(jwtProperties, properties);
+
+        // then
+        assertFalse(defaultProvider.validateToken(legacyToken));
+        assertTrue(transitionProvider.validateToken(legacyToken));
+    }
+
+    @Test
+    @DisplayName("accept-unkeyed-until 이 지나면 kid 없는 HS256 토큰은 거절된다")
+    void es256_RejectsUnkeyedHmacTokenAfterCutoff() throws Exception {
+        // given
+        String legacyToken = tokenProvider.createAccessToken("testuser");
+        JwtSigningProperties properties = es256Properties("k1", ecKeyPair());
+        properties.setAcceptUnkeyedUntil(Instant.now().plusSeconds(1));
+        TokenProvider es256Provider = new TokenProvider(jwtProperties, properties);
+        assertTrue(es256Provider.validateToken(legacyToken));
+
+        // when
+        Thread.sleep(1100);
+
+        // then
+        // 링을 다시 만들지 않아도 기간이 끝나면 거절
+        assertFalse(es256Provider.validateToken(legacyToken));
+        properties.setAcceptUnkeyedUntil(Instant.now().minus(1, ChronoUnit.DAYS));
+        assertFalse(new TokenProvider(jwtProperties, properties).validateToken(legacyToken));
+    }
+
+    @Test
+    @DisplayName("교체된 키는 토큰이 모두 만료될 때까지 검증과 JWKS 공개를 유지한다")
+    void es256_RetiredKeyPublishedUntilTokensExpire() throws Exception {
+        // given
+        KeyPair oldKeyPair = ecKeyPair();
+        String oldToken = new TokenProvider(jwtProperties, es256Properties("old", oldKeyPair)).createAccessToken("testuser");
+
+        JwtSigningProperties properties = es256Properties("new", ecKeyPair());
+        JwtSigningProperties.Key retired = key("old", oldKeyPair);
+        retired.setPrivateKey(null);
+        retired.setRetiredAt(Instant.now().minus(1, ChronoUnit.DAYS));
+        properties.getKeys().add(retired);
+
+        // when
+        TokenProvider rotatedProvider = new TokenProvider(jwtProperties, properties);
+        JsonNode jwks = new ObjectMapper().readTree(rotatedProvider.getJwkSet().json());
+
+        // then
+        assertTrue(rotatedProvider.validateToken(oldToken));
+        assertEquals(2, jwks.get("keys").size());
+        JsonNode jwk = jwks.get("keys").get(0);
+        assertEquals("EC", jwk.get("kty").asText());
+        assertEquals("P-256", jwk.get("crv").asText());
+        assertEquals("ES256", jwk.get("alg").asText());
+        assertEquals(43, jwk.get("x").asText().length());
+        assertEquals(retired.getRetiredAt().plusMillis(jwtProperties.getRefreshTokenExpirationMs()),
+                rotatedProvider.getJwkSet().validUntil());
+
+        // 토큰 유효기간이 모두 지난 뒤에는 빠진다
+        retired.setRetiredAt(Instant.now().minus(15, ChronoUnit.DAYS));
+        TokenProvider expiredProvider = new TokenProvider(jwtProperties, properties);
+        assertFalse(expiredProvider.validateToken(oldToken));
+        assertEquals(1, new ObjectMapper().readTree(expiredProvider.getJwkSet().json()).get("keys").size());
+    }
+
+    @Test
+    @DisplayName("HS256 모드는 공개할 키가 없다")
+    void hs256_EmptyJwks() {
+        assertEquals("{\"keys\":[]}", tokenProvider.getJwkSet().json());
+        assertNull(tokenProvider.getJwkSet().validUntil());
+    }
+
+    @Test
+    @DisplayName("서명 키의 개인 키와 공개 키가 짝이 맞지 않으면 기동 실패")
+    void es256_MismatchedKeyPair_Fails() throws Exception {
+        // given
+        JwtSigningProperties properties = es256Properties("k1", ecKeyPair());
+        properties.getKeys().get(0).setPublicKey(pem("PUBLIC KEY", ecKeyPair().getPublic().getEncoded()));
+
+        // then
+        assertThrows(IllegalStateException.class, () -> new TokenProvider(jwtProperties, properties));
+    }
+
+    @Test
+    @DisplayName("HS256 키 링은 활성 키의 kid 로 서명하고, 교체 후에도 이전 키의 토큰을 검증한다")
+    void hs256KeyRing_RotatesWithoutInvalidatingTokens() {
+        // given
+        JwtSigningProperties first = hs256Properties("k1", hmacKey("k1", "first"));
+        first.setAcceptUnkeyedUntil(Instant.now().plus(14, ChronoUnit.DAYS));
+        tokenProvider.rotateKeys(first);
+        String legacyToken = new TokenProvider(jwtProperties).createAccessToken("testuser");
+        String firstToken = tokenProvider.createAccessToken("testuser");
+
+        // when
+        JwtSigningProperties.Key retired = hmacKey("k1", "first");
+        retired.setRetiredAt(Instant.now());
+        JwtSigningProperties second = hs256Properties("k2", hmacKey("k2", "second"), retired);
+        second.setAcceptUnkeyedUntil(first.getAcceptUnkeyedUntil());
+        tokenProvider.rotateKeys(second);
+        String secondToken = tokenProvider.createAccessToken("testuser");
+
+        // then
+        assertEquals("k2", Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(
+                secret("second").getBytes(StandardCharsets.UTF_8))).build().parseClaimsJws(secondToken).getHeader().getKeyId());
+        assertTrue(tokenProvider.validateToken(legacyToken));
+        assertTrue(tokenProvider.validateToken(firstToken));
+        assertTrue(tokenProvider.validateToken(secondToken));
+        assertEquals("{\"keys\":[]}", tokenProvider.getJwkSet().json());
+    }
+
+    @Test
+    @DisplayName("잘못된 키 설정으로 교체하면 예외를 던지고 기존 키 링을 유지한다")
+    void rotateKeys_Invalid_KeepsCurrentRing() {
+        // given
+        tokenProvider.rotateKeys(hs256Properties("k1", hmacKey("k1", "first")));
+        String token = tokenProvider.createAccessToken("testuser");
+        JwtSigningProperties.Key weak = new JwtSigningProperties.Key();
+        weak.setKid("k2");
+        weak.setSecret("short");
+
+        // then
+        assertThrows(IllegalStateException.class, () -> tokenProvider.rotateKeys(hs256Properties("k2", weak)));
+        assertThrows(IllegalStateException.class,
+                () -> tokenProvider.rotateKeys(hs256Properties("missing", hmacKey("k1", "first"))));
+        assertTrue(tokenProvider.validateToken(token));
+        assertTrue(tokenProvider.validateToken(tokenProvider.createAccessToken("testuser")));
+    }
+
+    @Test
+    @DisplayName("모르는 kid 는 키 링을 다시 읽은 뒤 한 번 더 찾는다")
+    void unknownKid_ReloadsOnce() {
+        // given
+        TokenProvider issuer = new TokenProvider(jwtProperties, hs256Properties("k2", hmacKey("k2", "second")));
+        String token = issuer.createAccessToken("testuser");
+        tokenProvider.rotateKeys(hs256Properties("k1", hmacKey("k1", "first")));
+        List<String> requestedKids = new ArrayList<>();
+        tokenProvider.setUnknownKidHandler(kid -> {
+            requestedKids.add(kid);
+            tokenProvider.rotateKeys(hs256Properties("k1", hmacKey("k1", "first"), hmacKey("k2", "second")));
+        });
+
+        // when
+        boolean valid = tokenProvider.validateToken(token);
+
+        // then
+        assertTrue(valid);
+        assertEquals(List.of("k2"), requestedKids);
+    }
+
+    private static JwtSigningProperties es256Properties(String activeKid, KeyPair keyPair) {
+        JwtSigningProperties properties = new JwtSigningProperties();
+        properties.setAlgorithm(SignatureAlgorithm.ES256);
+        properties.setActiveKid(activeKid);
+        properties.setKeys(new ArrayList<>(List.of(key(activeKid, keyPair))));
+        return properties;
+    }
+
+    private static JwtSigningProperties hs256Properties(String activeKid, JwtSigningProperties.Key... keys) {
+        JwtSigningProperties properties = new JwtSigningProperties();
+        properties.setActiveKid(activeKid);
+        properties.setKeys(new ArrayList<>(List.of(keys)));
+        return properties;
+    }
+
+    private static JwtSigningProperties.Key hmacKey(String kid, String seed) {
+        JwtSigningProperties.Key key = new JwtSigningProperties.Key();
+        key.setKid(kid);
+        key.setSecret(secret(seed));
+        return key;
+    }
+
+    private static String secret(String seed) {
+        return seed + "-secret-key-for-testing-purposes-only-very-long-key";
+    }
+
+    private static JwtSigningProperties.Key key(String kid, KeyPair keyPair) {
+        JwtSigningProperties.Key key = new JwtSigningProperties.Key();
+        key.setKid(kid);
+        key.setPrivateKey(pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        key.setPublicKey(pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+        return key;
+    }
+
+    private static KeyPair ecKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(der)
+                + "\n-----END " + type + "-----";
+    }
+}
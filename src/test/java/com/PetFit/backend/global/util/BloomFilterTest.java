@@ -0,0 +1,49 @@
+package com.PetFit.backend.global.util;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BloomFilter 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 원소는 항상 포함으로 판단 (false negative 없음)")
+    void put_ThenMightContain() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user-" + i);
+        }
+
+        // then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user-" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("예상 원소 수까지 넣었을 때 오탐률은 목표 수준")
+    void falsePositiveRate_NearTarget() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user-" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertTrue(falsePositives / 100_000.0 < 0.02);
+        assertTrue(filter.estimatedFalsePositiveRate() < 0.02);
+    }
+}
@@ -0,0 +1,68 @@
+package com.PetFit.backend.global.util;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TimeBucketedBloomFilter 테스트")
+class TimeBucketedBloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 원소는 항상 포함으로 판단 (false negative 없음)")
+    void put_ThenMightContain() {
+        // given
+        TimeBucketedBloomFilter filter = new TimeBucketedBloomFilter(1_000, 0.01, Duration.ofDays(14), 15);
+        long now = System.currentTimeMillis();
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            filter.put("token-" + i, now + Duration.ofMinutes(15).toMillis() + i * 60_000L);
+        }
+
+        // then
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(filter.mightContain("token-" + i));
+        }
+        assertEquals(1_000, filter.approximateElementCount());
+    }
+
+    @Test
+    @DisplayName("오탐률은 설정값 근처로 유지")
+    void falsePositiveRate_WithinBound() {
+        // given
+        TimeBucketedBloomFilter filter = new TimeBucketedBloomFilter(10_000, 0.01, Duration.ofDays(1), 2);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("blacklisted-" + i, expiresAt);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("unknown-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertTrue(falsePositives / 100_000.0 < 0.03);
+    }
+
+    @Test
+    @DisplayName("이미 만료된 원소는 넣지 않음")
+    void expiredElement_Ignored() {
+        // given
+        TimeBucketedBloomFilter filter = new TimeBucketedBloomFilter(1_000, 0.01, Duration.ofDays(14), 15);
+
+        // when
+        filter.put("expired", System.currentTimeMillis() - 1_000);
+
+        // then
+        assertFalse(filter.mightContain("expired"));
+    }
+}